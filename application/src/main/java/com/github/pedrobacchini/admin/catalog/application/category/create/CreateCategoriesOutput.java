@@ -0,0 +1,21 @@
+package com.github.pedrobacchini.admin.catalog.application.category.create;
+
+import com.github.pedrobacchini.admin.catalog.domain.validation.handler.Notification;
+
+import java.util.Map;
+
+/**
+ * Outcome of a batch keyed by the position of each command in the request.
+ */
+public record CreateCategoriesOutput(
+    Map<Integer, CreateCategoryOutput> created,
+    Map<Integer, Notification> errors
+) {
+
+    public static CreateCategoriesOutput with(
+        final Map<Integer, CreateCategoryOutput> created,
+        final Map<Integer, Notification> errors) {
+        return new CreateCategoriesOutput(created, errors);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.github.pedrobacchini.admin.catalog.application.category.create;
+
+import com.github.pedrobacchini.admin.catalog.application.UseCase;
+
+import java.util.List;
+
+public abstract class CreateCategoriesUseCase extends UseCase<List<CreateCategoryCommand>, CreateCategoriesOutput> {
+
+}
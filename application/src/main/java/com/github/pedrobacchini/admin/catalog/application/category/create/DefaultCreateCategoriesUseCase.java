@@ -0,0 +1,60 @@
+package com.github.pedrobacchini.admin.catalog.application.category.create;
+
+import com.github.pedrobacchini.admin.catalog.domain.IdGenerator;
+import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryGateway;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+import com.github.pedrobacchini.admin.catalog.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultCreateCategoriesUseCase extends CreateCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final IdGenerator idGenerator;
+
+    public DefaultCreateCategoriesUseCase(final CategoryGateway categoryGateway, final IdGenerator idGenerator) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.idGenerator = Objects.requireNonNull(idGenerator);
+    }
+
+    @Override
+    public CreateCategoriesOutput execute(final List<CreateCategoryCommand> aCommands) {
+        final var errors = new LinkedHashMap<Integer, Notification>();
+        final var validIndexes = new ArrayList<Integer>(aCommands.size());
+        final var validCategories = new ArrayList<Category>(aCommands.size());
+
+        for (var i = 0; i < aCommands.size(); i++) {
+            final var aCommand = aCommands.get(i);
+            final var notification = Notification.create();
+            final var aCategory = Category.newCategory(
+                CategoryID.from(idGenerator.next()),
+                aCommand.name(),
+                aCommand.description(),
+                aCommand.isActive(),
+                aCommand.type());
+            aCategory.validate(notification);
+
+            if (notification.hasError()) {
+                errors.put(i, notification);
+            } else {
+                validIndexes.add(i);
+                validCategories.add(aCategory);
+            }
+        }
+
+        final var created = new LinkedHashMap<Integer, CreateCategoryOutput>();
+        if (!validCategories.isEmpty()) {
+            final var persisted = this.categoryGateway.createAll(validCategories);
+            for (var i = 0; i < persisted.size(); i++) {
+                created.put(validIndexes.get(i), CreateCategoryOutput.from(persisted.get(i)));
+            }
+        }
+
+        return CreateCategoriesOutput.with(created, errors);
+    }
+
+}
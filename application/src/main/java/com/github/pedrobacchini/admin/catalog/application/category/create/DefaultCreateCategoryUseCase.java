@@ -1,7 +1,9 @@
 package com.github.pedrobacchini.admin.catalog.application.category.create;
 
+import com.github.pedrobacchini.admin.catalog.domain.IdGenerator;
 import com.github.pedrobacchini.admin.catalog.domain.category.Category;
 import com.github.pedrobacchini.admin.catalog.domain.category.CategoryGateway;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
 import com.github.pedrobacchini.admin.catalog.domain.validation.handler.Notification;
 import io.vavr.API;
 import io.vavr.control.Either;
@@ -11,9 +13,11 @@ import java.util.Objects;
 public class DefaultCreateCategoryUseCase extends CreateCategoryUseCase {
 
     private final CategoryGateway categoryGateway;
+    private final IdGenerator idGenerator;
 
-    public DefaultCreateCategoryUseCase(final CategoryGateway categoryGateway) {
+    public DefaultCreateCategoryUseCase(final CategoryGateway categoryGateway, final IdGenerator idGenerator) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.idGenerator = Objects.requireNonNull(idGenerator);
     }
 
     @Override
@@ -24,7 +28,8 @@ public class DefaultCreateCategoryUseCase extends CreateCategoryUseCase {
         final var aType = aCommand.type();
 
         final var notification = Notification.create();
-        final var aCategory = Category.newCategory(aName, aDescription, isActive, aType);
+        final var aCategory = Category.newCategory(
+            CategoryID.from(idGenerator.next()), aName, aDescription, isActive, aType);
         aCategory.validate(notification);
 
         return notification.hasError() ? API.Left(notification) : create(aCategory);
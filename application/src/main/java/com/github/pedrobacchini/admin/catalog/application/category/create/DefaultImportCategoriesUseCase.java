@@ -0,0 +1,112 @@
+package com.github.pedrobacchini.admin.catalog.application.category.create;
+
+import com.github.pedrobacchini.admin.catalog.domain.IdGenerator;
+import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryGateway;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+import com.github.pedrobacchini.admin.catalog.domain.validation.handler.Notification;
+import io.vavr.API;
+import io.vavr.control.Either;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Validates records as they are read and hands the valid ones to the gateway {@code chunkSize} at a time, so only one
+ * chunk is ever held in memory. A chunk the gateway rejects counts every one of its lines as failed and the import
+ * goes on with the next one; chunks created before it stay created.
+ */
+public class DefaultImportCategoriesUseCase extends ImportCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final IdGenerator idGenerator;
+    private final int chunkSize;
+    private final int maxErrors;
+
+    public DefaultImportCategoriesUseCase(
+        final CategoryGateway categoryGateway,
+        final IdGenerator idGenerator,
+        final int chunkSize,
+        final int maxErrors) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.idGenerator = Objects.requireNonNull(idGenerator);
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+    }
+
+    @Override
+    public ImportCategoriesOutput execute(final ImportCategoriesCommand aCommand) {
+        final var start = System.nanoTime();
+        final var errors = new LinkedHashMap<Long, Notification>();
+        final var chunk = new ArrayList<Category>(chunkSize);
+        final var chunkLines = new ArrayList<Long>(chunkSize);
+        final var records = aCommand.records();
+        var read = 0L;
+        var imported = 0L;
+        var failed = 0L;
+
+        while (records.hasNext()) {
+            read++;
+            final var aRecord = records.next();
+            final var aCategory = aRecord.parsed().flatMap(this::newCategory);
+            if (aCategory.isLeft()) {
+                failed++;
+                if (errors.size() < maxErrors) {
+                    errors.put(aRecord.line(), aCategory.getLeft());
+                }
+                continue;
+            }
+            chunk.add(aCategory.get());
+            chunkLines.add(aRecord.line());
+            if (chunk.size() == chunkSize) {
+                final var created = create(chunk, chunkLines, errors);
+                imported += created;
+                failed += chunkSize - created;
+            }
+        }
+        final var remaining = chunk.size();
+        final var created = create(chunk, chunkLines, errors);
+        imported += created;
+        failed += remaining - created;
+
+        return ImportCategoriesOutput.with(read, imported, failed, errors, System.nanoTime() - start);
+    }
+
+    /**
+     * Creates the chunk, or reports each of its lines with the gateway failure when it is rejected.
+     *
+     * @return the number of categories created
+     */
+    private int create(final List<Category> chunk, final List<Long> lines, final Map<Long, Notification> errors) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        final var created = API.Try(() -> this.categoryGateway.createAll(List.copyOf(chunk)).size())
+            .onFailure(ex -> {
+                final var notification = Notification.create(ex);
+                lines.stream()
+                    .limit(Math.max(maxErrors - errors.size(), 0))
+                    .forEach(line -> errors.put(line, notification));
+            })
+            .getOrElse(0);
+        chunk.clear();
+        lines.clear();
+        return created;
+    }
+
+    private Either<Notification, Category> newCategory(final CreateCategoryCommand aCommand) {
+        final var notification = Notification.create();
+        final var aCategory = Category.newCategory(
+            CategoryID.from(idGenerator.next()),
+            aCommand.name(),
+            aCommand.description(),
+            aCommand.isActive(),
+            aCommand.type());
+        aCategory.validate(notification);
+        return notification.hasError() ? API.Left(notification) : API.Right(aCategory);
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.github.pedrobacchini.admin.catalog.application.category.create;
+
+import java.util.Iterator;
+
+/**
+ * Records of an import in file order, each one already parsed into a command or into the reason it could not be.
+ * The iterator is consumed once, so records can be read off the request as they are imported.
+ */
+public record ImportCategoriesCommand(Iterator<ImportCategoryRecord> records) {
+
+    public static ImportCategoriesCommand with(final Iterator<ImportCategoryRecord> records) {
+        return new ImportCategoriesCommand(records);
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.github.pedrobacchini.admin.catalog.application.category.create;
+
+import com.github.pedrobacchini.admin.catalog.domain.validation.handler.Notification;
+
+import java.util.Map;
+
+/**
+ * Totals of an import. Errors are keyed by the line of the file the record starts on, counting from 1 and including
+ * blank lines and the CSV header, and only the first ones are kept so a bad file cannot grow the response without
+ * bound; {@code failed} counts all of them.
+ */
+public record ImportCategoriesOutput(
+    long read,
+    long imported,
+    long failed,
+    Map<Long, Notification> errors,
+    long elapsedMillis,
+    long rowsPerSecond
+) {
+
+    public static ImportCategoriesOutput with(
+        final long read,
+        final long imported,
+        final long failed,
+        final Map<Long, Notification> errors,
+        final long elapsedNanos) {
+        final var elapsed = Math.max(elapsedNanos, 1);
+        return new ImportCategoriesOutput(
+            read,
+            imported,
+            failed,
+            errors,
+            elapsed / 1_000_000,
+            (long) (read * 1_000_000_000d / elapsed));
+    }
+
+}
@@ -0,0 +1,7 @@
+package com.github.pedrobacchini.admin.catalog.application.category.create;
+
+import com.github.pedrobacchini.admin.catalog.application.UseCase;
+
+public abstract class ImportCategoriesUseCase extends UseCase<ImportCategoriesCommand, ImportCategoriesOutput> {
+
+}
@@ -0,0 +1,16 @@
+package com.github.pedrobacchini.admin.catalog.application.category.create;
+
+import com.github.pedrobacchini.admin.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+/**
+ * One record of an import: the line of the file it starts on, counting from 1, and either the command it was parsed
+ * into or the reason it could not be.
+ */
+public record ImportCategoryRecord(long line, Either<Notification, CreateCategoryCommand> parsed) {
+
+    public static ImportCategoryRecord with(final long line, final Either<Notification, CreateCategoryCommand> parsed) {
+        return new ImportCategoryRecord(line, parsed);
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.github.pedrobacchini.admin.catalog.application.category.delete;
+
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryGateway;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySearchQuery;
+import com.github.pedrobacchini.admin.catalog.domain.exception.DomainException;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.CountMode;
+import com.github.pedrobacchini.admin.catalog.domain.validation.Error;
+
+import java.util.Objects;
+
+public class DefaultDeleteCategoriesUseCase extends DeleteCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultDeleteCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public DeleteCategoriesOutput execute(final DeleteCategoriesCommand aCommand) {
+        final var bySearch = aCommand.hasTerms() || aCommand.hasFilter();
+        if (aCommand.hasIds() && bySearch) {
+            throw DomainException.with(new Error("'ids' cannot be combined with 'search' or filters"));
+        }
+        if (aCommand.hasIds()) {
+            final var ids = aCommand.ids().stream().distinct().map(CategoryID::from).toList();
+            return DeleteCategoriesOutput.from(this.categoryGateway.deleteAllById(ids));
+        }
+        if (bySearch) {
+            final var aQuery = new CategorySearchQuery(
+                0, 0, aCommand.terms(), null, "asc", null, CountMode.NONE, aCommand.searchMode(), false,
+                aCommand.filter());
+            return DeleteCategoriesOutput.from(this.categoryGateway.deleteAll(aQuery));
+        }
+        throw DomainException.with(new Error("'ids', 'search' or a filter should be informed"));
+    }
+
+}
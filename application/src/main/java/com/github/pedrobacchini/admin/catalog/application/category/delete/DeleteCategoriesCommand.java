@@ -0,0 +1,52 @@
+package com.github.pedrobacchini.admin.catalog.application.category.delete;
+
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryFilter;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.SearchMode;
+
+import java.util.List;
+
+public record DeleteCategoriesCommand(
+    List<String> ids,
+    String terms,
+    SearchMode searchMode,
+    CategoryFilter filter
+) {
+
+    public DeleteCategoriesCommand {
+        if (filter == null) {
+            filter = CategoryFilter.none();
+        }
+    }
+
+    public static DeleteCategoriesCommand with(final List<String> anIds) {
+        return new DeleteCategoriesCommand(anIds, null, null, null);
+    }
+
+    public static DeleteCategoriesCommand with(
+        final List<String> anIds,
+        final String aTerms,
+        final SearchMode aSearchMode) {
+        return new DeleteCategoriesCommand(anIds, aTerms, aSearchMode, null);
+    }
+
+    public static DeleteCategoriesCommand with(
+        final List<String> anIds,
+        final String aTerms,
+        final SearchMode aSearchMode,
+        final CategoryFilter aFilter) {
+        return new DeleteCategoriesCommand(anIds, aTerms, aSearchMode, aFilter);
+    }
+
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+
+    public boolean hasTerms() {
+        return terms != null && !terms.isBlank();
+    }
+
+    public boolean hasFilter() {
+        return !filter.isEmpty();
+    }
+
+}
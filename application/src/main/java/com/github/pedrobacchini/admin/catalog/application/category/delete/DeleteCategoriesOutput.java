@@ -0,0 +1,11 @@
+package com.github.pedrobacchini.admin.catalog.application.category.delete;
+
+public record DeleteCategoriesOutput(
+    long deleted
+) {
+
+    public static DeleteCategoriesOutput from(final long deleted) {
+        return new DeleteCategoriesOutput(deleted);
+    }
+
+}
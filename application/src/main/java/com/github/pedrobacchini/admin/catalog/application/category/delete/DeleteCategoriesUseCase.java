@@ -0,0 +1,7 @@
+package com.github.pedrobacchini.admin.catalog.application.category.delete;
+
+import com.github.pedrobacchini.admin.catalog.application.UseCase;
+
+public abstract class DeleteCategoriesUseCase extends UseCase<DeleteCategoriesCommand, DeleteCategoriesOutput> {
+
+}
@@ -0,0 +1,23 @@
+package com.github.pedrobacchini.admin.catalog.application.category.retrieve.export;
+
+import com.github.pedrobacchini.admin.catalog.application.category.retrieve.list.CaregoryListOutput;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryExportGateway;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySearchQuery;
+
+import java.util.Objects;
+
+public class DefaultExportCategoriesUseCase extends ExportCategoriesUseCase {
+
+    private final CategoryExportGateway categoryExportGateway;
+
+    public DefaultExportCategoriesUseCase(final CategoryExportGateway categoryExportGateway) {
+        this.categoryExportGateway = Objects.requireNonNull(categoryExportGateway);
+    }
+
+    @Override
+    public ExportCategoriesOutput execute(final CategorySearchQuery aQuery) {
+        final var anExport = this.categoryExportGateway.exportListItems(aQuery);
+        return aSink -> anExport.forEach(item -> aSink.accept(CaregoryListOutput.from(item)));
+    }
+
+}
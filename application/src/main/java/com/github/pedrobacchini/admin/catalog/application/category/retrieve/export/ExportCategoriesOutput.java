@@ -0,0 +1,16 @@
+package com.github.pedrobacchini.admin.catalog.application.category.retrieve.export;
+
+import com.github.pedrobacchini.admin.catalog.application.category.retrieve.list.CaregoryListOutput;
+
+import java.util.function.Consumer;
+
+@FunctionalInterface
+public interface ExportCategoriesOutput {
+
+    /**
+     * Reads the export and hands each category to the sink as it arrives.
+     *
+     * @return the number of categories written
+     */
+    long writeTo(Consumer<CaregoryListOutput> aSink);
+}
@@ -0,0 +1,8 @@
+package com.github.pedrobacchini.admin.catalog.application.category.retrieve.export;
+
+import com.github.pedrobacchini.admin.catalog.application.UseCase;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySearchQuery;
+
+public abstract class ExportCategoriesUseCase extends UseCase<CategorySearchQuery, ExportCategoriesOutput> {
+
+}
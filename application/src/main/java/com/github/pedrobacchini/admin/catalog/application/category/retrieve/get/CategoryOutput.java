@@ -14,7 +14,8 @@ public record CategoryOutput(
     CategoryType type,
     Instant createdAt,
     Instant updatedAt,
-    Instant deletedAt
+    Instant deletedAt,
+    long version
 ) {
 
     public static CategoryOutput from(final Category category) {
@@ -26,7 +27,8 @@ public record CategoryOutput(
             category.getType(),
             category.getCreatedAt(),
             category.getUpdatedAt(),
-            category.getDeletedAt()
+            category.getDeletedAt(),
+            category.getVersion()
         );
     }
 }
@@ -1,6 +1,7 @@
 package com.github.pedrobacchini.admin.catalog.application.category.retrieve.list;
 
 import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryListItem;
 import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
 
 import java.time.Instant;
@@ -27,4 +28,16 @@ public record CaregoryListOutput(
         );
     }
 
+    public static CaregoryListOutput from(final CategoryListItem item) {
+        return new CaregoryListOutput(
+            item.id().getValue(),
+            item.name(),
+            item.description(),
+            item.active(),
+            item.type(),
+            item.createdAt(),
+            item.deletedAt()
+        );
+    }
+
 }
@@ -16,7 +16,7 @@ public class DefaultListCategoriesUseCase extends ListCategoriesUseCase {
 
     @Override
     public Pagination<CaregoryListOutput> execute(final CategorySearchQuery aQuery) {
-        return this.categoryGateway.findAll(aQuery)
+        return this.categoryGateway.findAllListItems(aQuery)
             .map(CaregoryListOutput::from);
     }
 
@@ -0,0 +1,14 @@
+package com.github.pedrobacchini.admin.catalog.application.category.retrieve.suggest;
+
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySuggestion;
+
+public record CategorySuggestOutput(
+    String id,
+    String name
+) {
+
+    public static CategorySuggestOutput from(final CategorySuggestion aSuggestion) {
+        return new CategorySuggestOutput(aSuggestion.id().getValue(), aSuggestion.name());
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.github.pedrobacchini.admin.catalog.application.category.retrieve.suggest;
+
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySuggestGateway;
+import com.github.pedrobacchini.admin.catalog.domain.exception.DomainException;
+import com.github.pedrobacchini.admin.catalog.domain.validation.Error;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultSuggestCategoriesUseCase extends SuggestCategoriesUseCase {
+
+    private final CategorySuggestGateway categorySuggestGateway;
+    private final int maxLimit;
+
+    public DefaultSuggestCategoriesUseCase(final CategorySuggestGateway categorySuggestGateway, final int maxLimit) {
+        this.categorySuggestGateway = Objects.requireNonNull(categorySuggestGateway);
+        this.maxLimit = maxLimit;
+    }
+
+    @Override
+    public List<CategorySuggestOutput> execute(final SuggestCategoriesCommand aCommand) {
+        if (aCommand.limit() < 1) {
+            throw DomainException.with(new Error("'limit' should be greater than 0"));
+        }
+        if (aCommand.limit() > maxLimit) {
+            throw DomainException.with(new Error("'limit' should be at most %d".formatted(maxLimit)));
+        }
+        if (aCommand.prefix() == null || aCommand.prefix().isBlank()) {
+            return List.of();
+        }
+        return this.categorySuggestGateway.suggest(aCommand.prefix(), aCommand.limit()).stream()
+            .map(CategorySuggestOutput::from)
+            .toList();
+    }
+
+}
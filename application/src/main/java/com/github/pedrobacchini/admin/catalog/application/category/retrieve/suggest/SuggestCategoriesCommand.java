@@ -0,0 +1,12 @@
+package com.github.pedrobacchini.admin.catalog.application.category.retrieve.suggest;
+
+public record SuggestCategoriesCommand(
+    String prefix,
+    int limit
+) {
+
+    public static SuggestCategoriesCommand with(final String aPrefix, final int aLimit) {
+        return new SuggestCategoriesCommand(aPrefix, aLimit);
+    }
+
+}
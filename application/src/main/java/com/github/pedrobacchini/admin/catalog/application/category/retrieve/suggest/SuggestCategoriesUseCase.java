@@ -0,0 +1,9 @@
+package com.github.pedrobacchini.admin.catalog.application.category.retrieve.suggest;
+
+import com.github.pedrobacchini.admin.catalog.application.UseCase;
+
+import java.util.List;
+
+public abstract class SuggestCategoriesUseCase extends UseCase<SuggestCategoriesCommand, List<CategorySuggestOutput>> {
+
+}
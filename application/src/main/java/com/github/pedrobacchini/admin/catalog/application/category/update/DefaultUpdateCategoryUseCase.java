@@ -4,6 +4,7 @@ import com.github.pedrobacchini.admin.catalog.domain.category.Category;
 import com.github.pedrobacchini.admin.catalog.domain.category.CategoryGateway;
 import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
 import com.github.pedrobacchini.admin.catalog.domain.exception.NotFoundException;
+import com.github.pedrobacchini.admin.catalog.domain.exception.VersionConflictException;
 import com.github.pedrobacchini.admin.catalog.domain.validation.handler.Notification;
 import io.vavr.API;
 import io.vavr.control.Either;
@@ -14,13 +15,38 @@ import java.util.function.Supplier;
 public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
 
     private final CategoryGateway categoryGateway;
+    private final UpdateRetryPolicy retryPolicy;
 
     public DefaultUpdateCategoryUseCase(final CategoryGateway categoryGateway) {
+        this(categoryGateway, UpdateRetryPolicy.defaults());
+    }
+
+    public DefaultUpdateCategoryUseCase(final CategoryGateway categoryGateway, final UpdateRetryPolicy retryPolicy) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.retryPolicy = Objects.requireNonNull(retryPolicy);
     }
 
+    /**
+     * Without an expected version a lost race is retried against the freshly read state. With one the caller's
+     * precondition is already stale, so the conflict is reported right away.
+     */
     @Override
     public Either<Notification, UpdateCategoryOutput> execute(final UpdateCategoryCommand aCommand) {
+        for (var attempt = 1; ; attempt++) {
+            try {
+                return attempt(aCommand);
+            } catch (VersionConflictException ex) {
+                if (aCommand.hasExpectedVersion() || !retryPolicy.canRetry(attempt) || !retryPolicy.backoff(attempt)) {
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    /**
+     * One read-modify-write round. Throws {@link VersionConflictException} when another writer got there first.
+     */
+    protected Either<Notification, UpdateCategoryOutput> attempt(final UpdateCategoryCommand aCommand) {
         final var anId = CategoryID.from(aCommand.id());
         final var aName = aCommand.name();
         final var aDescription = aCommand.description();
@@ -28,6 +54,9 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
 
         final var aCategory = categoryGateway.findById(anId)
             .orElseThrow(notFound(anId));
+        if (aCommand.hasExpectedVersion() && aCommand.expectedVersion() != aCategory.getVersion()) {
+            throw VersionConflictException.with(Category.class, anId, aCommand.expectedVersion());
+        }
         final var notification = Notification.create();
         aCategory.update(aName, aDescription, isActive)
             .validate(notification);
@@ -39,8 +68,11 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
     }
 
     private Either<Notification, UpdateCategoryOutput> update(final Category aCategory) {
-        return API.Try(() -> this.categoryGateway.update(aCategory))
-            .toEither()
+        final var result = API.Try(() -> this.categoryGateway.update(aCategory));
+        if (result.isFailure() && result.getCause() instanceof VersionConflictException conflict) {
+            throw conflict;
+        }
+        return result.toEither()
             .bimap(Notification::create, UpdateCategoryOutput::from);
     }
 
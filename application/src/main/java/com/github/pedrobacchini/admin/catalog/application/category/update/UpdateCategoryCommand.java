@@ -1,10 +1,14 @@
 package com.github.pedrobacchini.admin.catalog.application.category.update;
 
+/**
+ * @param expectedVersion the version the caller last read, or {@code null} to update whatever version is current
+ */
 public record UpdateCategoryCommand(
     String id,
     String name,
     String description,
-    boolean isActive
+    boolean isActive,
+    Long expectedVersion
 ) {
 
     public static UpdateCategoryCommand with(
@@ -12,7 +16,20 @@ public record UpdateCategoryCommand(
         final String aName,
         final String aDescription,
         final boolean isActive) {
-        return new UpdateCategoryCommand(anId, aName, aDescription, isActive);
+        return with(anId, aName, aDescription, isActive, null);
+    }
+
+    public static UpdateCategoryCommand with(
+        final String anId,
+        final String aName,
+        final String aDescription,
+        final boolean isActive,
+        final Long anExpectedVersion) {
+        return new UpdateCategoryCommand(anId, aName, aDescription, isActive, anExpectedVersion);
+    }
+
+    public boolean hasExpectedVersion() {
+        return expectedVersion != null;
     }
 
 }
@@ -3,14 +3,20 @@ package com.github.pedrobacchini.admin.catalog.application.category.update;
 import com.github.pedrobacchini.admin.catalog.domain.category.Category;
 
 public record UpdateCategoryOutput(
-    String id
+    String id,
+    long version
 ) {
 
     public static UpdateCategoryOutput from(final String anId) {
-        return new UpdateCategoryOutput(anId);
+        return from(anId, 0);
     }
+
+    public static UpdateCategoryOutput from(final String anId, final long aVersion) {
+        return new UpdateCategoryOutput(anId, aVersion);
+    }
+
     public static UpdateCategoryOutput from(final Category aCategory) {
-        return new UpdateCategoryOutput(aCategory.getId().toString());
+        return new UpdateCategoryOutput(aCategory.getId().toString(), aCategory.getVersion());
     }
 
 }
@@ -0,0 +1,61 @@
+package com.github.pedrobacchini.admin.catalog.application.category.update;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * How often an update that lost an optimistic race is re-read and re-applied. Waits use full jitter, a random delay
+ * between zero and an exponentially growing cap, so writers that collided once do not collide again in lockstep.
+ */
+public record UpdateRetryPolicy(
+    int maxAttempts,
+    Duration baseDelay,
+    Duration maxDelay
+) {
+
+    public UpdateRetryPolicy {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("'maxAttempts' should be at least 1");
+        }
+    }
+
+    public static UpdateRetryPolicy with(final int maxAttempts, final Duration baseDelay, final Duration maxDelay) {
+        return new UpdateRetryPolicy(maxAttempts, baseDelay, maxDelay);
+    }
+
+    public static UpdateRetryPolicy defaults() {
+        return with(3, Duration.ofMillis(10), Duration.ofMillis(100));
+    }
+
+    public boolean canRetry(final int anAttempt) {
+        return anAttempt < maxAttempts;
+    }
+
+    /**
+     * Sleeps before the attempt following {@code anAttempt}.
+     *
+     * @return false when the thread was interrupted and the caller should give up
+     */
+    public boolean backoff(final int anAttempt) {
+        final var aDelay = delay(anAttempt);
+        if (aDelay.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(aDelay.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * The jittered wait before the attempt following {@code anAttempt}, for callers that must not block.
+     */
+    public Duration delay(final int anAttempt) {
+        final var cap = Math.min(maxDelay.toMillis(), baseDelay.toMillis() << Math.min(anAttempt - 1, 30));
+        return cap <= 0 ? Duration.ZERO : Duration.ofMillis(ThreadLocalRandom.current().nextLong(cap + 1));
+    }
+
+}
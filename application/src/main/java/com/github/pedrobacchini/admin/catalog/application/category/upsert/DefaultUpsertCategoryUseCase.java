@@ -0,0 +1,52 @@
+package com.github.pedrobacchini.admin.catalog.application.category.upsert;
+
+import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryGateway;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+import com.github.pedrobacchini.admin.catalog.domain.validation.Error;
+import com.github.pedrobacchini.admin.catalog.domain.validation.handler.Notification;
+import io.vavr.API;
+import io.vavr.control.Either;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultUpsertCategoryUseCase extends UpsertCategoryUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultUpsertCategoryUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Either<Notification, UpsertCategoryOutput> execute(final UpsertCategoryCommand aCommand) {
+        final var now = Instant.now();
+        final var aCategory = Category.with(
+            CategoryID.from(aCommand.id()),
+            aCommand.name(),
+            aCommand.description(),
+            aCommand.isActive(),
+            aCommand.type(),
+            now,
+            now,
+            aCommand.isActive() ? null : now);
+
+        final var notification = Notification.create();
+        // client chosen ids are stored as binary UUIDs
+        if (!aCategory.getId().isUuid()) {
+            notification.append(new Error("'id' should be a UUID"));
+        }
+        aCategory.validate(notification);
+
+        return notification.hasError() ? API.Left(notification) : upsert(aCategory);
+    }
+
+    private Either<Notification, UpsertCategoryOutput> upsert(final Category aCategory) {
+        return API.Try(() -> this.categoryGateway.upsertAll(List.of(aCategory)))
+            .toEither()
+            .bimap(Notification::create, result -> UpsertCategoryOutput.from(aCategory, result));
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.github.pedrobacchini.admin.catalog.application.category.upsert;
+
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
+
+public record UpsertCategoryCommand(
+    String id,
+    String name,
+    String description,
+    boolean isActive,
+    CategoryType type
+) {
+
+    public static UpsertCategoryCommand with(
+        final String anId,
+        final String aName,
+        final String aDescription,
+        final boolean isActive,
+        final CategoryType aType) {
+        return new UpsertCategoryCommand(anId, aName, aDescription, isActive, aType);
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.github.pedrobacchini.admin.catalog.application.category.upsert;
+
+import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryUpsertResult;
+
+public record UpsertCategoryOutput(
+    String id,
+    int inserted,
+    int updated
+) {
+
+    public static UpsertCategoryOutput from(final Category aCategory, final CategoryUpsertResult aResult) {
+        return new UpsertCategoryOutput(aCategory.getId().getValue(), aResult.inserted(), aResult.updated());
+    }
+
+}
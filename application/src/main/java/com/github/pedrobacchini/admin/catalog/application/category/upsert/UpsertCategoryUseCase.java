@@ -0,0 +1,9 @@
+package com.github.pedrobacchini.admin.catalog.application.category.upsert;
+
+import com.github.pedrobacchini.admin.catalog.application.UseCase;
+import com.github.pedrobacchini.admin.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+public abstract class UpsertCategoryUseCase extends UseCase<UpsertCategoryCommand, Either<Notification, UpsertCategoryOutput>> {
+
+}
@@ -0,0 +1,80 @@
+package com.github.pedrobacchini.admin.catalog.application.category.create;
+
+import com.github.pedrobacchini.admin.catalog.domain.IdGenerator;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryGateway;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CreateCategoriesUseCaseTest {
+
+    @InjectMocks
+    private DefaultCreateCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Spy
+    private IdGenerator idGenerator = IdGenerator.timeOrdered();
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    void givenValidAndInvalidCommands_whenCallsCreateCategories_shouldCreateOnlyValidOnesAndReportErrorsByIndex() {
+        final var expectedErrorMessage = "'name' should not be null";
+        final var aCommands = List.of(
+            CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true, CategoryType.COMMON),
+            CreateCategoryCommand.with(null, "A categoria mais assistida", true, CategoryType.COMMON),
+            CreateCategoryCommand.with("Series", null, true, CategoryType.COMMON));
+
+        when(categoryGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(aCommands);
+
+        assertEquals(Set.of(0, 2), actualOutput.created().keySet());
+        assertEquals(Set.of(1), actualOutput.errors().keySet());
+        assertEquals(expectedErrorMessage, actualOutput.errors().get(1).firstError().get().message());
+
+        verify(categoryGateway, times(1)).createAll(argThat(categories -> categories.size() == 2
+            && Objects.equals("Filmes", categories.get(0).getName())
+            && Objects.equals("Series", categories.get(1).getName())));
+    }
+
+    @Test
+    void givenOnlyInvalidCommands_whenCallsCreateCategories_shouldNotCallGateway() {
+        final var aCommands = List.of(
+            CreateCategoryCommand.with(" ", "A categoria mais assistida", true, CategoryType.COMMON));
+
+        final var actualOutput = useCase.execute(aCommands);
+
+        assertTrue(actualOutput.created().isEmpty());
+        assertEquals(1, actualOutput.errors().size());
+
+        verify(categoryGateway, never()).createAll(any());
+    }
+
+}
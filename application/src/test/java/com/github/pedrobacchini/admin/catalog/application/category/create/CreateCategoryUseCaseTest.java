@@ -1,5 +1,6 @@
 package com.github.pedrobacchini.admin.catalog.application.category.create;
 
+import com.github.pedrobacchini.admin.catalog.domain.IdGenerator;
 import com.github.pedrobacchini.admin.catalog.domain.category.CategoryGateway;
 import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,9 +9,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Objects;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -18,6 +21,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -32,6 +36,9 @@ public class CreateCategoryUseCaseTest {
     @Mock
     private CategoryGateway categoryGateway;
 
+    @Spy
+    private IdGenerator idGenerator = IdGenerator.timeOrdered();
+
     @BeforeEach
     void cleanUp() {
         Mockito.reset(categoryGateway);
@@ -64,6 +71,19 @@ public class CreateCategoryUseCaseTest {
                 && Objects.isNull(aCategory.getDeletedAt())));
     }
 
+    @Test
+    void givenAnIdGenerator_whenCallsCreateCategory_shouldUseItForTheId() {
+        final var expectedId = UUID.fromString("018f2f1e-7a00-7000-8000-000000000001");
+        final var aCommand = CreateCategoryCommand.with("Filmes", null, true, CategoryType.COMMON);
+
+        doReturn(expectedId).when(idGenerator).next();
+        when(categoryGateway.create(any())).thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(aCommand).get();
+
+        assertEquals(expectedId.toString(), actualOutput.id());
+    }
+
     @Test
     void givenAInvalidName_whenCallsCreateCategory_thenShouldReturnDomainException() {
         final String expectedName = null;
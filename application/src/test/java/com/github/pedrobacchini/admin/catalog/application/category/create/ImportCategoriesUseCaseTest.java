@@ -0,0 +1,115 @@
+package com.github.pedrobacchini.admin.catalog.application.category.create;
+
+import com.github.pedrobacchini.admin.catalog.domain.IdGenerator;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryGateway;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
+import com.github.pedrobacchini.admin.catalog.domain.validation.Error;
+import com.github.pedrobacchini.admin.catalog.domain.validation.handler.Notification;
+import io.vavr.API;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ImportCategoriesUseCaseTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Test
+    void givenValidAndInvalidRecords_whenCallsImportCategories_shouldCreateValidOnesInChunksAndReportErrorsByLine() {
+        final var useCase = new DefaultImportCategoriesUseCase(categoryGateway, IdGenerator.random(), 2, 10);
+        // lines as a file with a blank line after the second record would number them
+        final List<Either<Notification, CreateCategoryCommand>> parsed = List.of(
+            API.Right(CreateCategoryCommand.with("Filmes", null, true, CategoryType.COMMON)),
+            API.Right(CreateCategoryCommand.with(null, null, true, CategoryType.COMMON)),
+            API.Right(CreateCategoryCommand.with("Series", null, true, CategoryType.COMMON)),
+            API.Left(Notification.create(new Error("malformed record"))),
+            API.Right(CreateCategoryCommand.with("Documentarios", null, true, CategoryType.COMMON)),
+            API.Right(CreateCategoryCommand.with("Kids", null, false, CategoryType.COMMON)),
+            API.Right(CreateCategoryCommand.with("Animes", null, true, CategoryType.COMMON)));
+        final var records = IntStream.range(0, parsed.size())
+            .mapToObj(i -> ImportCategoryRecord.with(i < 2 ? i + 1 : i + 2, parsed.get(i)))
+            .toList();
+
+        when(categoryGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(ImportCategoriesCommand.with(records.iterator()));
+
+        assertEquals(7, actualOutput.read());
+        assertEquals(5, actualOutput.imported());
+        assertEquals(2, actualOutput.failed());
+        assertEquals(Set.of(2L, 5L), actualOutput.errors().keySet());
+        assertEquals("'name' should not be null", actualOutput.errors().get(2L).firstError().get().message());
+        assertEquals("malformed record", actualOutput.errors().get(5L).firstError().get().message());
+        assertTrue(actualOutput.rowsPerSecond() > 0);
+
+        verify(categoryGateway, times(3)).createAll(any());
+        verify(categoryGateway, times(1)).createAll(argThat(categories -> categories.size() == 2
+            && Objects.equals("Filmes", categories.get(0).getName())
+            && Objects.equals("Series", categories.get(1).getName())));
+        verify(categoryGateway, times(1)).createAll(argThat(categories -> categories.size() == 1
+            && Objects.equals("Animes", categories.get(0).getName())));
+    }
+
+    @Test
+    void givenAChunkTheGatewayRejects_whenCallsImportCategories_shouldReportItsLinesAndGoOn() {
+        final var useCase = new DefaultImportCategoriesUseCase(categoryGateway, IdGenerator.random(), 2, 10);
+        final var names = List.of("Filmes", "Series", "Documentarios", "Kids", "Animes");
+        final var records = IntStream.range(0, names.size())
+            .mapToObj(i -> ImportCategoryRecord.with(i + 1, API.<Notification, CreateCategoryCommand>Right(
+                CreateCategoryCommand.with(names.get(i), null, true, CategoryType.COMMON))))
+            .iterator();
+
+        when(categoryGateway.createAll(any()))
+            .thenAnswer(returnsFirstArg())
+            .thenThrow(new IllegalStateException("Gateway error"))
+            .thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(ImportCategoriesCommand.with(records));
+
+        assertEquals(5, actualOutput.read());
+        assertEquals(3, actualOutput.imported());
+        assertEquals(2, actualOutput.failed());
+        assertEquals(Set.of(3L, 4L), actualOutput.errors().keySet());
+        assertEquals("Gateway error", actualOutput.errors().get(3L).firstError().get().message());
+
+        verify(categoryGateway, times(3)).createAll(any());
+    }
+
+    @Test
+    void givenMoreErrorsThanReported_whenCallsImportCategories_shouldKeepTheFirstOnesAndCountAll() {
+        final var useCase = new DefaultImportCategoriesUseCase(categoryGateway, IdGenerator.random(), 2, 3);
+        final var records = IntStream.range(0, 10)
+            .mapToObj(i -> ImportCategoryRecord.with(i + 2, API.<Notification, CreateCategoryCommand>Right(
+                CreateCategoryCommand.with("", null, true, CategoryType.COMMON))))
+            .iterator();
+
+        final var actualOutput = useCase.execute(ImportCategoriesCommand.with(records));
+
+        assertEquals(10, actualOutput.read());
+        assertEquals(0, actualOutput.imported());
+        assertEquals(10, actualOutput.failed());
+        assertEquals(Set.of(2L, 3L, 4L), actualOutput.errors().keySet());
+
+        verify(categoryGateway, never()).createAll(any());
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.github.pedrobacchini.admin.catalog.application.category.delete;
+
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryFilter;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryGateway;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
+import com.github.pedrobacchini.admin.catalog.domain.exception.DomainException;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.SearchMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class DeleteCategoriesUseCaseTest {
+
+    @InjectMocks
+    private DefaultDeleteCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    void givenIds_whenCallsDeleteCategories_shouldDeleteDistinctIdsAndReturnCount() {
+        final var expectedDeleted = 2L;
+
+        when(categoryGateway.deleteAllById(anyList())).thenReturn(expectedDeleted);
+
+        final var actualOutput = useCase.execute(DeleteCategoriesCommand.with(List.of("123", "456", "123")));
+
+        assertEquals(expectedDeleted, actualOutput.deleted());
+
+        verify(categoryGateway, times(1))
+            .deleteAllById(List.of(CategoryID.from("123"), CategoryID.from("456")));
+        verify(categoryGateway, never()).deleteAll(any());
+    }
+
+    @Test
+    void givenSearchTerms_whenCallsDeleteCategories_shouldDeleteByFilter() {
+        final var expectedTerms = "doc";
+        final var expectedDeleted = 3L;
+
+        when(categoryGateway.deleteAll(any())).thenReturn(expectedDeleted);
+
+        final var actualOutput = useCase.execute(
+            DeleteCategoriesCommand.with(List.of(), expectedTerms, SearchMode.BOOLEAN));
+
+        assertEquals(expectedDeleted, actualOutput.deleted());
+
+        verify(categoryGateway, times(1)).deleteAll(argThat(query ->
+            expectedTerms.equals(query.terms()) && query.searchMode() == SearchMode.BOOLEAN));
+        verify(categoryGateway, never()).deleteAllById(anyList());
+    }
+
+    @Test
+    void givenOnlyAFilter_whenCallsDeleteCategories_shouldDeleteByFilter() {
+        final var expectedFilter = new CategoryFilter(CategoryType.RESTRICT, false, null, null, null, null);
+        final var expectedDeleted = 4L;
+
+        when(categoryGateway.deleteAll(any())).thenReturn(expectedDeleted);
+
+        final var actualOutput = useCase.execute(
+            DeleteCategoriesCommand.with(List.of(), "", SearchMode.LIKE, expectedFilter));
+
+        assertEquals(expectedDeleted, actualOutput.deleted());
+
+        verify(categoryGateway, times(1)).deleteAll(argThat(query -> expectedFilter.equals(query.filter())));
+        verify(categoryGateway, never()).deleteAllById(anyList());
+    }
+
+    @Test
+    void givenIdsAndAFilter_whenCallsDeleteCategories_shouldReturnDomainException() {
+        final var expectedErrorMessage = "'ids' cannot be combined with 'search' or filters";
+        final var aFilter = new CategoryFilter(null, true, null, null, null, null);
+
+        final var actualException = assertThrows(DomainException.class,
+            () -> useCase.execute(DeleteCategoriesCommand.with(List.of("123"), null, null, aFilter)));
+
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+
+        verify(categoryGateway, never()).deleteAllById(anyList());
+        verify(categoryGateway, never()).deleteAll(any());
+    }
+
+    @Test
+    void givenNeitherIdsNorTerms_whenCallsDeleteCategories_shouldReturnDomainException() {
+        final var expectedErrorMessage = "'ids', 'search' or a filter should be informed";
+
+        final var actualException = assertThrows(DomainException.class,
+            () -> useCase.execute(DeleteCategoriesCommand.with(List.of(), " ", null)));
+
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+
+        verify(categoryGateway, never()).deleteAllById(anyList());
+        verify(categoryGateway, never()).deleteAll(any());
+    }
+
+}
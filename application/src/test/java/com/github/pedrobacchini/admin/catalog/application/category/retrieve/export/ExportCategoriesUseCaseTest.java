@@ -0,0 +1,83 @@
+package com.github.pedrobacchini.admin.catalog.application.category.retrieve.export;
+
+import com.github.pedrobacchini.admin.catalog.application.category.retrieve.list.CaregoryListOutput;
+import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryExportGateway;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryListItem;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySearchQuery;
+import com.github.pedrobacchini.admin.catalog.domain.exception.DomainException;
+import com.github.pedrobacchini.admin.catalog.domain.validation.Error;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+
+import static com.github.pedrobacchini.admin.catalog.application.DummyUtil.dummyObject;
+import static com.github.pedrobacchini.admin.catalog.application.DummyUtil.dummyObjects;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ExportCategoriesUseCaseTest {
+
+    @InjectMocks
+    private DefaultExportCategoriesUseCase defaultExportCategoriesUseCase;
+
+    @Mock
+    private CategoryExportGateway categoryExportGateway;
+
+    @Test
+    void givenAValidQuery_whenRunsTheExport_shouldHandEveryCategoryToTheSink() {
+        final var aQuery = dummyObject(CategorySearchQuery.class);
+        final var items = dummyObjects(Category.class, 5).stream()
+            .map(CategoryListItem::from)
+            .toList();
+
+        when(categoryExportGateway.exportListItems(aQuery)).thenReturn(anAction -> {
+            items.forEach(anAction);
+            return items.size();
+        });
+
+        final var written = new ArrayList<CaregoryListOutput>();
+        final var actualCount = defaultExportCategoriesUseCase.execute(aQuery).writeTo(written::add);
+
+        assertEquals(items.size(), actualCount);
+        assertEquals(items.stream().map(CaregoryListOutput::from).toList(), written);
+        verify(categoryExportGateway, times(1)).exportListItems(aQuery);
+    }
+
+    @Test
+    void givenAnInvalidQuery_whenCallsExportCategories_shouldFailBeforeAnythingIsRead() {
+        final var expectedErrorMessage = "'searchMode' must be like to export categories";
+        final var aQuery = dummyObject(CategorySearchQuery.class);
+
+        when(categoryExportGateway.exportListItems(aQuery))
+            .thenThrow(DomainException.with(new Error(expectedErrorMessage)));
+
+        final var actualException = assertThrows(
+            DomainException.class,
+            () -> defaultExportCategoriesUseCase.execute(aQuery));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    void givenNoMatchingRows_whenRunsTheExport_shouldWriteNothing() {
+        final var aQuery = dummyObject(CategorySearchQuery.class);
+
+        when(categoryExportGateway.exportListItems(aQuery)).thenReturn(anAction -> 0);
+
+        final var written = new ArrayList<CaregoryListOutput>();
+
+        assertEquals(0, defaultExportCategoriesUseCase.execute(aQuery).writeTo(written::add));
+        assertTrue(written.isEmpty());
+    }
+
+}
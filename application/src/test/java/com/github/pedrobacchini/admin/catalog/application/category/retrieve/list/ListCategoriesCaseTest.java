@@ -2,6 +2,7 @@ package com.github.pedrobacchini.admin.catalog.application.category.retrieve.lis
 
 import com.github.pedrobacchini.admin.catalog.domain.category.Category;
 import com.github.pedrobacchini.admin.catalog.domain.category.CategoryGateway;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryListItem;
 import com.github.pedrobacchini.admin.catalog.domain.category.CategorySearchQuery;
 import com.github.pedrobacchini.admin.catalog.domain.pagination.Pagination;
 import org.junit.jupiter.api.BeforeEach;
@@ -41,11 +42,13 @@ public class ListCategoriesCaseTest {
     void givenAValidQuery_whenCallsListCategories_thenShouldReturnCategorries() {
 
         final var aQuery = dummyObject(CategorySearchQuery.class);
-        final var categories = dummyObjects(Category.class, 10);
+        final var categories = dummyObjects(Category.class, 10).stream()
+            .map(CategoryListItem::from)
+            .toList();
         final var expectedPagination = new Pagination<>(aQuery.page(), aQuery.perPage(), categories.size(), categories);
         final var expectedResult = expectedPagination.map(CaregoryListOutput::from);
 
-        when(categoryGateway.findAll(aQuery)).thenReturn(expectedPagination);
+        when(categoryGateway.findAllListItems(aQuery)).thenReturn(expectedPagination);
 
         final var actualResult = defaultListCategoriesUseCase.execute(aQuery);
 
@@ -62,9 +65,9 @@ public class ListCategoriesCaseTest {
     @Test
     void givenAInvalidQuery_whenHasNoResults_thenShouldReturnEmptyCategories() {
         final var aQuery = dummyObject(CategorySearchQuery.class);
-        final var pagination = new Pagination<Category>(aQuery.page(), aQuery.perPage(), 0, List.of());
+        final var pagination = new Pagination<CategoryListItem>(aQuery.page(), aQuery.perPage(), 0, List.of());
 
-        when(categoryGateway.findAll(aQuery)).thenReturn(pagination);
+        when(categoryGateway.findAllListItems(aQuery)).thenReturn(pagination);
 
         final var actualResult = defaultListCategoriesUseCase.execute(aQuery);
 
@@ -82,7 +85,7 @@ public class ListCategoriesCaseTest {
         final var expectedErrorMessage = "Gateway error";
         final var aQuery = dummyObject(CategorySearchQuery.class);
 
-        when(categoryGateway.findAll(aQuery)).thenThrow(new IllegalStateException(expectedErrorMessage));
+        when(categoryGateway.findAllListItems(aQuery)).thenThrow(new IllegalStateException(expectedErrorMessage));
 
         final var actualException = assertThrows(
             IllegalStateException.class,
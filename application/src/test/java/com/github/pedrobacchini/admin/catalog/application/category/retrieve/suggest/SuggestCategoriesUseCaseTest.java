@@ -0,0 +1,96 @@
+package com.github.pedrobacchini.admin.catalog.application.category.retrieve.suggest;
+
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySuggestGateway;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySuggestion;
+import com.github.pedrobacchini.admin.catalog.domain.exception.DomainException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SuggestCategoriesUseCaseTest {
+
+    private static final int MAX_LIMIT = 10;
+
+    private DefaultSuggestCategoriesUseCase defaultSuggestCategoriesUseCase;
+
+    @Mock
+    private CategorySuggestGateway categorySuggestGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categorySuggestGateway);
+        defaultSuggestCategoriesUseCase = new DefaultSuggestCategoriesUseCase(categorySuggestGateway, MAX_LIMIT);
+    }
+
+    @Test
+    void givenAValidPrefix_whenCallsSuggestCategories_thenShouldReturnSuggestions() {
+        final var expectedPrefix = "fil";
+        final var expectedLimit = 5;
+        final var suggestions = List.of(
+            new CategorySuggestion(CategoryID.unique(), "Filmes"),
+            new CategorySuggestion(CategoryID.unique(), "Filmes de Acao"));
+        final var expectedResult = suggestions.stream().map(CategorySuggestOutput::from).toList();
+
+        when(categorySuggestGateway.suggest(expectedPrefix, expectedLimit)).thenReturn(suggestions);
+
+        final var actualResult = defaultSuggestCategoriesUseCase.execute(
+            SuggestCategoriesCommand.with(expectedPrefix, expectedLimit));
+
+        verify(categorySuggestGateway, times(1)).suggest(expectedPrefix, expectedLimit);
+
+        assertEquals(expectedResult, actualResult);
+    }
+
+    @Test
+    void givenABlankPrefix_whenCallsSuggestCategories_thenShouldReturnEmptyWithoutCallingGateway() {
+        final var actualResult = defaultSuggestCategoriesUseCase.execute(SuggestCategoriesCommand.with(" ", 10));
+
+        verify(categorySuggestGateway, never()).suggest(anyString(), anyInt());
+
+        assertTrue(actualResult.isEmpty());
+    }
+
+    @Test
+    void givenAnInvalidLimit_whenCallsSuggestCategories_thenShouldReturnDomainException() {
+        final var expectedErrorMessage = "'limit' should be greater than 0";
+
+        final var actualException = assertThrows(
+            DomainException.class,
+            () -> defaultSuggestCategoriesUseCase.execute(SuggestCategoriesCommand.with("fil", 0)));
+
+        verify(categorySuggestGateway, never()).suggest(anyString(), anyInt());
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    void givenALimitAboveTheMaximum_whenCallsSuggestCategories_thenShouldReturnDomainException() {
+        final var expectedErrorMessage = "'limit' should be at most 10";
+
+        final var actualException = assertThrows(
+            DomainException.class,
+            () -> defaultSuggestCategoriesUseCase.execute(SuggestCategoriesCommand.with("fil", MAX_LIMIT + 1)));
+
+        verify(categorySuggestGateway, never()).suggest(anyString(), anyInt());
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+}
@@ -5,14 +5,15 @@ import com.github.pedrobacchini.admin.catalog.domain.category.CategoryGateway;
 import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
 import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
 import com.github.pedrobacchini.admin.catalog.domain.exception.NotFoundException;
+import com.github.pedrobacchini.admin.catalog.domain.exception.VersionConflictException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -33,7 +34,6 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 public class UpdateCategoryUseCaseTest {
 
-    @InjectMocks
     private DefaultUpdateCategoryUseCase useCase;
 
     @Mock
@@ -42,6 +42,9 @@ public class UpdateCategoryUseCaseTest {
     @BeforeEach
     void cleanUp() {
         Mockito.reset(categoryGateway);
+        useCase = new DefaultUpdateCategoryUseCase(
+            categoryGateway,
+            UpdateRetryPolicy.with(3, Duration.ZERO, Duration.ZERO));
     }
 
     @Test
@@ -234,4 +237,70 @@ public class UpdateCategoryUseCaseTest {
                 && Objects.isNull(aUpdatedCategory.getDeletedAt())));
     }
 
+    @Test
+    void givenAConcurrentWriter_whenCallsUpdateCategoryWithoutVersion_shouldRetryAgainstTheFreshState() {
+        final var aCategory = Category.newCategory("Film", null, true, CategoryType.COMMON);
+        final var expectedId = aCategory.getId();
+        final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", null, true);
+
+        when(categoryGateway.findById(eq(expectedId)))
+            .thenAnswer(invocation -> Optional.of(aCategory.clone()));
+        when(categoryGateway.update(any()))
+            .thenThrow(VersionConflictException.with(Category.class, expectedId, 0))
+            .thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(aCommand).get();
+
+        assertEquals(expectedId.getValue(), actualOutput.id());
+        verify(categoryGateway, times(2)).findById(eq(expectedId));
+        verify(categoryGateway, times(2)).update(any());
+    }
+
+    @Test
+    void givenAConcurrentWriter_whenRetriesAreExhausted_shouldThrowVersionConflict() {
+        final var aCategory = Category.newCategory("Film", null, true, CategoryType.COMMON);
+        final var expectedId = aCategory.getId();
+        final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", null, true);
+
+        when(categoryGateway.findById(eq(expectedId)))
+            .thenAnswer(invocation -> Optional.of(aCategory.clone()));
+        when(categoryGateway.update(any()))
+            .thenThrow(VersionConflictException.with(Category.class, expectedId, 0));
+
+        assertThrows(VersionConflictException.class, () -> useCase.execute(aCommand));
+
+        verify(categoryGateway, times(3)).update(any());
+    }
+
+    @Test
+    void givenAStaleExpectedVersion_whenCallsUpdateCategory_shouldThrowVersionConflictWithoutWriting() {
+        final var aCategory = Category.newCategory("Film", null, true, CategoryType.COMMON);
+        final var expectedId = aCategory.getId();
+        final var expectedErrorMessage = "Category with ID %s is no longer at version 7".formatted(expectedId.getValue());
+        final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", null, true, 7L);
+
+        when(categoryGateway.findById(eq(expectedId))).thenReturn(Optional.of(aCategory.clone()));
+
+        final var actualException = assertThrows(VersionConflictException.class, () -> useCase.execute(aCommand));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        verify(categoryGateway, times(1)).findById(eq(expectedId));
+        verify(categoryGateway, never()).update(any());
+    }
+
+    @Test
+    void givenAnExpectedVersion_whenGatewayReportsConflict_shouldNotRetry() {
+        final var aCategory = Category.newCategory("Film", null, true, CategoryType.COMMON);
+        final var expectedId = aCategory.getId();
+        final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", null, true, 0L);
+
+        when(categoryGateway.findById(eq(expectedId))).thenReturn(Optional.of(aCategory.clone()));
+        when(categoryGateway.update(any()))
+            .thenThrow(VersionConflictException.with(Category.class, expectedId, 0));
+
+        assertThrows(VersionConflictException.class, () -> useCase.execute(aCommand));
+
+        verify(categoryGateway, times(1)).update(any());
+    }
+
 }
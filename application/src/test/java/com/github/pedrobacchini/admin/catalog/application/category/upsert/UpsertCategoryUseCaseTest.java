@@ -0,0 +1,123 @@
+package com.github.pedrobacchini.admin.catalog.application.category.upsert;
+
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryGateway;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryUpsertResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class UpsertCategoryUseCaseTest {
+
+    @InjectMocks
+    private DefaultUpsertCategoryUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    void givenAValidCommand_whenCallsUpsertCategory_shouldReturnIdAndCounts() {
+        final var expectedId = CategoryID.unique();
+        final var expectedName = "Filmes";
+        final var expectedDescription = "A categoria mais assistida";
+        final var expectedIsActive = false;
+        final var expectedType = CategoryType.COMMON;
+
+        final var aCommand = UpsertCategoryCommand.with(
+            expectedId.getValue(),
+            expectedName,
+            expectedDescription,
+            expectedIsActive,
+            expectedType);
+
+        when(categoryGateway.upsertAll(any())).thenReturn(CategoryUpsertResult.with(0, 1));
+
+        final var actualOutput = useCase.execute(aCommand).get();
+
+        assertEquals(expectedId.getValue(), actualOutput.id());
+        assertEquals(0, actualOutput.inserted());
+        assertEquals(1, actualOutput.updated());
+
+        verify(categoryGateway, times(1)).upsertAll(argThat(categories -> categories.size() == 1
+            && Objects.equals(expectedId, categories.get(0).getId())
+            && Objects.equals(expectedName, categories.get(0).getName())
+            && Objects.equals(expectedDescription, categories.get(0).getDescription())
+            && Objects.equals(expectedIsActive, categories.get(0).isActive())
+            && Objects.equals(expectedType, categories.get(0).getType())
+            && Objects.nonNull(categories.get(0).getDeletedAt())));
+    }
+
+    @Test
+    void givenACommandWithoutType_whenCallsUpsertCategory_shouldReturnNotification() {
+        final var expectedErrorMessage = "'type' should not be null";
+
+        final var aCommand = UpsertCategoryCommand.with(
+            CategoryID.unique().getValue(),
+            "Filmes",
+            null,
+            true,
+            null);
+
+        final var notification = useCase.execute(aCommand).getLeft();
+
+        assertEquals(1, notification.getErrors().size());
+        assertEquals(expectedErrorMessage, notification.firstError().get().message());
+
+        verify(categoryGateway, never()).upsertAll(any());
+    }
+
+    @Test
+    void givenAValidCommand_whenGatewayThrowsRandomException_shouldReturnNotification() {
+        final var expectedErrorMessage = "Gateway error";
+
+        final var aCommand = UpsertCategoryCommand.with(
+            CategoryID.unique().getValue(),
+            "Filmes",
+            null,
+            true,
+            CategoryType.COMMON);
+
+        when(categoryGateway.upsertAll(any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var notification = useCase.execute(aCommand).getLeft();
+
+        assertEquals(1, notification.getErrors().size());
+        assertEquals(expectedErrorMessage, notification.firstError().get().message());
+    }
+
+    @Test
+    void givenANonUuidId_whenCallsUpsertCategory_shouldReturnNotification() {
+        final var expectedErrorMessage = "'id' should be a UUID";
+
+        final var aCommand = UpsertCategoryCommand.with("123", "Filmes", null, true, CategoryType.COMMON);
+
+        final var notification = useCase.execute(aCommand).getLeft();
+
+        assertEquals(1, notification.getErrors().size());
+        assertEquals(expectedErrorMessage, notification.firstError().get().message());
+
+        verify(categoryGateway, never()).upsertAll(any());
+    }
+
+}
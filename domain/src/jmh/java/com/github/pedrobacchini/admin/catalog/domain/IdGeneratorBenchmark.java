@@ -0,0 +1,43 @@
+package com.github.pedrobacchini.admin.catalog.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generation throughput of random (v4) against time-ordered (v7) ids, with one generator shared by as many threads as
+ * there are cores, the way the application shares its {@link IdGenerator} bean. Run with {@code ./gradlew :domain:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(Threads.MAX)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdGeneratorBenchmark {
+
+    private final IdGenerator random = IdGenerator.random();
+    private final IdGenerator timeOrdered = IdGenerator.timeOrdered();
+
+    @Benchmark
+    public void random(final Blackhole blackhole) {
+        blackhole.consume(random.next());
+    }
+
+    @Benchmark
+    public void timeOrdered(final Blackhole blackhole) {
+        blackhole.consume(timeOrdered.next());
+    }
+
+}
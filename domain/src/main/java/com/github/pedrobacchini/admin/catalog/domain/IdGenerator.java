@@ -0,0 +1,21 @@
+package com.github.pedrobacchini.admin.catalog.domain;
+
+import java.util.UUID;
+
+/**
+ * Source of the UUIDs behind generated identifiers.
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    UUID next();
+
+    static IdGenerator random() {
+        return UUID::randomUUID;
+    }
+
+    static IdGenerator timeOrdered() {
+        return new TimeOrderedIdGenerator();
+    }
+
+}
@@ -15,6 +15,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
     private Instant createdAt;
     private Instant updatedAt;
     private Instant deletedAt;
+    private long version;
 
     private Category(
         final CategoryID anId,
@@ -24,7 +25,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         final CategoryType aType,
         final Instant aCreatedInstant,
         final Instant aUpdatedInstant,
-        final Instant aDeletedInstant) {
+        final Instant aDeletedInstant,
+        final long aVersion) {
         super(anId);
         this.name = aName;
         this.description = aDescription;
@@ -33,6 +35,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         this.createdAt = Objects.requireNonNull(aCreatedInstant, "'createdAt' should not be null");
         this.updatedAt = Objects.requireNonNull(aUpdatedInstant, "'updatedAt' should not be null");
         this.deletedAt = aDeletedInstant;
+        this.version = aVersion;
     }
 
     public static Category newCategory(
@@ -40,10 +43,18 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         final String aDescription,
         final boolean isActive,
         final CategoryType aType) {
-        final var id = CategoryID.unique();
+        return newCategory(CategoryID.unique(), aName, aDescription, isActive, aType);
+    }
+
+    public static Category newCategory(
+        final CategoryID anId,
+        final String aName,
+        final String aDescription,
+        final boolean isActive,
+        final CategoryType aType) {
         final var now = Instant.now();
         final var deletedAt = isActive ? null : now;
-        return new Category(id, aName, aDescription, isActive, aType, now, now, deletedAt);
+        return new Category(anId, aName, aDescription, isActive, aType, now, now, deletedAt, 0);
     }
 
     public static Category with(
@@ -55,7 +66,20 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         final Instant createdAt,
         final Instant updatedAt,
         final Instant deletedAt) {
-        return new Category(id, name, description, active, type, createdAt, updatedAt, deletedAt);
+        return with(id, name, description, active, type, createdAt, updatedAt, deletedAt, 0);
+    }
+
+    public static Category with(
+        final CategoryID id,
+        final String name,
+        final String description,
+        final boolean active,
+        final CategoryType type,
+        final Instant createdAt,
+        final Instant updatedAt,
+        final Instant deletedAt,
+        final long version) {
+        return new Category(id, name, description, active, type, createdAt, updatedAt, deletedAt, version);
     }
 
     @Override
@@ -126,6 +150,13 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         return deletedAt;
     }
 
+    /**
+     * Incremented by every persisted update; writers only succeed against the version they read.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public Category clone() {
         try {
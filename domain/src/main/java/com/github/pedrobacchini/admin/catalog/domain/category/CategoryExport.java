@@ -0,0 +1,14 @@
+package com.github.pedrobacchini.admin.catalog.domain.category;
+
+import java.util.function.Consumer;
+
+@FunctionalInterface
+public interface CategoryExport {
+
+    /**
+     * Hands each row to the action as soon as it is read, in the sort order of the query.
+     *
+     * @return the number of rows exported
+     */
+    long forEach(Consumer<CategoryListItem> anAction);
+}
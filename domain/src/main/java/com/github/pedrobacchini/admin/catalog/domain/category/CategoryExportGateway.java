@@ -0,0 +1,10 @@
+package com.github.pedrobacchini.admin.catalog.domain.category;
+
+public interface CategoryExportGateway {
+
+    /**
+     * Checks the query right away and returns an export that only reads the matching rows once it is run. Paging,
+     * cursor and count mode are ignored: every matching row is exported.
+     */
+    CategoryExport exportListItems(CategorySearchQuery aQuery);
+}
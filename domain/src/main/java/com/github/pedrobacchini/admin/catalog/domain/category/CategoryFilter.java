@@ -0,0 +1,42 @@
+package com.github.pedrobacchini.admin.catalog.domain.category;
+
+import com.github.pedrobacchini.admin.catalog.domain.exception.DomainException;
+import com.github.pedrobacchini.admin.catalog.domain.validation.Error;
+
+import java.time.Instant;
+
+/**
+ * Structured restrictions of a {@link CategorySearchQuery}; {@code null} fields do not restrict. Ranges include their
+ * lower bound and exclude their upper bound.
+ */
+public record CategoryFilter(
+    CategoryType type,
+    Boolean active,
+    Instant createdFrom,
+    Instant createdTo,
+    Instant updatedFrom,
+    Instant updatedTo
+) {
+
+    private static final CategoryFilter NONE = new CategoryFilter(null, null, null, null, null, null);
+
+    public CategoryFilter {
+        checkRange("createdFrom", createdFrom, "createdTo", createdTo);
+        checkRange("updatedFrom", updatedFrom, "updatedTo", updatedTo);
+    }
+
+    public static CategoryFilter none() {
+        return NONE;
+    }
+
+    public boolean isEmpty() {
+        return NONE.equals(this);
+    }
+
+    private static void checkRange(final String fromName, final Instant from, final String toName, final Instant to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw DomainException.with(new Error("'%s' should be before '%s'".formatted(fromName, toName)));
+        }
+    }
+
+}
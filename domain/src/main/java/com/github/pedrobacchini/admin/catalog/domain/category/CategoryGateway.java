@@ -2,17 +2,28 @@ package com.github.pedrobacchini.admin.catalog.domain.category;
 
 import com.github.pedrobacchini.admin.catalog.domain.pagination.Pagination;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CategoryGateway {
 
     Category create(Category aCategory);
 
+    List<Category> createAll(List<Category> aCategories);
+
     void deleteById(CategoryID anId);
 
+    long deleteAllById(List<CategoryID> anIds);
+
+    long deleteAll(CategorySearchQuery aQuery);
+
     Optional<Category> findById(CategoryID anId);
 
     Category update(Category aCategory);
 
+    CategoryUpsertResult upsertAll(List<Category> aCategories);
+
     Pagination<Category> findAll(CategorySearchQuery aQuery);
+
+    Pagination<CategoryListItem> findAllListItems(CategorySearchQuery aQuery);
 }
@@ -2,6 +2,7 @@ package com.github.pedrobacchini.admin.catalog.domain.category;
 
 import com.github.pedrobacchini.admin.catalog.domain.Identifier;
 
+import java.util.Locale;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -18,12 +19,15 @@ public class CategoryID extends Identifier {
         return from(UUID.randomUUID());
     }
 
+    /**
+     * Lowercases the value, so an id given in any case matches the lowercase one it was generated and stored as.
+     */
     public static CategoryID from(final String anId) {
-        return new CategoryID(anId);
+        return new CategoryID(Objects.requireNonNull(anId).toLowerCase(Locale.ROOT));
     }
 
     public static CategoryID from(final UUID anId) {
-        return new CategoryID(anId.toString().toLowerCase());
+        return new CategoryID(anId.toString());
     }
 
     @Override
@@ -31,6 +35,21 @@ public class CategoryID extends Identifier {
         return value;
     }
 
+    /**
+     * Whether the value is in the canonical 36 character UUID form that ids are generated and stored in.
+     */
+    public boolean isUuid() {
+        if (value.length() != 36) {
+            return false;
+        }
+        try {
+            UUID.fromString(value);
+            return true;
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
@@ -0,0 +1,29 @@
+package com.github.pedrobacchini.admin.catalog.domain.category;
+
+import java.time.Instant;
+
+/**
+ * Read model for category listings: the columns a list shows, without the full aggregate.
+ */
+public record CategoryListItem(
+    CategoryID id,
+    String name,
+    String description,
+    boolean active,
+    CategoryType type,
+    Instant createdAt,
+    Instant deletedAt
+) {
+
+    public static CategoryListItem from(final Category aCategory) {
+        return new CategoryListItem(
+            aCategory.getId(),
+            aCategory.getName(),
+            aCategory.getDescription(),
+            aCategory.isActive(),
+            aCategory.getType(),
+            aCategory.getCreatedAt(),
+            aCategory.getDeletedAt());
+    }
+
+}
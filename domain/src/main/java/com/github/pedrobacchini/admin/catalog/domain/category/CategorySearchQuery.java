@@ -1,11 +1,102 @@
 package com.github.pedrobacchini.admin.catalog.domain.category;
 
+import com.github.pedrobacchini.admin.catalog.domain.pagination.CountMode;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.SearchMode;
+
 public record CategorySearchQuery(
     int page,
     int perPage,
     String terms,
     String sort,
-    String direction
+    String direction,
+    String cursor,
+    CountMode count,
+    SearchMode searchMode,
+    boolean includeArchived,
+    CategoryFilter filter
 ) {
 
+    public CategorySearchQuery {
+        if (filter == null) {
+            filter = CategoryFilter.none();
+        }
+        if (count == null) {
+            count = CountMode.EXACT;
+        }
+        if (searchMode == null) {
+            searchMode = SearchMode.LIKE;
+        }
+    }
+
+    public CategorySearchQuery(
+        final int page,
+        final int perPage,
+        final String terms,
+        final String sort,
+        final String direction) {
+        this(page, perPage, terms, sort, direction, null);
+    }
+
+    public CategorySearchQuery(
+        final int page,
+        final int perPage,
+        final String terms,
+        final String sort,
+        final String direction,
+        final String cursor) {
+        this(page, perPage, terms, sort, direction, cursor, CountMode.EXACT);
+    }
+
+    public CategorySearchQuery(
+        final int page,
+        final int perPage,
+        final String terms,
+        final String sort,
+        final String direction,
+        final String cursor,
+        final CountMode count) {
+        this(page, perPage, terms, sort, direction, cursor, count, SearchMode.LIKE);
+    }
+
+    public CategorySearchQuery(
+        final int page,
+        final int perPage,
+        final String terms,
+        final String sort,
+        final String direction,
+        final String cursor,
+        final CountMode count,
+        final SearchMode searchMode) {
+        this(page, perPage, terms, sort, direction, cursor, count, searchMode, false);
+    }
+
+    public CategorySearchQuery(
+        final int page,
+        final int perPage,
+        final String terms,
+        final String sort,
+        final String direction,
+        final String cursor,
+        final CountMode count,
+        final SearchMode searchMode,
+        final boolean includeArchived) {
+        this(page, perPage, terms, sort, direction, cursor, count, searchMode, includeArchived, null);
+    }
+
+    public boolean hasCursor() {
+        return cursor != null && !cursor.isBlank();
+    }
+
+    public boolean hasTerms() {
+        return terms != null && !terms.isBlank();
+    }
+
+    public boolean hasFilter() {
+        return !filter.isEmpty();
+    }
+
+    public boolean hasSort() {
+        return sort != null && !sort.isBlank();
+    }
+
 }
@@ -0,0 +1,8 @@
+package com.github.pedrobacchini.admin.catalog.domain.category;
+
+import java.util.List;
+
+public interface CategorySuggestGateway {
+
+    List<CategorySuggestion> suggest(String aPrefix, int aLimit);
+}
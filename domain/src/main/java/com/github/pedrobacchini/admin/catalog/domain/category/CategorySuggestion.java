@@ -0,0 +1,4 @@
+package com.github.pedrobacchini.admin.catalog.domain.category;
+
+public record CategorySuggestion(CategoryID id, String name) {
+}
@@ -1,7 +1,20 @@
 package com.github.pedrobacchini.admin.catalog.domain.category;
 
+import com.github.pedrobacchini.admin.catalog.domain.exception.DomainException;
+import com.github.pedrobacchini.admin.catalog.domain.validation.Error;
+
+import java.util.Arrays;
+
 public enum CategoryType {
 
     COMMON,
-    RESTRICT
+    RESTRICT;
+
+    public static CategoryType from(final String aType) {
+        return Arrays.stream(values())
+            .filter(type -> type.name().equalsIgnoreCase(aType))
+            .findFirst()
+            .orElseThrow(() -> DomainException.with(new Error("'type' must be one of common or restrict")));
+    }
+
 }
@@ -0,0 +1,16 @@
+package com.github.pedrobacchini.admin.catalog.domain.category;
+
+public record CategoryUpsertResult(
+    int inserted,
+    int updated
+) {
+
+    public static CategoryUpsertResult with(final int inserted, final int updated) {
+        return new CategoryUpsertResult(inserted, updated);
+    }
+
+    public CategoryUpsertResult plus(final CategoryUpsertResult other) {
+        return with(inserted + other.inserted(), updated + other.updated());
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.github.pedrobacchini.admin.catalog.domain.exception;
+
+import com.github.pedrobacchini.admin.catalog.domain.AggregateRoot;
+import com.github.pedrobacchini.admin.catalog.domain.Identifier;
+import com.github.pedrobacchini.admin.catalog.domain.validation.Error;
+
+import java.util.Collections;
+import java.util.List;
+
+public class VersionConflictException extends DomainException {
+
+    private VersionConflictException(final String aMessage, final List<Error> anErrors) {
+        super(aMessage, anErrors);
+    }
+
+    public static VersionConflictException with(
+        final Class<? extends AggregateRoot<?>> anAggregate,
+        final Identifier id,
+        final long expectedVersion) {
+        final var anError = "%s with ID %s is no longer at version %d"
+            .formatted(anAggregate.getSimpleName(), id.getValue(), expectedVersion);
+        return new VersionConflictException(anError, Collections.emptyList());
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.github.pedrobacchini.admin.catalog.domain.pagination;
+
+import com.github.pedrobacchini.admin.catalog.domain.exception.DomainException;
+import com.github.pedrobacchini.admin.catalog.domain.validation.Error;
+
+import java.util.Arrays;
+
+/**
+ * How the {@code total} of a {@link Pagination} is produced.
+ */
+public enum CountMode {
+
+    /** Runs a {@code COUNT(*)} with the same predicate as the page. */
+    EXACT,
+    /** Skips the count; {@code total} is {@link Pagination#UNKNOWN_TOTAL} and only {@code hasNext} is known. */
+    NONE,
+    /** Reuses a recently computed count, which may lag behind concurrent writes. */
+    ESTIMATE;
+
+    public static CountMode from(final String aMode) {
+        return Arrays.stream(values())
+            .filter(mode -> mode.name().equalsIgnoreCase(aMode))
+            .findFirst()
+            .orElseThrow(() -> DomainException.with(new Error("'count' must be one of exact, none or estimate")));
+    }
+
+}
@@ -7,13 +7,33 @@ public record Pagination<T>(
     int currentPage,
     int perPage,
     long total,
-    List<T> items
+    List<T> items,
+    String next,
+    String prev,
+    boolean hasNext,
+    CountMode countMode
 ) {
 
+    public static final long UNKNOWN_TOTAL = -1;
+
+    public Pagination(final int currentPage, final int perPage, final long total, final List<T> items) {
+        this(currentPage, perPage, total, items, null, null);
+    }
+
+    public Pagination(
+        final int currentPage,
+        final int perPage,
+        final long total,
+        final List<T> items,
+        final String next,
+        final String prev) {
+        this(currentPage, perPage, total, items, next, prev, (long) (currentPage + 1) * perPage < total, CountMode.EXACT);
+    }
+
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         final var aNewList = this.items.stream()
             .map(mapper)
             .toList();
-        return new Pagination<>(currentPage, perPage, total, aNewList);
+        return new Pagination<>(currentPage, perPage, total, aNewList, next, prev, hasNext, countMode);
     }
 }
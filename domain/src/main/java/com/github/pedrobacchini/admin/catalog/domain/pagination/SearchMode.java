@@ -0,0 +1,30 @@
+package com.github.pedrobacchini.admin.catalog.domain.pagination;
+
+import com.github.pedrobacchini.admin.catalog.domain.exception.DomainException;
+import com.github.pedrobacchini.admin.catalog.domain.validation.Error;
+
+import java.util.Arrays;
+
+/**
+ * How the {@code terms} of a search are matched.
+ */
+public enum SearchMode {
+
+    /** Case-insensitive substring match; cannot use an index. */
+    LIKE,
+    /** Full-text match requiring every word, each one as a prefix. */
+    BOOLEAN,
+    /** Full-text match ranking rows by natural language relevance. */
+    NATURAL,
+    /** Prefix match of every word served by the embedded search index, falling back to {@link #LIKE} without it. */
+    LUCENE;
+
+    public static SearchMode from(final String aMode) {
+        return Arrays.stream(values())
+            .filter(mode -> mode.name().equalsIgnoreCase(aMode))
+            .findFirst()
+            .orElseThrow(() -> DomainException.with(
+                new Error("'searchMode' must be one of like, boolean, natural or lucene")));
+    }
+
+}
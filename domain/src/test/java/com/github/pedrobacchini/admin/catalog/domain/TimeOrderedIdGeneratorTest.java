@@ -0,0 +1,61 @@
+package com.github.pedrobacchini.admin.catalog.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeOrderedIdGeneratorTest {
+
+    @Test
+    void givenAGenerator_whenCallsNext_shouldReturnAVersion7Uuid() {
+        final var expectedMillis = 1_700_000_000_000L;
+        final var generator = new TimeOrderedIdGenerator(() -> expectedMillis);
+
+        final var actualId = generator.next();
+
+        assertEquals(7, actualId.version());
+        assertEquals(2, actualId.variant());
+        assertEquals(expectedMillis, actualId.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void givenAFrozenClock_whenCallsNextPastTheCounter_shouldKeepIncreasing() {
+        final var generator = new TimeOrderedIdGenerator(() -> 1_700_000_000_000L);
+
+        var previous = generator.next().toString();
+        for (var i = 0; i < 10_000; i++) {
+            final var actual = generator.next().toString();
+            assertTrue(actual.compareTo(previous) > 0, () -> actual + " should sort after " + previous);
+            previous = actual;
+        }
+    }
+
+    @Test
+    void givenAClockGoingBackwards_whenCallsNext_shouldKeepIncreasing() {
+        final var millis = new long[]{1_700_000_000_000L};
+        final var generator = new TimeOrderedIdGenerator(() -> millis[0]);
+
+        final var aFirst = generator.next();
+        millis[0] -= 1_000;
+        final var aSecond = generator.next();
+
+        assertTrue(aSecond.toString().compareTo(aFirst.toString()) > 0);
+    }
+
+    @Test
+    void givenConcurrentCallers_whenCallsNext_shouldNeverRepeatAnId() {
+        final var expectedIds = 200_000;
+        final var generator = new TimeOrderedIdGenerator();
+        final var actualIds = ConcurrentHashMap.<UUID>newKeySet();
+
+        IntStream.range(0, expectedIds).parallel().forEach(i -> actualIds.add(generator.next()));
+
+        assertEquals(expectedIds, actualIds.size());
+    }
+
+}
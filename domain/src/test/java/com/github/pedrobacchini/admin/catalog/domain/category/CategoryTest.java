@@ -295,4 +295,29 @@ class CategoryTest {
         assertNull(actualCategory.getDeletedAt());
     }
 
-}
\ No newline at end of file
+    @Test
+    void givenAPersistedVersion_whenCallUpdate_thenKeepTheVersionForTheConditionalWrite() {
+        final var aCategory = Category.newCategory("Filmes", null, true, CategoryType.COMMON);
+        assertEquals(0, aCategory.getVersion());
+
+        final var aPersisted = Category.with(aCategory.getId(), aCategory.getName(), aCategory.getDescription(),
+            aCategory.isActive(), aCategory.getType(), aCategory.getCreatedAt(), aCategory.getUpdatedAt(),
+            aCategory.getDeletedAt(), 4);
+
+        final var actualCategory = aPersisted.update("Series", null, true);
+
+        assertEquals(4, actualCategory.getVersion());
+    }
+
+    @Test
+    void givenAnUppercaseUuid_whenCallCategoryIDFrom_thenMatchTheLowercaseId() {
+        final var expectedId = CategoryID.unique();
+
+        final var actualId = CategoryID.from(expectedId.getValue().toUpperCase());
+
+        assertEquals(expectedId, actualId);
+        assertEquals(expectedId.getValue(), actualId.getValue());
+        assertTrue(actualId.isUuid());
+    }
+
+}
@@ -1,14 +1,19 @@
 package com.github.pedrobacchini.admin.catalog.infrastructure.api;
 
+import com.github.pedrobacchini.admin.catalog.application.category.create.ImportCategoriesOutput;
+import com.github.pedrobacchini.admin.catalog.application.category.delete.DeleteCategoriesOutput;
 import com.github.pedrobacchini.admin.catalog.domain.pagination.Pagination;
 import com.github.pedrobacchini.admin.catalog.infrastructure.category.model.CategoryListResponse;
 import com.github.pedrobacchini.admin.catalog.infrastructure.category.model.CategoryResponse;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.model.CategorySuggestResponse;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.model.CreateCategoriesResponse;
 import com.github.pedrobacchini.admin.catalog.infrastructure.category.model.CreateCategoryRequest;
 import com.github.pedrobacchini.admin.catalog.infrastructure.category.model.UpdateCategoryRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -18,9 +23,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.List;
 
 @RequestMapping(value = "categories")
 @Tag(name = "Categories")
@@ -38,6 +48,37 @@ public interface CategoryAPI {
     })
     ResponseEntity<?> createCategory(@RequestBody CreateCategoryRequest input);
 
+    @PostMapping(
+        value = "batch",
+        consumes = MediaType.APPLICATION_JSON_VALUE,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create many categories at once")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "All categories created successfully"),
+        @ApiResponse(responseCode = "207", description = "Some categories were created, the others have errors"),
+        @ApiResponse(responseCode = "422", description = "No category was valid"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<CreateCategoriesResponse> createCategories(@RequestBody List<CreateCategoryRequest> input);
+
+    @PostMapping(
+        value = "import",
+        consumes = {"application/x-ndjson", "text/csv"},
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Import categories from an NDJSON or CSV body, read and created as it streams in")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Every record was imported"),
+        @ApiResponse(responseCode = "207", description = "Some records were imported, the others have errors"),
+        @ApiResponse(responseCode = "415", description = "The body is neither NDJSON nor CSV"),
+        @ApiResponse(responseCode = "422", description = "No record was valid"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<ImportCategoriesOutput> importCategories(
+        @RequestHeader(name = HttpHeaders.CONTENT_TYPE) String contentType,
+        InputStream body);
+
     @GetMapping
     @Operation(summary = "List all categories paginated")
     @ApiResponses(value = {
@@ -49,8 +90,48 @@ public interface CategoryAPI {
         @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
         @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
         @RequestParam(name = "search", required = false, defaultValue = "") final String search,
-        @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-        @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction);
+        @RequestParam(name = "sort", required = false, defaultValue = "") final String sort,
+        @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+        @RequestParam(name = "cursor", required = false) final String cursor,
+        @RequestParam(name = "count", required = false, defaultValue = "exact") final String count,
+        @RequestParam(name = "searchMode", required = false, defaultValue = "like") final String searchMode,
+        @RequestParam(name = "includeArchived", required = false, defaultValue = "false") final boolean includeArchived,
+        @RequestParam(name = "type", required = false) final String type,
+        @RequestParam(name = "active", required = false) final Boolean active,
+        @RequestParam(name = "createdFrom", required = false) final String createdFrom,
+        @RequestParam(name = "createdTo", required = false) final String createdTo,
+        @RequestParam(name = "updatedFrom", required = false) final String updatedFrom,
+        @RequestParam(name = "updatedTo", required = false) final String updatedTo);
+
+    @GetMapping(value = "export")
+    @Operation(summary = "Export every category matching the search as NDJSON or CSV, streamed as it is read")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exported successfully"),
+        @ApiResponse(responseCode = "422", description = "A invalid parameter was received"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> exportCategories(
+        @RequestParam(name = "format", required = false, defaultValue = "ndjson") final String format,
+        @RequestParam(name = "search", required = false, defaultValue = "") final String search,
+        @RequestParam(name = "sort", required = false, defaultValue = "") final String sort,
+        @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+        @RequestParam(name = "type", required = false) final String type,
+        @RequestParam(name = "active", required = false) final Boolean active,
+        @RequestParam(name = "createdFrom", required = false) final String createdFrom,
+        @RequestParam(name = "createdTo", required = false) final String createdTo,
+        @RequestParam(name = "updatedFrom", required = false) final String updatedFrom,
+        @RequestParam(name = "updatedTo", required = false) final String updatedTo);
+
+    @GetMapping(value = "suggest", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Suggest categories whose name or one of its words starts with the prefix")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Suggested successfully"),
+        @ApiResponse(responseCode = "422", description = "A limit below 1 or above category.suggest.top-k was received"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    List<CategorySuggestResponse> suggestCategories(
+        @RequestParam(name = "prefix", required = false, defaultValue = "") final String prefix,
+        @RequestParam(name = "limit", required = false, defaultValue = "10") final int limit);
 
     @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get a category by it's identifier")
@@ -59,20 +140,28 @@ public interface CategoryAPI {
         @ApiResponse(responseCode = "404", description = "Category was not found"),
         @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    CategoryResponse getById(@PathVariable(name = "id") String id);
+    ResponseEntity<CategoryResponse> getById(@PathVariable(name = "id") String id);
 
     @PutMapping(
         value = "{id}",
         consumes = MediaType.APPLICATION_JSON_VALUE,
         produces = MediaType.APPLICATION_JSON_VALUE
     )
-    @Operation(summary = "Update a category by it's identifier")
+    @Operation(summary = "Update a category by it's identifier, or create it when upsert is set")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Category updated successfully"),
+        @ApiResponse(responseCode = "201", description = "Category created by an upsert"),
         @ApiResponse(responseCode = "404", description = "Category was not found"),
+        @ApiResponse(responseCode = "412", description = "The category changed since the version in If-Match"),
+        @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
         @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    ResponseEntity<?> updateById(@PathVariable(name = "id") String id, @RequestBody UpdateCategoryRequest input);
+    ResponseEntity<?> updateById(
+        @PathVariable(name = "id") String id,
+        @RequestParam(name = "upsert", required = false, defaultValue = "false") boolean upsert,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+        @RequestBody UpdateCategoryRequest input
+    );
 
     @DeleteMapping(value = "{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -84,4 +173,23 @@ public interface CategoryAPI {
     })
     void deleteById(@PathVariable(name = "id") String id);
 
+    @DeleteMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Delete categories by a list of identifiers or by a search and filters")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Categories deleted successfully"),
+        @ApiResponse(responseCode = "422", description = "Neither ids nor search or filters were sent, or both were"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    DeleteCategoriesOutput deleteCategories(
+        @RequestParam(name = "ids", required = false) List<String> ids,
+        @RequestParam(name = "search", required = false, defaultValue = "") String search,
+        @RequestParam(name = "searchMode", required = false, defaultValue = "like") String searchMode,
+        @RequestParam(name = "type", required = false) String type,
+        @RequestParam(name = "active", required = false) Boolean active,
+        @RequestParam(name = "createdFrom", required = false) String createdFrom,
+        @RequestParam(name = "createdTo", required = false) String createdTo,
+        @RequestParam(name = "updatedFrom", required = false) String updatedFrom,
+        @RequestParam(name = "updatedTo", required = false) String updatedTo
+    );
+
 }
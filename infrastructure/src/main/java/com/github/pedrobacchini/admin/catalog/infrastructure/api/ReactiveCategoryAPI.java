@@ -0,0 +1,145 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.api;
+
+import com.github.pedrobacchini.admin.catalog.domain.pagination.Pagination;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.model.CategoryListResponse;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.model.CategoryResponse;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.model.CreateCategoryRequest;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.model.UpdateCategoryRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The single category endpoints of {@link CategoryAPI} on WebFlux, plus a streamed listing. Served instead of
+ * {@link CategoryAPI} under the {@code reactive} profile; its batch, import, export, suggest, upsert and bulk delete
+ * endpoints answer {@code 501 Not Implemented} here instead of falling through to another route.
+ */
+@RequestMapping(value = "categories")
+@Tag(name = "Categories")
+public interface ReactiveCategoryAPI {
+
+    @PostMapping(
+        consumes = MediaType.APPLICATION_JSON_VALUE,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create a new category")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Created successfully"),
+        @ApiResponse(responseCode = "422", description = "Unprocessable error"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    Mono<ResponseEntity<?>> createCategory(@RequestBody CreateCategoryRequest input);
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "List all categories paginated")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Listed successfully"),
+        @ApiResponse(responseCode = "422", description = "A invalid parameter was received"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    Mono<Pagination<CategoryListResponse>> listCategories(
+        @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
+        @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
+        @RequestParam(name = "search", required = false, defaultValue = "") final String search,
+        @RequestParam(name = "sort", required = false, defaultValue = "") final String sort,
+        @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+        @RequestParam(name = "cursor", required = false) final String cursor,
+        @RequestParam(name = "count", required = false, defaultValue = "exact") final String count,
+        @RequestParam(name = "searchMode", required = false, defaultValue = "like") final String searchMode,
+        @RequestParam(name = "includeArchived", required = false, defaultValue = "false") final boolean includeArchived,
+        @RequestParam(name = "type", required = false) final String type,
+        @RequestParam(name = "active", required = false) final Boolean active,
+        @RequestParam(name = "createdFrom", required = false) final String createdFrom,
+        @RequestParam(name = "createdTo", required = false) final String createdTo,
+        @RequestParam(name = "updatedFrom", required = false) final String updatedFrom,
+        @RequestParam(name = "updatedTo", required = false) final String updatedTo);
+
+    @GetMapping(value = "stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream every matching category as newline delimited JSON, as fast as the client reads")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Streamed successfully"),
+        @ApiResponse(responseCode = "422", description = "A invalid parameter was received"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    Flux<CategoryListResponse> streamCategories(
+        @RequestParam(name = "search", required = false, defaultValue = "") final String search,
+        @RequestParam(name = "sort", required = false, defaultValue = "") final String sort,
+        @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+        @RequestParam(name = "type", required = false) final String type,
+        @RequestParam(name = "active", required = false) final Boolean active,
+        @RequestParam(name = "createdFrom", required = false) final String createdFrom,
+        @RequestParam(name = "createdTo", required = false) final String createdTo,
+        @RequestParam(name = "updatedFrom", required = false) final String updatedFrom,
+        @RequestParam(name = "updatedTo", required = false) final String updatedTo);
+
+    @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get a category by it's identifier")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Category retrieved successfully"),
+        @ApiResponse(responseCode = "404", description = "Category was not found"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    Mono<ResponseEntity<CategoryResponse>> getById(@PathVariable(name = "id") String id);
+
+    @PutMapping(
+        value = "{id}",
+        consumes = MediaType.APPLICATION_JSON_VALUE,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Update a category by it's identifier")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Category updated successfully"),
+        @ApiResponse(responseCode = "404", description = "Category was not found"),
+        @ApiResponse(responseCode = "412", description = "The category changed since the version in If-Match"),
+        @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+        @ApiResponse(responseCode = "501", description = "Upserts are not served by the reactive stack"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    Mono<ResponseEntity<?>> updateById(
+        @PathVariable(name = "id") String id,
+        @RequestParam(name = "upsert", required = false, defaultValue = "false") boolean upsert,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+        @RequestBody UpdateCategoryRequest input
+    );
+
+    @DeleteMapping(value = "{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Delete a category by it's identifier")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Category deleted successfully"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    Mono<Void> deleteById(@PathVariable(name = "id") String id);
+
+    @DeleteMapping
+    @Operation(summary = "Delete categories by ids or search, which the reactive stack does not serve")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "501", description = "Not served by the reactive stack"),
+    })
+    Mono<Void> deleteCategories();
+
+    @RequestMapping(value = {"batch", "import", "export", "suggest"})
+    @Operation(summary = "Batch creation, import, export and suggest, which the reactive stack does not serve")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "501", description = "Not served by the reactive stack"),
+    })
+    Mono<Void> unsupported();
+
+}
@@ -1,59 +1,108 @@
 package com.github.pedrobacchini.admin.catalog.infrastructure.api.controller;
 
+import com.github.pedrobacchini.admin.catalog.application.category.create.CreateCategoriesUseCase;
 import com.github.pedrobacchini.admin.catalog.application.category.create.CreateCategoryCommand;
 import com.github.pedrobacchini.admin.catalog.application.category.create.CreateCategoryOutput;
 import com.github.pedrobacchini.admin.catalog.application.category.create.CreateCategoryUseCase;
+import com.github.pedrobacchini.admin.catalog.application.category.create.ImportCategoriesCommand;
+import com.github.pedrobacchini.admin.catalog.application.category.create.ImportCategoriesOutput;
+import com.github.pedrobacchini.admin.catalog.application.category.create.ImportCategoriesUseCase;
+import com.github.pedrobacchini.admin.catalog.application.category.delete.DeleteCategoriesCommand;
+import com.github.pedrobacchini.admin.catalog.application.category.delete.DeleteCategoriesOutput;
+import com.github.pedrobacchini.admin.catalog.application.category.delete.DeleteCategoriesUseCase;
 import com.github.pedrobacchini.admin.catalog.application.category.delete.DeleteCategoryUseCase;
+import com.github.pedrobacchini.admin.catalog.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.github.pedrobacchini.admin.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.github.pedrobacchini.admin.catalog.application.category.retrieve.list.ListCategoriesUseCase;
+import com.github.pedrobacchini.admin.catalog.application.category.retrieve.suggest.SuggestCategoriesCommand;
+import com.github.pedrobacchini.admin.catalog.application.category.retrieve.suggest.SuggestCategoriesUseCase;
 import com.github.pedrobacchini.admin.catalog.application.category.update.UpdateCategoryCommand;
 import com.github.pedrobacchini.admin.catalog.application.category.update.UpdateCategoryOutput;
 import com.github.pedrobacchini.admin.catalog.application.category.update.UpdateCategoryUseCase;
+import com.github.pedrobacchini.admin.catalog.application.category.upsert.UpsertCategoryCommand;
+import com.github.pedrobacchini.admin.catalog.application.category.upsert.UpsertCategoryOutput;
+import com.github.pedrobacchini.admin.catalog.application.category.upsert.UpsertCategoryUseCase;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryFilter;
 import com.github.pedrobacchini.admin.catalog.domain.category.CategorySearchQuery;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
+import com.github.pedrobacchini.admin.catalog.domain.exception.DomainException;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.CountMode;
 import com.github.pedrobacchini.admin.catalog.domain.pagination.Pagination;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.SearchMode;
+import com.github.pedrobacchini.admin.catalog.domain.validation.Error;
 import com.github.pedrobacchini.admin.catalog.domain.validation.handler.Notification;
 import com.github.pedrobacchini.admin.catalog.infrastructure.api.CategoryAPI;
 import com.github.pedrobacchini.admin.catalog.infrastructure.category.model.CategoryListResponse;
 import com.github.pedrobacchini.admin.catalog.infrastructure.category.model.CategoryResponse;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.model.CategorySuggestResponse;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.model.CreateCategoriesResponse;
 import com.github.pedrobacchini.admin.catalog.infrastructure.category.model.CreateCategoryRequest;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.export.CategoryExportFormat;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.imports.CategoryImportFormat;
 import com.github.pedrobacchini.admin.catalog.infrastructure.category.model.UpdateCategoryRequest;
 import com.github.pedrobacchini.admin.catalog.infrastructure.category.presenters.CategoryApiPresenter;
+import com.github.pedrobacchini.admin.catalog.infrastructure.configuration.datasource.ReplicaRoutingDataSource;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
 @RestController
+@Profile("!reactive")
 public class CategoryController implements CategoryAPI {
 
     private final CreateCategoryUseCase createCategoryUseCase;
+    private final CreateCategoriesUseCase createCategoriesUseCase;
+    private final ImportCategoriesUseCase importCategoriesUseCase;
     private final GetCategoryByIdUseCase getCategoryByIdUseCase;
     private final UpdateCategoryUseCase updateCategoryUseCase;
+    private final UpsertCategoryUseCase upsertCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
+    private final DeleteCategoriesUseCase deleteCategoriesUseCase;
     private final ListCategoriesUseCase listCategoriesUseCase;
+    private final ExportCategoriesUseCase exportCategoriesUseCase;
+    private final SuggestCategoriesUseCase suggestCategoriesUseCase;
 
     public CategoryController(
         final CreateCategoryUseCase createCategoryUseCase,
+        final CreateCategoriesUseCase createCategoriesUseCase,
+        final ImportCategoriesUseCase importCategoriesUseCase,
         final GetCategoryByIdUseCase getCategoryByIdUseCase,
         final UpdateCategoryUseCase updateCategoryUseCase,
+        final UpsertCategoryUseCase upsertCategoryUseCase,
         final DeleteCategoryUseCase deleteCategoryUseCase,
-        final ListCategoriesUseCase listCategoriesUseCase) {
+        final DeleteCategoriesUseCase deleteCategoriesUseCase,
+        final ListCategoriesUseCase listCategoriesUseCase,
+        final ExportCategoriesUseCase exportCategoriesUseCase,
+        final SuggestCategoriesUseCase suggestCategoriesUseCase) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
+        this.createCategoriesUseCase = Objects.requireNonNull(createCategoriesUseCase);
+        this.importCategoriesUseCase = Objects.requireNonNull(importCategoriesUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
+        this.upsertCategoryUseCase = Objects.requireNonNull(upsertCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
+        this.deleteCategoriesUseCase = Objects.requireNonNull(deleteCategoriesUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.exportCategoriesUseCase = Objects.requireNonNull(exportCategoriesUseCase);
+        this.suggestCategoriesUseCase = Objects.requireNonNull(suggestCategoriesUseCase);
     }
 
     @Override
     public ResponseEntity<?> createCategory(final CreateCategoryRequest input) {
-        final var aCommand = CreateCategoryCommand.with(
-            input.name(),
-            input.description(),
-            input.active() != null ? input.active() : true,
-            input.type());
+        final var aCommand = toCommand(input);
 
         final Function<Notification, ResponseEntity<?>> onError = notification ->
             ResponseEntity.unprocessableEntity().body(notification);
@@ -65,42 +114,248 @@ public class CategoryController implements CategoryAPI {
             .fold(onError, onSuccess);
     }
 
+    @Override
+    public ResponseEntity<CreateCategoriesResponse> createCategories(final List<CreateCategoryRequest> input) {
+        final var output = CategoryApiPresenter.present(
+            createCategoriesUseCase.execute(input.stream().map(this::toCommand).toList()));
+
+        if (output.errors().isEmpty()) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(output);
+        }
+        if (output.created().isEmpty()) {
+            return ResponseEntity.unprocessableEntity().body(output);
+        }
+        return ResponseEntity.status(HttpStatus.MULTI_STATUS).body(output);
+    }
+
+    @Override
+    public ResponseEntity<ImportCategoriesOutput> importCategories(final String contentType, final InputStream body) {
+        final var aFormat = CategoryImportFormat.from(MediaType.parseMediaType(contentType));
+        final var output = importCategoriesUseCase.execute(ImportCategoriesCommand.with(aFormat.read(body)));
+
+        if (output.failed() == 0) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(output);
+        }
+        if (output.imported() == 0) {
+            return ResponseEntity.unprocessableEntity().body(output);
+        }
+        return ResponseEntity.status(HttpStatus.MULTI_STATUS).body(output);
+    }
+
     @Override
     public Pagination<CategoryListResponse> listCategories(
         final int page,
         final int perPage,
         final String search,
         final String sort,
-        final String direction) {
-        return listCategoriesUseCase.execute(new CategorySearchQuery(page, perPage, search, sort, direction))
+        final String direction,
+        final String cursor,
+        final String count,
+        final String searchMode,
+        final boolean includeArchived,
+        final String type,
+        final Boolean active,
+        final String createdFrom,
+        final String createdTo,
+        final String updatedFrom,
+        final String updatedTo) {
+        final var aFilter = filter(type, active, createdFrom, createdTo, updatedFrom, updatedTo);
+        final var aQuery = new CategorySearchQuery(
+            page,
+            perPage,
+            search,
+            sort,
+            direction,
+            cursor,
+            CountMode.from(count),
+            SearchMode.from(searchMode),
+            includeArchived,
+            aFilter);
+        return listCategoriesUseCase.execute(aQuery)
             .map(CategoryApiPresenter::present);
     }
 
     @Override
-    public CategoryResponse getById(final String id) {
-        return CategoryApiPresenter.present(getCategoryByIdUseCase.execute(id));
+    public ResponseEntity<StreamingResponseBody> exportCategories(
+        final String format,
+        final String search,
+        final String sort,
+        final String direction,
+        final String type,
+        final Boolean active,
+        final String createdFrom,
+        final String createdTo,
+        final String updatedFrom,
+        final String updatedTo) {
+        final var aFormat = CategoryExportFormat.from(format);
+        final var aFilter = filter(type, active, createdFrom, createdTo, updatedFrom, updatedTo);
+        final var aQuery = new CategorySearchQuery(
+            0,
+            0,
+            search,
+            sort,
+            direction,
+            null,
+            CountMode.NONE,
+            SearchMode.LIKE,
+            false,
+            aFilter);
+
+        // the query is checked here, so a bad parameter still gets a 422 before the body starts
+        final var anExport = exportCategoriesUseCase.execute(aQuery);
+        // the body is written on the streaming executor, so a read-your-writes pin must be carried over to it
+        final var pinned = ReplicaRoutingDataSource.isPrimaryForced();
+
+        return ResponseEntity.ok()
+            .contentType(aFormat.mediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(aFormat.fileName())
+                .build()
+                .toString())
+            .body(out -> {
+                if (pinned) {
+                    ReplicaRoutingDataSource.forcePrimary();
+                }
+                try {
+                    aFormat.write(anExport, out);
+                } finally {
+                    if (pinned) {
+                        ReplicaRoutingDataSource.release();
+                    }
+                }
+            });
     }
 
     @Override
-    public ResponseEntity<?> updateById(final String id, final UpdateCategoryRequest input) {
+    public List<CategorySuggestResponse> suggestCategories(final String prefix, final int limit) {
+        return suggestCategoriesUseCase.execute(SuggestCategoriesCommand.with(prefix, limit)).stream()
+            .map(CategoryApiPresenter::present)
+            .toList();
+    }
+
+    @Override
+    public ResponseEntity<CategoryResponse> getById(final String id) {
+        final var output = getCategoryByIdUseCase.execute(id);
+        return ResponseEntity.ok()
+            .eTag(String.valueOf(output.version()))
+            .body(CategoryApiPresenter.present(output));
+    }
+
+    @Override
+    public ResponseEntity<?> updateById(
+        final String id,
+        final boolean upsert,
+        final String ifMatch,
+        final UpdateCategoryRequest input) {
+        if (upsert) {
+            return upsertById(id, input);
+        }
+
         final var aCommand = UpdateCategoryCommand.with(
             id,
             input.name(),
             input.description(),
-            input.active() != null ? input.active() : true);
+            input.active() != null ? input.active() : true,
+            expectedVersion(ifMatch));
 
         final Function<Notification, ResponseEntity<?>> onError = notification ->
             ResponseEntity.unprocessableEntity().body(notification);
 
-        final Function<UpdateCategoryOutput, ResponseEntity<?>> onSuccess = ResponseEntity::ok;
+        final Function<UpdateCategoryOutput, ResponseEntity<?>> onSuccess = output ->
+            ResponseEntity.ok().eTag(String.valueOf(output.version())).body(output);
 
         return updateCategoryUseCase.execute(aCommand)
             .fold(onError, onSuccess);
     }
 
+    private ResponseEntity<?> upsertById(final String id, final UpdateCategoryRequest input) {
+        final var aCommand = UpsertCategoryCommand.with(
+            id,
+            input.name(),
+            input.description(),
+            input.active() != null ? input.active() : true,
+            input.type());
+
+        final Function<Notification, ResponseEntity<?>> onError = notification ->
+            ResponseEntity.unprocessableEntity().body(notification);
+
+        final Function<UpsertCategoryOutput, ResponseEntity<?>> onSuccess = output -> output.inserted() > 0
+            ? ResponseEntity.created(URI.create("/categories/" + output.id())).body(output)
+            : ResponseEntity.ok(output);
+
+        return upsertCategoryUseCase.execute(aCommand)
+            .fold(onError, onSuccess);
+    }
+
     @Override
     public void deleteById(final String anId) {
         deleteCategoryUseCase.execute(anId);
     }
 
+    @Override
+    public DeleteCategoriesOutput deleteCategories(
+        final List<String> ids,
+        final String search,
+        final String searchMode,
+        final String type,
+        final Boolean active,
+        final String createdFrom,
+        final String createdTo,
+        final String updatedFrom,
+        final String updatedTo) {
+        final var aFilter = filter(type, active, createdFrom, createdTo, updatedFrom, updatedTo);
+        return deleteCategoriesUseCase.execute(
+            DeleteCategoriesCommand.with(ids, search, SearchMode.from(searchMode), aFilter));
+    }
+
+    /**
+     * Reads the category version out of an {@code If-Match} entity tag; an absent header or {@code *} matches any.
+     */
+    static Long expectedVersion(final String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        final var aTag = ifMatch.trim().replaceFirst("^W/", "").replace("\"", "");
+        try {
+            return Long.parseLong(aTag);
+        } catch (NumberFormatException ex) {
+            throw DomainException.with(new Error("'If-Match' should be a category version"));
+        }
+    }
+
+    static Instant instant(final String aName, final String aValue) {
+        if (aValue == null || aValue.isBlank()) {
+            return null;
+        }
+        try {
+            return Instant.parse(aValue.trim());
+        } catch (DateTimeParseException ex) {
+            throw DomainException.with(new Error("'%s' should be an ISO-8601 instant".formatted(aName)));
+        }
+    }
+
+    private static CategoryFilter filter(
+        final String type,
+        final Boolean active,
+        final String createdFrom,
+        final String createdTo,
+        final String updatedFrom,
+        final String updatedTo) {
+        return new CategoryFilter(
+            type != null && !type.isBlank() ? CategoryType.from(type) : null,
+            active,
+            instant("createdFrom", createdFrom),
+            instant("createdTo", createdTo),
+            instant("updatedFrom", updatedFrom),
+            instant("updatedTo", updatedTo));
+    }
+
+    private CreateCategoryCommand toCommand(final CreateCategoryRequest input) {
+        return CreateCategoryCommand.with(
+            input.name(),
+            input.description(),
+            input.active() != null ? input.active() : true,
+            input.type());
+    }
+
 }
@@ -2,6 +2,9 @@ package com.github.pedrobacchini.admin.catalog.infrastructure.api.controller;
 
 import com.github.pedrobacchini.admin.catalog.domain.exception.DomainException;
 import com.github.pedrobacchini.admin.catalog.domain.exception.NotFoundException;
+import com.github.pedrobacchini.admin.catalog.domain.exception.VersionConflictException;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -23,6 +26,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiError.from(ex));
     }
 
+    @ExceptionHandler(value = {VersionConflictException.class})
+    public ResponseEntity<?> handleVersionConflictException(final VersionConflictException ex) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(ApiError.from(ex));
+    }
+
+    @ExceptionHandler(value = {TaskRejectedException.class})
+    public ResponseEntity<?> handleTaskRejectedException(final TaskRejectedException ex) {
+        // every streaming thread is busy, see WebMvcConfig#streamingExecutor
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build();
+    }
+
     record ApiError(String message, List<Error> errors) {
 
         public static ApiError from(final DomainException ex) {
@@ -0,0 +1,218 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.api.controller;
+
+import com.github.pedrobacchini.admin.catalog.application.category.create.CreateCategoryCommand;
+import com.github.pedrobacchini.admin.catalog.application.category.create.CreateCategoryOutput;
+import com.github.pedrobacchini.admin.catalog.application.category.update.UpdateCategoryCommand;
+import com.github.pedrobacchini.admin.catalog.application.category.update.UpdateCategoryOutput;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryFilter;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySearchQuery;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.CountMode;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.Pagination;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.SearchMode;
+import com.github.pedrobacchini.admin.catalog.domain.validation.handler.Notification;
+import com.github.pedrobacchini.admin.catalog.infrastructure.api.ReactiveCategoryAPI;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.model.CategoryListResponse;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.model.CategoryResponse;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.model.CreateCategoryRequest;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.model.UpdateCategoryRequest;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.presenters.CategoryApiPresenter;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive.ReactiveCreateCategoryUseCase;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive.ReactiveDeleteCategoryUseCase;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive.ReactiveGetCategoryByIdUseCase;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive.ReactiveListCategoriesUseCase;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive.ReactiveUpdateCategoryUseCase;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive.StreamCategoriesUseCase;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static com.github.pedrobacchini.admin.catalog.infrastructure.api.controller.CategoryController.expectedVersion;
+import static com.github.pedrobacchini.admin.catalog.infrastructure.api.controller.CategoryController.instant;
+
+@RestController
+@Profile("reactive")
+public class ReactiveCategoryController implements ReactiveCategoryAPI {
+
+    private final ReactiveCreateCategoryUseCase createCategoryUseCase;
+    private final ReactiveGetCategoryByIdUseCase getCategoryByIdUseCase;
+    private final ReactiveUpdateCategoryUseCase updateCategoryUseCase;
+    private final ReactiveDeleteCategoryUseCase deleteCategoryUseCase;
+    private final ReactiveListCategoriesUseCase listCategoriesUseCase;
+    private final StreamCategoriesUseCase streamCategoriesUseCase;
+
+    public ReactiveCategoryController(
+        final ReactiveCreateCategoryUseCase createCategoryUseCase,
+        final ReactiveGetCategoryByIdUseCase getCategoryByIdUseCase,
+        final ReactiveUpdateCategoryUseCase updateCategoryUseCase,
+        final ReactiveDeleteCategoryUseCase deleteCategoryUseCase,
+        final ReactiveListCategoriesUseCase listCategoriesUseCase,
+        final StreamCategoriesUseCase streamCategoriesUseCase) {
+        this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
+        this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
+        this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
+        this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
+        this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.streamCategoriesUseCase = Objects.requireNonNull(streamCategoriesUseCase);
+    }
+
+    @Override
+    public Mono<ResponseEntity<?>> createCategory(final CreateCategoryRequest input) {
+        final var aCommand = CreateCategoryCommand.with(
+            input.name(),
+            input.description(),
+            input.active() != null ? input.active() : true,
+            input.type());
+
+        final Function<Notification, ResponseEntity<?>> onError = notification ->
+            ResponseEntity.unprocessableEntity().body(notification);
+
+        final Function<CreateCategoryOutput, ResponseEntity<?>> onSuccess = output ->
+            ResponseEntity.created(URI.create("/categories/" + output.id())).body(output);
+
+        return createCategoryUseCase.execute(aCommand)
+            .map(result -> result.fold(onError, onSuccess));
+    }
+
+    @Override
+    public Mono<Pagination<CategoryListResponse>> listCategories(
+        final int page,
+        final int perPage,
+        final String search,
+        final String sort,
+        final String direction,
+        final String cursor,
+        final String count,
+        final String searchMode,
+        final boolean includeArchived,
+        final String type,
+        final Boolean active,
+        final String createdFrom,
+        final String createdTo,
+        final String updatedFrom,
+        final String updatedTo) {
+        final var aQuery = new CategorySearchQuery(
+            page,
+            perPage,
+            search,
+            sort,
+            direction,
+            cursor,
+            CountMode.from(count),
+            SearchMode.from(searchMode),
+            includeArchived,
+            filter(type, active, createdFrom, createdTo, updatedFrom, updatedTo));
+        return listCategoriesUseCase.execute(aQuery)
+            .map(pagination -> pagination.map(CategoryApiPresenter::present));
+    }
+
+    @Override
+    public Flux<CategoryListResponse> streamCategories(
+        final String search,
+        final String sort,
+        final String direction,
+        final String type,
+        final Boolean active,
+        final String createdFrom,
+        final String createdTo,
+        final String updatedFrom,
+        final String updatedTo) {
+        final var aQuery = new CategorySearchQuery(
+            0,
+            0,
+            search,
+            sort,
+            direction,
+            null,
+            CountMode.NONE,
+            SearchMode.LIKE,
+            false,
+            filter(type, active, createdFrom, createdTo, updatedFrom, updatedTo));
+        return streamCategoriesUseCase.execute(aQuery)
+            .map(CategoryApiPresenter::present);
+    }
+
+    @Override
+    public Mono<ResponseEntity<CategoryResponse>> getById(final String id) {
+        return getCategoryByIdUseCase.execute(id)
+            .map(output -> ResponseEntity.ok()
+                .eTag(String.valueOf(output.version()))
+                .body(CategoryApiPresenter.present(output)));
+    }
+
+    @Override
+    public Mono<ResponseEntity<?>> updateById(
+        final String id,
+        final boolean upsert,
+        final String ifMatch,
+        final UpdateCategoryRequest input) {
+        if (upsert) {
+            return notImplemented();
+        }
+        final var aCommand = UpdateCategoryCommand.with(
+            id,
+            input.name(),
+            input.description(),
+            input.active() != null ? input.active() : true,
+            expectedVersion(ifMatch));
+
+        final Function<Notification, ResponseEntity<?>> onError = notification ->
+            ResponseEntity.unprocessableEntity().body(notification);
+
+        final Function<UpdateCategoryOutput, ResponseEntity<?>> onSuccess = output ->
+            ResponseEntity.ok().eTag(String.valueOf(output.version())).body(output);
+
+        return updateCategoryUseCase.execute(aCommand)
+            .map(result -> result.fold(onError, onSuccess));
+    }
+
+    @Override
+    public Mono<Void> deleteById(final String anId) {
+        return deleteCategoryUseCase.execute(anId);
+    }
+
+    @Override
+    public Mono<Void> deleteCategories() {
+        return notImplemented();
+    }
+
+    @Override
+    public Mono<Void> unsupported() {
+        return notImplemented();
+    }
+
+    /**
+     * The reactive gateway has no batch, bulk or streaming-import counterpart, so these fail loudly instead of being
+     * routed to the single category endpoints.
+     */
+    private static <T> Mono<T> notImplemented() {
+        return Mono.error(new ResponseStatusException(
+            HttpStatus.NOT_IMPLEMENTED,
+            "Not served by the reactive profile, run without it to use this endpoint"));
+    }
+
+    private static CategoryFilter filter(
+        final String type,
+        final Boolean active,
+        final String createdFrom,
+        final String createdTo,
+        final String updatedFrom,
+        final String updatedTo) {
+        return new CategoryFilter(
+            type != null && !type.isBlank() ? CategoryType.from(type) : null,
+            active,
+            instant("createdFrom", createdFrom),
+            instant("createdTo", createdTo),
+            instant("updatedFrom", updatedFrom),
+            instant("updatedTo", updatedTo));
+    }
+
+}
@@ -0,0 +1,176 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryGateway;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryListItem;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySearchQuery;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryUpsertResult;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.Pagination;
+import com.github.pedrobacchini.admin.catalog.infrastructure.configuration.datasource.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Serves {@link #findById} from memory in front of {@link CategoryMySQLGateway}; every other read goes straight
+ * through. An entry lives at most {@code category.cache.expire-after-write}, and the first hit after
+ * {@code category.cache.refresh-after-write} reloads it in the background while the cached state is still served, so
+ * hot categories never expire under load. Writes evict the categories they touch both when they are made and once
+ * they commit, through {@link CategoryChangeListener}, so a read racing the transaction cannot put the old state back.
+ * Categories are mutable, so the cache keeps a copy nobody else holds and every hit hands out a copy of its own.
+ * Hits, misses and evictions are published as the {@code cache.*} metrics of the {@code categories} cache.
+ * <p>
+ * Off unless {@code category.cache.enabled} is set: instances do not evict each other's entries, so a category changed
+ * on another instance is served stale for up to {@code expire-after-write}. Loads always read the primary, so a
+ * lagging replica never fills the cache, and requests pinned to the primary to see their own writes bypass it.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "category.cache.enabled", havingValue = "true")
+public class CachingCategoryGateway implements CategoryGateway, CategoryChangeListener {
+
+    public static final String CACHE_NAME = "categories";
+
+    private final CategoryMySQLGateway categoryGateway;
+    private final LoadingCache<CategoryID, Category> cache;
+
+    public CachingCategoryGateway(
+        final CategoryMySQLGateway categoryGateway,
+        @Value("${category.cache.maximum-size:100000}") final long maximumSize,
+        @Value("${category.cache.expire-after-write:5m}") final Duration expireAfterWrite,
+        @Value("${category.cache.refresh-after-write:1m}") final Duration refreshAfterWrite,
+        final ObjectProvider<MeterRegistry> meterRegistry) {
+        this.categoryGateway = requireNonNull(categoryGateway);
+        // a missing category loads as null, which is not cached, so a later create is seen right away
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .refreshAfterWrite(refreshAfterWrite)
+            .recordStats()
+            .build(this::loadFromPrimary);
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+    }
+
+    /**
+     * Keys are {@link CategoryID}s, which {@link CategoryID#from(String)} lowercases, so an id asked for in any case
+     * hits and evicts the same entry.
+     */
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        if (ReplicaRoutingDataSource.isPrimaryForced()) {
+            return categoryGateway.findById(anId);
+        }
+        return Optional.ofNullable(cache.get(anId)).map(Category::clone);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        try {
+            return categoryGateway.create(aCategory);
+        } finally {
+            cache.invalidate(aCategory.getId());
+        }
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        try {
+            return categoryGateway.createAll(aCategories);
+        } finally {
+            cache.invalidateAll(aCategories.stream().map(Category::getId).toList());
+        }
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        try {
+            return categoryGateway.update(aCategory);
+        } finally {
+            // also on a version conflict, so the retry reads the winning version instead of the cached one
+            cache.invalidate(aCategory.getId());
+        }
+    }
+
+    @Override
+    public CategoryUpsertResult upsertAll(final List<Category> aCategories) {
+        try {
+            return categoryGateway.upsertAll(aCategories);
+        } finally {
+            cache.invalidateAll(aCategories.stream().map(Category::getId).toList());
+        }
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        try {
+            categoryGateway.deleteById(anId);
+        } finally {
+            cache.invalidate(anId);
+        }
+    }
+
+    @Override
+    public long deleteAllById(final List<CategoryID> anIds) {
+        try {
+            return categoryGateway.deleteAllById(anIds);
+        } finally {
+            cache.invalidateAll(anIds);
+        }
+    }
+
+    /**
+     * The deleted ids are only known to the gateway, which evicts them through {@link #onDeleted} as each chunk
+     * commits.
+     */
+    @Override
+    public long deleteAll(final CategorySearchQuery aQuery) {
+        return categoryGateway.deleteAll(aQuery);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return categoryGateway.findAll(aQuery);
+    }
+
+    @Override
+    public Pagination<CategoryListItem> findAllListItems(final CategorySearchQuery aQuery) {
+        return categoryGateway.findAllListItems(aQuery);
+    }
+
+    @Override
+    public void onSaved(final Category aCategory) {
+        cache.invalidate(aCategory.getId());
+    }
+
+    @Override
+    public void onDeleted(final CategoryID anId) {
+        cache.invalidate(anId);
+    }
+
+    /**
+     * Also runs on Caffeine's refresh threads, which carry no routing state of their own.
+     */
+    private Category loadFromPrimary(final CategoryID anId) {
+        ReplicaRoutingDataSource.forcePrimary();
+        try {
+            return categoryGateway.findById(anId).orElse(null);
+        } finally {
+            // findById skips the cache on pinned threads, so the pin was not there before the load
+            ReplicaRoutingDataSource.release();
+        }
+    }
+
+}
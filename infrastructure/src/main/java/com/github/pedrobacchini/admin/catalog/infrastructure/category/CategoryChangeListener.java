@@ -0,0 +1,26 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category;
+
+import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+
+import java.util.List;
+
+/**
+ * Side structures derived from the {@code category} table, notified by {@link CategoryMySQLGateway} once a write is
+ * committed. Batch writes notify once per committed chunk.
+ */
+public interface CategoryChangeListener {
+
+    void onSaved(Category aCategory);
+
+    void onDeleted(CategoryID anId);
+
+    default void onSavedAll(final List<Category> aCategories) {
+        aCategories.forEach(this::onSaved);
+    }
+
+    default void onDeletedAll(final List<CategoryID> anIds) {
+        anIds.forEach(this::onDeleted);
+    }
+
+}
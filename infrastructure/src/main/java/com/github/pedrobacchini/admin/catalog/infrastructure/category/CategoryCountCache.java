@@ -0,0 +1,32 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers {@code COUNT(*)} results per search predicate for a fixed time-to-live, so repeated listings with
+ * {@code count=estimate} only pay for the count once per window. Concurrent callers of an expired key wait for a
+ * single count instead of each running their own, and past {@code MAX_ENTRIES} only the least used keys are dropped,
+ * so a client varying its search cannot flush the counts of everyone else.
+ */
+public class CategoryCountCache {
+
+    private static final int MAX_ENTRIES = 1_000;
+
+    private final Cache<String, Long> entries;
+
+    public CategoryCountCache(final long ttlMillis) {
+        this.entries = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfterWrite(Duration.ofMillis(ttlMillis))
+            .build();
+    }
+
+    public long get(final String aKey, final LongSupplier aLoader) {
+        return entries.get(aKey, key -> aLoader.getAsLong());
+    }
+
+}
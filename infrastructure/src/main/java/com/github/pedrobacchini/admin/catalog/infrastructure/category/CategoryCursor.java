@@ -0,0 +1,75 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category;
+
+import com.github.pedrobacchini.admin.catalog.domain.exception.DomainException;
+import com.github.pedrobacchini.admin.catalog.domain.validation.Error;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
+import com.github.pedrobacchini.admin.catalog.infrastructure.configuration.json.Json;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Opaque keyset position: the (sort column, id) pair of a boundary row plus the sort it was taken from.
+ */
+public record CategoryCursor(
+    String sort,
+    String direction,
+    String value,
+    String id,
+    boolean backward
+) {
+
+    public static CategoryCursor of(
+        final String aSort,
+        final Sort.Direction aDirection,
+        final CategoryJpaEntity anEntity,
+        final boolean backward) {
+        final var aValue = PropertyAccessorFactory.forBeanPropertyAccess(anEntity).getPropertyValue(aSort);
+        return of(aSort, aDirection, aValue, anEntity.getId(), backward);
+    }
+
+    public static CategoryCursor of(
+        final String aSort,
+        final Sort.Direction aDirection,
+        final Object aValue,
+        final String anId,
+        final boolean backward) {
+        return new CategoryCursor(
+            aSort,
+            aDirection.name(),
+            aValue != null ? aValue.toString() : null,
+            anId,
+            backward);
+    }
+
+    public static CategoryCursor decode(final String aCursor) {
+        final CategoryCursor cursor;
+        try {
+            final var json = new String(Base64.getUrlDecoder().decode(aCursor), StandardCharsets.UTF_8);
+            cursor = Json.readValue(json, CategoryCursor.class);
+        } catch (final RuntimeException ex) {
+            throw invalid();
+        }
+        if (cursor == null || cursor.sort() == null || cursor.direction() == null || cursor.id() == null) {
+            throw invalid();
+        }
+        return cursor;
+    }
+
+    public String encode() {
+        final var json = Json.writeValueAsString(this);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean matches(final String aSort, final Sort.Direction aDirection) {
+        return Objects.equals(sort, aSort) && direction.equals(aDirection.name());
+    }
+
+    private static DomainException invalid() {
+        return DomainException.with(new Error("'cursor' is invalid"));
+    }
+
+}
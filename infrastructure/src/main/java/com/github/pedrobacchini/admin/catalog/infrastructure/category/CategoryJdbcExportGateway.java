@@ -0,0 +1,97 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category;
+
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryExport;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryExportGateway;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySearchQuery;
+import com.github.pedrobacchini.admin.catalog.domain.exception.DomainException;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.SearchMode;
+import com.github.pedrobacchini.admin.catalog.domain.validation.Error;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.github.pedrobacchini.admin.catalog.infrastructure.category.CategoryJdbcGateway.LIST_ITEM_COLUMNS;
+import static com.github.pedrobacchini.admin.catalog.infrastructure.category.CategoryJdbcGateway.LIST_ITEM_ROW;
+import static com.github.pedrobacchini.admin.catalog.infrastructure.category.CategoryMySQLGateway.DEFAULT_SORT;
+import static com.github.pedrobacchini.admin.catalog.infrastructure.category.CategoryMySQLGateway.SORT_COLUMNS;
+import static com.github.pedrobacchini.admin.catalog.infrastructure.category.CategoryMySQLGateway.readOnly;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Exports a whole listing in one forward-only statement read {@code category.jdbc.fetch-size} rows at a time, so
+ * Connector/J streams it row by row and no more than one row is held at once, whatever the table size. Takes the
+ * same terms, filters and sort as the LIKE listing; full-text, lucene and archive searches are rejected.
+ * <p>
+ * The flat memory is paid for in connections: the statement and its read-only transaction hold one pooled connection
+ * for as long as the client takes to read the body, and a streaming result set cannot share it meanwhile. Concurrent
+ * exports are capped by {@code category.export.threads} and cut off by {@code spring.mvc.async.request-timeout}.
+ */
+@Component
+public class CategoryJdbcExportGateway implements CategoryExportGateway {
+
+    private static final String SELECT = "SELECT %s FROM category%s ORDER BY %s";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final int fetchSize;
+
+    public CategoryJdbcExportGateway(
+        final JdbcTemplate jdbcTemplate,
+        final PlatformTransactionManager transactionManager,
+        @Value("${category.jdbc.fetch-size:1000}") final int fetchSize) {
+        this.jdbcTemplate = requireNonNull(jdbcTemplate);
+        this.readOnlyTransactionTemplate = readOnly(transactionManager);
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public CategoryExport exportListItems(final CategorySearchQuery aQuery) {
+        if (aQuery.searchMode() != SearchMode.LIKE) {
+            throw DomainException.with(new Error("'searchMode' must be like to export categories"));
+        }
+        if (aQuery.includeArchived()) {
+            throw DomainException.with(new Error("'includeArchived' is not supported when exporting categories"));
+        }
+        final var column = SORT_COLUMNS.get(aQuery.hasSort() ? aQuery.sort() : DEFAULT_SORT);
+        if (column == null) {
+            throw DomainException.with(new Error("'sort' must be one of id, name, createdAt or updatedAt"));
+        }
+        final var direction = Sort.Direction.fromString(aQuery.direction()).name();
+        final var order = "id".equals(column) ? "id " + direction : column + " " + direction + ", id " + direction;
+        final var where = CategoryWhere.of(aQuery, Timestamp::from);
+        final var statementSql = NamedParameterUtils.parseSqlStatement(
+            SELECT.formatted(LIST_ITEM_COLUMNS, where.sql(), order));
+        final var params = new MapSqlParameterSource(where.params());
+        final var sql = NamedParameterUtils.substituteNamedParameters(statementSql, params);
+        final var values = NamedParameterUtils.buildValueArray(statementSql, params, null);
+
+        return anAction -> requireNonNull(readOnlyTransactionTemplate.execute(status -> {
+            final var rows = new AtomicLong();
+            jdbcTemplate.query(
+                connection -> {
+                    final var statement = connection.prepareStatement(
+                        sql,
+                        ResultSet.TYPE_FORWARD_ONLY,
+                        ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(fetchSize);
+                    for (var i = 0; i < values.length; i++) {
+                        statement.setObject(i + 1, values[i]);
+                    }
+                    return statement;
+                },
+                (RowCallbackHandler) rs -> anAction.accept(LIST_ITEM_ROW.mapRow(rs, (int) rows.getAndIncrement())));
+            return rows.get();
+        }));
+    }
+
+}
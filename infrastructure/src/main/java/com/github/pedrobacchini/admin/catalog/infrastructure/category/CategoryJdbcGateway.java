@@ -0,0 +1,227 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category;
+
+import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryListItem;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySearchQuery;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.Pagination;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.SearchMode;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.persistence.CategoryArchiveRepository;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.persistence.CategoryIdConverter;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.persistence.CategoryJdbcRepository;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.persistence.CategoryRepository;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.search.CategoryLuceneIndex;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link CategoryMySQLGateway} whose point lookups and LIKE listings skip Hibernate: fixed SQL fragments go straight
+ * to {@link JdbcTemplate} and rows are mapped from the {@link ResultSet} into aggregates or list items, with no
+ * Criteria translation, entity instance or persistence context entry per row. Full-text, lucene and archive searches
+ * and every write still go through the JPA gateway. Enabled by the {@code jdbc} profile.
+ */
+@Service
+@Profile("jdbc")
+public class CategoryJdbcGateway extends CategoryMySQLGateway {
+
+    private static final String COLUMNS = "id, name, description, active, type, created_at, updated_at, deleted_at, version";
+    static final String LIST_ITEM_COLUMNS = "id, name, description, active, type, created_at, updated_at, deleted_at";
+
+    private static final String FIND_BY_ID = "SELECT " + COLUMNS + " FROM category WHERE id = ?";
+    private static final String SELECT = "SELECT %s FROM category%s ORDER BY %s LIMIT :limit OFFSET :offset";
+    private static final String COUNT = "SELECT COUNT(*) FROM category%s";
+
+    private static final RowMapper<Category> CATEGORY_ROW = (rs, rowNum) -> Category.with(
+        CategoryID.from(CategoryIdConverter.fromBytes(rs.getBytes("id"))),
+        rs.getString("name"),
+        rs.getString("description"),
+        rs.getBoolean("active"),
+        CategoryType.values()[rs.getInt("type")],
+        instant(rs, "created_at"),
+        instant(rs, "updated_at"),
+        instant(rs, "deleted_at"),
+        rs.getLong("version"));
+
+    static final RowMapper<CategoryListItem> LIST_ITEM_ROW = (rs, rowNum) -> new CategoryListItem(
+        CategoryID.from(CategoryIdConverter.fromBytes(rs.getBytes("id"))),
+        rs.getString("name"),
+        rs.getString("description"),
+        rs.getBoolean("active"),
+        CategoryType.values()[rs.getInt("type")],
+        instant(rs, "created_at"),
+        instant(rs, "deleted_at"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final EntityManager entityManager;
+    private final CategoryArchiveRepository categoryArchiveRepository;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public CategoryJdbcGateway(
+        final CategoryRepository categoryRepository,
+        final CategoryJdbcRepository categoryJdbcRepository,
+        final CategoryArchiveRepository categoryArchiveRepository,
+        final PlatformTransactionManager transactionManager,
+        @Value("${category.batch.chunk-size:1000}") final int batchChunkSize,
+        @Value("${category.pagination.estimate-ttl:30000}") final long estimateTtl,
+        final ObjectProvider<CategoryChangeListener> changeListeners,
+        final ObjectProvider<CategoryLuceneIndex> searchIndex,
+        final JdbcTemplate jdbcTemplate,
+        final EntityManager entityManager) {
+        super(
+            categoryRepository,
+            categoryJdbcRepository,
+            categoryArchiveRepository,
+            transactionManager,
+            batchChunkSize,
+            estimateTtl,
+            changeListeners,
+            searchIndex);
+        this.jdbcTemplate = requireNonNull(jdbcTemplate);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.entityManager = requireNonNull(entityManager);
+        this.categoryArchiveRepository = requireNonNull(categoryArchiveRepository);
+        this.readOnlyTransactionTemplate = readOnly(transactionManager);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return requireNonNull(readOnlyTransactionTemplate.execute(status -> {
+            flushPendingWrites();
+            return jdbcTemplate.query(FIND_BY_ID, CATEGORY_ROW, (Object) CategoryIdConverter.toBytes(anId.getValue()))
+                .stream()
+                .findFirst()
+                .or(() -> categoryArchiveRepository.findById(anId.getValue()).map(CategoryJpaEntity::toAggregate));
+        }));
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        if (!isPlainSearch(aQuery)) {
+            return super.findAll(aQuery);
+        }
+        return readOnlyTransactionTemplate.execute(status -> find(aQuery, COLUMNS, CATEGORY_ROW));
+    }
+
+    @Override
+    public Pagination<CategoryListItem> findAllListItems(final CategorySearchQuery aQuery) {
+        if (!isPlainSearch(aQuery)) {
+            return super.findAllListItems(aQuery);
+        }
+        return readOnlyTransactionTemplate.execute(status -> find(aQuery, LIST_ITEM_COLUMNS, LIST_ITEM_ROW));
+    }
+
+    private static boolean isPlainSearch(final CategorySearchQuery aQuery) {
+        return aQuery.searchMode() == SearchMode.LIKE && !aQuery.includeArchived();
+    }
+
+    private <T> Pagination<T> find(final CategorySearchQuery aQuery, final String columns, final RowMapper<T> mapper) {
+        final var sort = aQuery.hasSort() ? sortable(aQuery.sort()) : DEFAULT_SORT;
+
+        flushPendingWrites();
+
+        return page(aQuery, sort, CategoryWhere.of(aQuery, Timestamp::from), rows(columns, mapper)).map(Row::item);
+    }
+
+    private <T> RowReader<CategoryWhere, Row<T>> rows(final String columns, final RowMapper<T> mapper) {
+        return new RowReader<>() {
+            @Override
+            public List<Row<T>> read(
+                final CategoryWhere where,
+                final String sort,
+                final Sort.Direction direction,
+                final long offset,
+                final int limit) {
+                final var column = SORT_COLUMNS.get(sort);
+                final var order = "id".equals(column)
+                    ? "id " + direction.name()
+                    : column + " " + direction.name() + ", id " + direction.name();
+                final var params = new HashMap<>(where.params());
+                params.put("limit", limit);
+                params.put("offset", offset);
+
+                // the sort column is read back so cursors come out the same as the ones the JPA gateway builds
+                return namedJdbcTemplate.query(
+                    SELECT.formatted(columns, where.sql(), order),
+                    params,
+                    (rs, rowNum) -> new Row<>(
+                        mapper.mapRow(rs, rowNum),
+                        cursorValue(rs, column),
+                        CategoryIdConverter.fromBytes(rs.getBytes("id"))));
+            }
+
+            @Override
+            public CategoryWhere seek(
+                final CategoryWhere where,
+                final String sort,
+                final CategoryCursor aCursor,
+                final boolean ascending) {
+                return where.seek(SORT_COLUMNS.get(sort), aCursor, ascending);
+            }
+
+            @Override
+            public long count(final CategoryWhere where) {
+                final var total = namedJdbcTemplate.queryForObject(
+                    COUNT.formatted(where.sql()), where.params(), Long.class);
+                return total != null ? total : 0;
+            }
+
+            @Override
+            public CategoryCursor cursor(
+                final String sort,
+                final Sort.Direction direction,
+                final Row<T> row,
+                final boolean backward) {
+                return CategoryCursor.of(sort, direction, row.value(), row.id(), backward);
+            }
+        };
+    }
+
+    /**
+     * JDBC reads do not trigger Hibernate's auto flush, so changes still pending in a surrounding JPA transaction are
+     * written first; outside of one the persistence context is empty and this is a no-op.
+     */
+    private void flushPendingWrites() {
+        if (entityManager.isJoinedToTransaction()) {
+            entityManager.flush();
+        }
+    }
+
+    private static String cursorValue(final ResultSet rs, final String column) throws SQLException {
+        return switch (column) {
+            case "id" -> CategoryIdConverter.fromBytes(rs.getBytes("id"));
+            case "created_at", "updated_at" -> instant(rs, column).toString();
+            default -> rs.getString(column);
+        };
+    }
+
+    private static Instant instant(final ResultSet rs, final String column) throws SQLException {
+        final var aTimestamp = rs.getTimestamp(column);
+        return aTimestamp != null ? aTimestamp.toInstant() : null;
+    }
+
+    private record Row<T>(T item, String value, String id) {
+    }
+
+}
@@ -1,79 +1,642 @@
 package com.github.pedrobacchini.admin.catalog.infrastructure.category;
 
 import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryFilter;
 import com.github.pedrobacchini.admin.catalog.domain.category.CategoryGateway;
 import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryListItem;
 import com.github.pedrobacchini.admin.catalog.domain.category.CategorySearchQuery;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryUpsertResult;
+import com.github.pedrobacchini.admin.catalog.domain.exception.DomainException;
+import com.github.pedrobacchini.admin.catalog.domain.exception.NotFoundException;
+import com.github.pedrobacchini.admin.catalog.domain.exception.VersionConflictException;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.CountMode;
 import com.github.pedrobacchini.admin.catalog.domain.pagination.Pagination;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.SearchMode;
+import com.github.pedrobacchini.admin.catalog.domain.validation.Error;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.persistence.CategoryArchiveRepository;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.persistence.CategoryJdbcRepository;
 import com.github.pedrobacchini.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
 import com.github.pedrobacchini.admin.catalog.infrastructure.category.persistence.CategoryRepository;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.search.CategoryLuceneIndex;
+import com.github.pedrobacchini.admin.catalog.infrastructure.util.SpecificationUtils;
+import jakarta.persistence.Tuple;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static com.github.pedrobacchini.admin.catalog.infrastructure.configuration.hibernate.FullTextFunctionContributor.MATCH_BOOLEAN;
+import static com.github.pedrobacchini.admin.catalog.infrastructure.configuration.hibernate.FullTextFunctionContributor.MATCH_NATURAL;
 import static com.github.pedrobacchini.admin.catalog.infrastructure.util.SpecificationUtils.like;
+import static com.github.pedrobacchini.admin.catalog.infrastructure.util.SpecificationUtils.matchAgainst;
+import static com.github.pedrobacchini.admin.catalog.infrastructure.util.TransactionUtils.afterCommit;
 import static java.util.Objects.requireNonNull;
 
 @Service
+@Profile("!jdbc")
 public class CategoryMySQLGateway implements CategoryGateway {
 
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String ACTIVE = "active";
+    private static final String TYPE = "type";
+    private static final String CREATED_AT = "createdAt";
+    private static final String UPDATED_AT = "updatedAt";
+    private static final String DELETED_AT = "deletedAt";
+    static final String DEFAULT_SORT = NAME;
+    private static final List<String> LIST_ITEM_ATTRIBUTES =
+        List.of(ID, NAME, DESCRIPTION, ACTIVE, TYPE, CREATED_AT, DELETED_AT);
+
+    /**
+     * Sortable attributes and their columns. Each one is backed by a {@code (column, id)} index matching the
+     * {@code ORDER BY column, id} of every page, so no sort reads or filesorts more than the page; description is too
+     * wide to index and cannot be sorted on.
+     */
+    static final Map<String, String> SORT_COLUMNS = Map.of(
+        ID, "id",
+        NAME, "name",
+        CREATED_AT, "created_at",
+        UPDATED_AT, "updated_at");
+
     private final CategoryRepository categoryRepository;
+    private final CategoryJdbcRepository categoryJdbcRepository;
+    private final CategoryArchiveRepository categoryArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final int batchChunkSize;
+    private final CategoryCountCache countCache;
+    private final ObjectProvider<CategoryChangeListener> changeListeners;
+    private final ObjectProvider<CategoryLuceneIndex> searchIndex;
 
-    public CategoryMySQLGateway(final CategoryRepository categoryRepository) {
+    public CategoryMySQLGateway(
+        final CategoryRepository categoryRepository,
+        final CategoryJdbcRepository categoryJdbcRepository,
+        final CategoryArchiveRepository categoryArchiveRepository,
+        final PlatformTransactionManager transactionManager,
+        @Value("${category.batch.chunk-size:1000}") final int batchChunkSize,
+        @Value("${category.pagination.estimate-ttl:30000}") final long estimateTtl,
+        final ObjectProvider<CategoryChangeListener> changeListeners,
+        final ObjectProvider<CategoryLuceneIndex> searchIndex) {
         this.categoryRepository = requireNonNull(categoryRepository);
+        this.categoryJdbcRepository = requireNonNull(categoryJdbcRepository);
+        this.categoryArchiveRepository = requireNonNull(categoryArchiveRepository);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = readOnly(transactionManager);
+        this.batchChunkSize = batchChunkSize;
+        this.countCache = new CategoryCountCache(estimateTtl);
+        this.changeListeners = requireNonNull(changeListeners);
+        this.searchIndex = requireNonNull(searchIndex);
     }
 
     @Override
     public Category create(final Category aCategory) {
-        return save(aCategory);
+        return transactionTemplate.execute(status -> {
+            rejectArchived(List.of(aCategory));
+            return save(aCategory);
+        });
+    }
+
+    /**
+     * Inserts through JDBC batches, committing every {@code category.batch.chunk-size} rows so a large sync neither
+     * holds one long transaction nor pays a round trip per row. Chunks committed before a failure stay committed. A
+     * chunk holding an archived id fails like one holding a hot duplicate.
+     */
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        for (var from = 0; from < aCategories.size(); from += batchChunkSize) {
+            final var chunk = aCategories.subList(from, Math.min(from + batchChunkSize, aCategories.size()));
+            transactionTemplate.executeWithoutResult(status -> {
+                rejectArchived(chunk);
+                categoryJdbcRepository.insertAll(chunk.stream().map(CategoryJpaEntity::from).toList());
+                afterCommit(() -> notifySaved(chunk));
+            });
+        }
+        return aCategories;
     }
 
     @Override
     public void deleteById(final CategoryID anId) {
-        categoryRepository.deleteById(anId.getValue());
+        transactionTemplate.executeWithoutResult(status -> {
+            final var ids = List.of(anId.getValue());
+            // both tables every time, so no copy of the id survives in either
+            final var deleted = categoryArchiveRepository.deleteAllById(ids)
+                + categoryJdbcRepository.deleteAllById(ids);
+            if (deleted == 0) {
+                throw new EmptyResultDataAccessException(
+                    "No %s entity with id %s exists".formatted(CategoryJpaEntity.class, anId.getValue()), 1);
+            }
+            afterCommit(() -> notifyDeleted(anId));
+        });
+    }
+
+    /**
+     * Deletes in chunks of {@code category.batch.chunk-size} ids, one {@code DELETE ... WHERE id IN (...)} and one
+     * commit per chunk, so locks are held only for the rows of the current chunk.
+     */
+    @Override
+    public long deleteAllById(final List<CategoryID> anIds) {
+        var deleted = 0L;
+        for (var from = 0; from < anIds.size(); from += batchChunkSize) {
+            final var chunk = anIds.subList(from, Math.min(from + batchChunkSize, anIds.size()));
+            deleted += deleteChunk(chunk.stream().map(CategoryID::getValue).toList(), true);
+        }
+        return deleted;
+    }
+
+    /**
+     * Deletes every category matching the search terms and the filter of the query, either of which may be left out
+     * but not both, one chunk per transaction until a chunk comes back short. Each chunk locks the matching ids and
+     * deletes them in the same transaction, so a row changed to stop matching in between is left alone. Pagination,
+     * sort and cursor are ignored.
+     */
+    @Override
+    public long deleteAll(final CategorySearchQuery aQuery) {
+        if (aQuery.searchMode() == SearchMode.LUCENE) {
+            throw DomainException.with(new Error("'searchMode' lucene is not supported when deleting"));
+        }
+        final var searchClause = searchClause(aQuery);
+        // without search terms a filter alone selects the rows, but never an empty one
+        if (searchClause == null && (aQuery.hasTerms() || aQuery.filter().isEmpty())) {
+            throw DomainException.with(new Error("'search' should not be empty"));
+        }
+        final var whereClause = Specification.where(searchClause).and(filterClause(aQuery.filter()));
+        var deleted = 0L;
+        int rows;
+        do {
+            rows = requireNonNull(transactionTemplate.execute(status ->
+                deleteChunk(categoryRepository.findIdsForUpdate(whereClause, batchChunkSize), false)));
+            deleted += rows;
+        } while (rows == batchChunkSize);
+        return deleted;
+    }
+
+    private int deleteChunk(final List<String> ids, final boolean includeArchived) {
+        return requireNonNull(transactionTemplate.execute(status -> {
+            var rows = categoryJdbcRepository.deleteAllById(ids);
+            if (includeArchived) {
+                rows += categoryArchiveRepository.deleteAllById(ids);
+            }
+            afterCommit(() -> notifyDeleted(ids.stream().map(CategoryID::from).toList()));
+            return rows;
+        }));
     }
 
     @Override
     public Optional<Category> findById(final CategoryID anId) {
-        return categoryRepository.findById(anId.getValue()).map(CategoryJpaEntity::toAggregate);
+        return requireNonNull(readOnlyTransactionTemplate.execute(status -> categoryRepository.findById(anId.getValue())
+            .or(() -> categoryArchiveRepository.findById(anId.getValue()))
+            .map(CategoryJpaEntity::toAggregate)));
     }
 
+    /**
+     * Writes the already loaded state with one targeted {@code UPDATE} guarded by the version it was read at. Only when
+     * no hot row matches, either the category was archived, and is removed from the archive under the same version
+     * guard and inserted back, or another writer bumped the version first.
+     */
     @Override
     public Category update(final Category aCategory) {
-        return save(aCategory);
+        return transactionTemplate.execute(status -> {
+            final var anEntity = CategoryJpaEntity.from(aCategory);
+            final var updated = categoryRepository.updateState(
+                anEntity.getId(),
+                anEntity.getName(),
+                anEntity.getDescription(),
+                anEntity.isActive(),
+                anEntity.getType(),
+                anEntity.getUpdatedAt(),
+                anEntity.getDeletedAt(),
+                anEntity.getVersion());
+            if (updated == 0
+                && categoryArchiveRepository.deleteByIdAndVersion(anEntity.getId(), anEntity.getVersion()) == 0) {
+                if (categoryRepository.existsById(anEntity.getId())
+                    || categoryArchiveRepository.findById(anEntity.getId()).isPresent()) {
+                    throw VersionConflictException.with(Category.class, aCategory.getId(), aCategory.getVersion());
+                }
+                throw NotFoundException.with(Category.class, aCategory.getId());
+            }
+            anEntity.setVersion(anEntity.getVersion() + 1);
+            if (updated == 0) {
+                categoryJdbcRepository.insertAll(List.of(anEntity));
+            }
+            final var result = anEntity.toAggregate();
+            afterCommit(() -> notifySaved(result));
+            return result;
+        });
+    }
+
+    /**
+     * Inserts or overwrites each category with a single {@code INSERT ... ON DUPLICATE KEY UPDATE} per chunk, skipping
+     * the SELECT that {@code save} issues to decide between persist and merge. Archived ids are moved back to the hot
+     * table in the same transaction, and listeners are notified with the rows read back after the write.
+     */
+    @Override
+    public CategoryUpsertResult upsertAll(final List<Category> aCategories) {
+        var result = CategoryUpsertResult.with(0, 0);
+        for (var from = 0; from < aCategories.size(); from += batchChunkSize) {
+            final var chunk = aCategories.subList(from, Math.min(from + batchChunkSize, aCategories.size()));
+            final var updated = requireNonNull(transactionTemplate.execute(status -> {
+                // an archived id is moved back first, so it is overwritten like a hot one and counts as an update
+                categoryArchiveRepository.restoreAll(ids(chunk));
+                final var rows = categoryJdbcRepository.upsertAll(chunk.stream().map(CategoryJpaEntity::from).toList());
+                // an overwritten row keeps its created_at and bumps its version, so notify with what was stored
+                final var persisted = categoryRepository.findAllById(ids(chunk)).stream()
+                    .map(CategoryJpaEntity::toAggregate)
+                    .toList();
+                afterCommit(() -> notifySaved(persisted));
+                // 1 affected row per insert, 2 per update
+                return rows - chunk.size();
+            }));
+            result = result.plus(CategoryUpsertResult.with(chunk.size() - updated, updated));
+        }
+        return result;
     }
 
     @Override
     public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
-        final var pageRequest = PageRequest.of(
+        return readOnlyTransactionTemplate.execute(status ->
+            find(aQuery, entityRows(), CategoryJpaEntity::toAggregate, Function.identity()));
+    }
+
+    /**
+     * Same search as {@link #findAll} but selects only the listed columns as tuples, so no entity instance, persistence
+     * context entry or dirty-checking snapshot is created per row. Lucene and archive searches still go through the
+     * aggregate path.
+     */
+    @Override
+    public Pagination<CategoryListItem> findAllListItems(final CategorySearchQuery aQuery) {
+        return readOnlyTransactionTemplate.execute(status ->
+            find(aQuery, listItemRows(), CategoryMySQLGateway::toListItem, CategoryListItem::from));
+    }
+
+    private <R, T> Pagination<T> find(
+        final CategorySearchQuery aQuery,
+        final RowReader<Specification<CategoryJpaEntity>, R> reader,
+        final Function<R, T> mapper,
+        final Function<Category, T> fromAggregate) {
+        // without an index bean lucene searches degrade to LIKE
+        final var anIndex = aQuery.searchMode() == SearchMode.LUCENE ? searchIndex.getIfAvailable() : null;
+
+        // full-text results come back by relevance unless the caller picked a sort
+        final var ranked = anIndex != null
+            || aQuery.searchMode() == SearchMode.BOOLEAN
+            || aQuery.searchMode() == SearchMode.NATURAL;
+        final var sort = aQuery.hasSort() ? sortable(aQuery.sort()) : ranked && aQuery.hasTerms() ? null : DEFAULT_SORT;
+
+        if (aQuery.includeArchived()) {
+            return findAllWithArchive(aQuery, sort).map(fromAggregate);
+        }
+        if (anIndex != null) {
+            return findAllByIndex(anIndex, aQuery, sort).map(fromAggregate);
+        }
+
+        final var whereClause = Specification.where(searchClause(aQuery)).and(filterClause(aQuery.filter()));
+
+        return page(aQuery, sort, whereClause, reader).map(mapper);
+    }
+
+    /**
+     * Pages a plain search by offset or, given a cursor, by keyset; shared by every read path that only differs in how
+     * it expresses the predicate and reads the rows.
+     */
+    <W, R> Pagination<R> page(
+        final CategorySearchQuery aQuery,
+        final String sort,
+        final W where,
+        final RowReader<W, R> reader) {
+        return aQuery.hasCursor()
+            ? findAllByCursor(aQuery, sort, where, reader)
+            : findAllByOffset(aQuery, sort, where, reader);
+    }
+
+    static String sortable(final String sort) {
+        if (!SORT_COLUMNS.containsKey(sort)) {
+            throw DomainException.with(new Error("'sort' must be one of id, name, createdAt or updatedAt"));
+        }
+        return sort;
+    }
+
+    private RowReader<Specification<CategoryJpaEntity>, CategoryJpaEntity> entityRows() {
+        return new SpecificationRows<>() {
+            @Override
+            public List<CategoryJpaEntity> read(
+                final Specification<CategoryJpaEntity> whereClause,
+                final String sort,
+                final Sort.Direction direction,
+                final long offset,
+                final int limit) {
+                return categoryRepository.findSlice(whereClause, order(sort, direction), offset, limit);
+            }
+
+            @Override
+            public CategoryCursor cursor(
+                final String sort,
+                final Sort.Direction direction,
+                final CategoryJpaEntity row,
+                final boolean backward) {
+                return CategoryCursor.of(sort, direction, row, backward);
+            }
+        };
+    }
+
+    private RowReader<Specification<CategoryJpaEntity>, Tuple> listItemRows() {
+        return new SpecificationRows<>() {
+            @Override
+            public List<Tuple> read(
+                final Specification<CategoryJpaEntity> whereClause,
+                final String sort,
+                final Sort.Direction direction,
+                final long offset,
+                final int limit) {
+                // the sort column rides along so cursors can be built from the boundary rows
+                final var attributes = sort == null || LIST_ITEM_ATTRIBUTES.contains(sort)
+                    ? LIST_ITEM_ATTRIBUTES
+                    : Stream.concat(LIST_ITEM_ATTRIBUTES.stream(), Stream.of(sort)).toList();
+                return categoryRepository.findTuples(whereClause, attributes, order(sort, direction), offset, limit);
+            }
+
+            @Override
+            public CategoryCursor cursor(
+                final String sort,
+                final Sort.Direction direction,
+                final Tuple row,
+                final boolean backward) {
+                return CategoryCursor.of(sort, direction, row.get(sort), row.get(ID, String.class), backward);
+            }
+        };
+    }
+
+    private static Sort order(final String sort, final Sort.Direction direction) {
+        return sort != null ? Sort.by(direction, sort).and(Sort.by(direction, ID)) : Sort.unsorted();
+    }
+
+    private static CategoryListItem toListItem(final Tuple row) {
+        return new CategoryListItem(
+            CategoryID.from(row.get(ID, String.class)),
+            row.get(NAME, String.class),
+            row.get(DESCRIPTION, String.class),
+            row.get(ACTIVE, Boolean.class),
+            row.get(TYPE, CategoryType.class),
+            row.get(CREATED_AT, Instant.class),
+            row.get(DELETED_AT, Instant.class));
+    }
+
+    private static List<String> ids(final List<Category> aCategories) {
+        return aCategories.stream().map(aCategory -> aCategory.getId().getValue()).toList();
+    }
+
+    private static Specification<CategoryJpaEntity> searchClause(final CategorySearchQuery aQuery) {
+        if (!aQuery.hasTerms()) {
+            return null;
+        }
+        final var terms = aQuery.terms().trim();
+        return switch (aQuery.searchMode()) {
+            case LIKE, LUCENE -> {
+                final Specification<CategoryJpaEntity> name = like(NAME, aQuery.terms());
+                final Specification<CategoryJpaEntity> description = like(DESCRIPTION, aQuery.terms());
+                yield name.or(description);
+            }
+            case BOOLEAN -> {
+                final var against = CategoryWhere.booleanTerms(terms);
+                yield against.isEmpty()
+                    ? null
+                    : matchAgainst(MATCH_BOOLEAN, NAME, DESCRIPTION, against, terms, ID, !aQuery.hasSort());
+            }
+            case NATURAL -> matchAgainst(MATCH_NATURAL, NAME, DESCRIPTION, terms, terms, ID, !aQuery.hasSort());
+        };
+    }
+
+    private static Specification<CategoryJpaEntity> filterClause(final CategoryFilter aFilter) {
+        if (aFilter.isEmpty()) {
+            return null;
+        }
+        Specification<CategoryJpaEntity> clause = Specification.where(null);
+        for (final var aComparison : CategoryWhere.filters(aFilter)) {
+            clause = clause.and(aComparison.specification());
+        }
+        return clause;
+    }
+
+    private <W, R> Pagination<R> findAllByOffset(
+        final CategorySearchQuery aQuery,
+        final String sort,
+        final W where,
+        final RowReader<W, R> reader) {
+        final var direction = Sort.Direction.fromString(aQuery.direction());
+        final var offset = (long) aQuery.page() * aQuery.perPage();
+
+        final var rows = reader.read(where, sort, direction, offset, aQuery.perPage() + 1);
+        final var window = CategoryPageWindow.byOffset(aQuery, sort, rows, reader);
+        return window.toPagination(aQuery, window.totalKnown() ? 0 : count(aQuery, where, reader));
+    }
+
+    /**
+     * Seeks straight to the cursor position with a (sort, id) predicate instead of skipping rows with OFFSET, so the
+     * cost of a page does not grow with its depth.
+     */
+    private <W, R> Pagination<R> findAllByCursor(
+        final CategorySearchQuery aQuery,
+        final String sort,
+        final W where,
+        final RowReader<W, R> reader) {
+        final var aCursor = CategoryPageWindow.cursor(aQuery, sort);
+        final var scanDirection = CategoryPageWindow.scanDirection(aQuery, aCursor);
+        final var seekWhere = reader.seek(where, sort, aCursor, scanDirection.isAscending());
+
+        final var rows = reader.read(seekWhere, sort, scanDirection, 0, aQuery.perPage() + 1);
+        return CategoryPageWindow.byCursor(aQuery, sort, aCursor, rows, reader)
+            .toPagination(aQuery, count(aQuery, where, reader));
+    }
+
+    /**
+     * Resolves the page ids from the search index and loads only those rows, keeping the index order. Ids the index
+     * still holds but the table no longer has are skipped.
+     */
+    private Pagination<Category> findAllByIndex(
+        final CategoryLuceneIndex anIndex,
+        final CategorySearchQuery aQuery,
+        final String sort) {
+        if (aQuery.hasCursor()) {
+            throw DomainException.with(new Error("'cursor' is not supported by lucene search"));
+        }
+        if (aQuery.hasFilter()) {
+            throw DomainException.with(new Error("filters are not supported by lucene search"));
+        }
+        final var pageRequest = PageRequest.of(aQuery.page(), aQuery.perPage());
+        final var hits = anIndex.search(
+            aQuery.terms(),
+            sort,
+            Sort.Direction.fromString(aQuery.direction()),
+            pageRequest.getOffset(),
+            aQuery.perPage(),
+            aQuery.count() != CountMode.NONE);
+
+        final var rows = categoryRepository.findAllById(hits.ids()).stream()
+            .collect(Collectors.toMap(CategoryJpaEntity::getId, Function.identity()));
+
+        return new Pagination<>(
             aQuery.page(),
             aQuery.perPage(),
-            Sort.Direction.fromString(aQuery.direction()),
-            aQuery.sort());
+            hits.total(),
+            hits.ids().stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .map(CategoryJpaEntity::toAggregate)
+                .toList(),
+            null,
+            null,
+            hits.hasMore(),
+            aQuery.count());
+    }
 
-        final var clause = Optional.ofNullable(aQuery.terms())
-            .filter(str -> !str.isBlank())
-            .map(str -> {
-                final Specification<CategoryJpaEntity> name = like("name", str);
-                final Specification<CategoryJpaEntity> description = like("description", str);
-                return name.or(description);
-            })
-            .orElse(null);
+    /**
+     * Pages over the hot and archived rows with a {@code UNION ALL}. The archive has no full-text index and no
+     * keyset cursor support, so only LIKE searches paged by offset are accepted.
+     */
+    private Pagination<Category> findAllWithArchive(final CategorySearchQuery aQuery, final String sort) {
+        if (aQuery.searchMode() != SearchMode.LIKE) {
+            throw DomainException.with(new Error("'includeArchived' only supports like search"));
+        }
+        if (aQuery.hasCursor()) {
+            throw DomainException.with(new Error("'cursor' is not supported with 'includeArchived'"));
+        }
+        if (aQuery.hasFilter()) {
+            throw DomainException.with(new Error("filters are not supported with 'includeArchived'"));
+        }
+        final var column = SORT_COLUMNS.get(sort);
+        final var direction = Sort.Direction.fromString(aQuery.direction());
+        final var terms = aQuery.hasTerms() ? aQuery.terms().trim() : null;
+        final var offset = (long) aQuery.page() * aQuery.perPage();
 
-        final var pageResult = categoryRepository.findAll(Specification.where(clause), pageRequest);
+        final var rows = categoryArchiveRepository.findAllWithArchive(
+            terms, column, direction.name(), offset, aQuery.perPage() + 1);
+        final var hasNext = rows.size() > aQuery.perPage();
+        final var items = hasNext ? rows.subList(0, aQuery.perPage()) : rows;
+
+        final long total = switch (aQuery.count()) {
+            case EXACT -> categoryArchiveRepository.countWithArchive(terms);
+            case ESTIMATE -> countCache.get("ARCHIVE:" + countKey(aQuery), () -> categoryArchiveRepository.countWithArchive(terms));
+            case NONE -> Pagination.UNKNOWN_TOTAL;
+        };
 
         return new Pagination<>(
-            pageResult.getNumber(),
-            pageResult.getSize(),
-            pageResult.getTotalElements(),
-            pageResult.map(CategoryJpaEntity::toAggregate).toList());
+            aQuery.page(),
+            aQuery.perPage(),
+            total,
+            items.stream().map(CategoryJpaEntity::toAggregate).toList(),
+            null,
+            null,
+            hasNext,
+            aQuery.count());
+    }
+
+    private <W> long count(final CategorySearchQuery aQuery, final W where, final RowReader<W, ?> reader) {
+        return switch (aQuery.count()) {
+            case EXACT -> reader.count(where);
+            case ESTIMATE -> countCache.get(countKey(aQuery), () -> reader.count(where));
+            case NONE -> Pagination.UNKNOWN_TOTAL;
+        };
+    }
+
+    private static String countKey(final CategorySearchQuery aQuery) {
+        return aQuery.searchMode() + ":" + aQuery.filter() + ":" + Optional.ofNullable(aQuery.terms())
+            .map(String::trim)
+            .map(String::toUpperCase)
+            .orElse("");
+    }
+
+    /**
+     * Read paths run in a read-only transaction: Spring switches the Hibernate session to {@code FlushMode.MANUAL} and
+     * default read-only, so loaded entities keep no dirty-checking snapshot, and marks the connection read-only, which
+     * Connector/J turns into {@code SET SESSION TRANSACTION READ ONLY} so InnoDB skips the transaction id and undo setup.
+     */
+    static TransactionTemplate readOnly(final PlatformTransactionManager transactionManager) {
+        final var template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    /**
+     * An archived id still exists, so creating it again is the same duplicate key as creating a hot one.
+     */
+    private void rejectArchived(final List<Category> aCategories) {
+        final var archived = categoryArchiveRepository.findIds(ids(aCategories));
+        if (!archived.isEmpty()) {
+            throw new DuplicateKeyException("Categories already exist in the archive: " + archived);
+        }
     }
 
     private Category save(final Category aCategory) {
-        return categoryRepository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
+        final var result = categoryRepository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
+        afterCommit(() -> notifySaved(result));
+        return result;
+    }
+
+    private void notifySaved(final Category aCategory) {
+        changeListeners.orderedStream().forEach(listener -> listener.onSaved(aCategory));
+    }
+
+    private void notifySaved(final List<Category> aCategories) {
+        changeListeners.orderedStream().forEach(listener -> listener.onSavedAll(aCategories));
+    }
+
+    private void notifyDeleted(final CategoryID anId) {
+        changeListeners.orderedStream().forEach(listener -> listener.onDeleted(anId));
+    }
+
+    private void notifyDeleted(final List<CategoryID> anIds) {
+        changeListeners.orderedStream().forEach(listener -> listener.onDeletedAll(anIds));
+    }
+
+    /**
+     * Reads a window of rows in whatever shape a read path needs and builds keyset cursors from them. {@code W} is how
+     * the read path expresses its predicate, so seeking past a cursor and counting stay in the same dialect.
+     */
+    interface RowReader<W, R> extends CategoryPageWindow.RowCursor<R> {
+
+        List<R> read(W where, String sort, Sort.Direction direction, long offset, int limit);
+
+        W seek(W where, String sort, CategoryCursor aCursor, boolean ascending);
+
+        long count(W where);
+
+    }
+
+    private abstract class SpecificationRows<R> implements RowReader<Specification<CategoryJpaEntity>, R> {
+
+        @Override
+        public Specification<CategoryJpaEntity> seek(
+            final Specification<CategoryJpaEntity> whereClause,
+            final String sort,
+            final CategoryCursor aCursor,
+            final boolean ascending) {
+            return whereClause.and(SpecificationUtils.<CategoryJpaEntity>seek(
+                sort, aCursor.value(), ID, aCursor.id(), ascending));
+        }
+
+        @Override
+        public long count(final Specification<CategoryJpaEntity> whereClause) {
+            return categoryRepository.count(whereClause);
+        }
+
     }
 
 }
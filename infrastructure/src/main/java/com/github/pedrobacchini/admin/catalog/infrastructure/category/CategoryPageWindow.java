@@ -0,0 +1,114 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category;
+
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySearchQuery;
+import com.github.pedrobacchini.admin.catalog.domain.exception.DomainException;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.CountMode;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.Pagination;
+import com.github.pedrobacchini.admin.catalog.domain.validation.Error;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page cut out of the {@code perPage + 1} rows a listing read, in request order, with the keyset cursors around
+ * it. The blocking and reactive read paths only differ in how they read and count the rows, so both page through here.
+ */
+record CategoryPageWindow<R>(List<R> items, String next, String prev, boolean hasNext, boolean totalKnown) {
+
+    static <R> CategoryPageWindow<R> byOffset(
+        final CategorySearchQuery aQuery,
+        final String sort,
+        final List<R> rows,
+        final RowCursor<R> cursors) {
+        final var direction = Sort.Direction.fromString(aQuery.direction());
+        final var offset = (long) aQuery.page() * aQuery.perPage();
+
+        // one extra row tells whether another page exists without counting the whole result
+        final var hasNext = rows.size() > aQuery.perPage();
+        final var items = hasNext ? rows.subList(0, aQuery.perPage()) : rows;
+
+        // relevance order has no column to seek on, so it only pages by offset
+        final var next = sort != null && hasNext && !items.isEmpty()
+            ? cursors.cursor(sort, direction, items.get(items.size() - 1), false).encode()
+            : null;
+        final var prev = sort != null && offset > 0 && !items.isEmpty()
+            ? cursors.cursor(sort, direction, items.get(0), true).encode()
+            : null;
+
+        // a short first page already is the exact total
+        final var totalKnown = aQuery.count() == CountMode.EXACT && offset == 0 && !hasNext;
+        return new CategoryPageWindow<>(items, next, prev, hasNext, totalKnown);
+    }
+
+    /**
+     * Decodes the cursor of a keyset page and checks it was taken from the requested sort.
+     */
+    static CategoryCursor cursor(final CategorySearchQuery aQuery, final String sort) {
+        if (sort == null) {
+            throw DomainException.with(new Error("'cursor' requires an explicit sort"));
+        }
+        final var aCursor = CategoryCursor.decode(aQuery.cursor());
+        if (!aCursor.matches(sort, Sort.Direction.fromString(aQuery.direction()))) {
+            throw DomainException.with(new Error("'cursor' does not match the requested sort"));
+        }
+        return aCursor;
+    }
+
+    /**
+     * Direction to scan in from the cursor: a backward cursor scans in reverse order and the window is flipped back.
+     */
+    static Sort.Direction scanDirection(final CategorySearchQuery aQuery, final CategoryCursor aCursor) {
+        final var ascending = Sort.Direction.fromString(aQuery.direction()).isAscending() != aCursor.backward();
+        return ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
+    }
+
+    static <R> CategoryPageWindow<R> byCursor(
+        final CategorySearchQuery aQuery,
+        final String sort,
+        final CategoryCursor aCursor,
+        final List<R> rows,
+        final RowCursor<R> cursors) {
+        final var direction = Sort.Direction.fromString(aQuery.direction());
+        final var hasMore = rows.size() > aQuery.perPage();
+        final List<R> items = new ArrayList<>(rows.subList(0, Math.min(rows.size(), aQuery.perPage())));
+        if (aCursor.backward()) {
+            Collections.reverse(items);
+        }
+
+        String next = null;
+        String prev = null;
+        if (!items.isEmpty()) {
+            if (aCursor.backward() || hasMore) {
+                next = cursors.cursor(sort, direction, items.get(items.size() - 1), false).encode();
+            }
+            if (!aCursor.backward() || hasMore) {
+                prev = cursors.cursor(sort, direction, items.get(0), true).encode();
+            }
+        }
+        return new CategoryPageWindow<>(items, next, prev, next != null, false);
+    }
+
+    Pagination<R> toPagination(final CategorySearchQuery aQuery, final long total) {
+        return new Pagination<>(
+            aQuery.page(),
+            aQuery.perPage(),
+            totalKnown ? items.size() : total,
+            items,
+            next,
+            prev,
+            hasNext,
+            aQuery.count());
+    }
+
+    /**
+     * Builds the keyset cursor of a boundary row.
+     */
+    interface RowCursor<R> {
+
+        CategoryCursor cursor(String sort, Sort.Direction direction, R row, boolean backward);
+
+    }
+
+}
@@ -0,0 +1,401 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category;
+
+import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryListItem;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySearchQuery;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
+import com.github.pedrobacchini.admin.catalog.domain.exception.DomainException;
+import com.github.pedrobacchini.admin.catalog.domain.exception.NotFoundException;
+import com.github.pedrobacchini.admin.catalog.domain.exception.VersionConflictException;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.CountMode;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.Pagination;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.SearchMode;
+import com.github.pedrobacchini.admin.catalog.domain.validation.Error;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.persistence.CategoryIdConverter;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive.ReactiveCategoryGateway;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static com.github.pedrobacchini.admin.catalog.infrastructure.category.CategoryJdbcGateway.LIST_ITEM_COLUMNS;
+import static com.github.pedrobacchini.admin.catalog.infrastructure.category.CategoryMySQLGateway.DEFAULT_SORT;
+import static com.github.pedrobacchini.admin.catalog.infrastructure.category.CategoryMySQLGateway.SORT_COLUMNS;
+import static com.github.pedrobacchini.admin.catalog.infrastructure.category.CategoryMySQLGateway.sortable;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link ReactiveCategoryGateway} over R2DBC: the same {@code category} table, {@link CategoryWhere} predicates and
+ * {@link CategoryPageWindow} paging as {@link CategoryJdbcGateway}, without holding a thread while a statement is in
+ * flight. Point lookups fall back to the archive and updates bring archived rows back, as the JPA gateway does;
+ * listings take LIKE and full-text searches paged by offset or cursor, and reject lucene searches and
+ * {@code includeArchived}, which need the index and the archive union of the JPA gateway. Enabled by the
+ * {@code reactive} profile.
+ */
+@Service
+@Profile("reactive")
+public class CategoryR2dbcGateway implements ReactiveCategoryGateway {
+
+    private static final String COLUMNS = "id, name, description, active, type, created_at, updated_at, deleted_at, version";
+
+    private static final String INSERT = """
+        INSERT INTO category (id, name, description, active, type, created_at, updated_at, deleted_at, version)
+        VALUES (:id, :name, :description, :active, :type, :createdAt, :updatedAt, :deletedAt, :version)""";
+
+    private static final String UPDATE = """
+        UPDATE category
+        SET name = :name,
+            description = :description,
+            active = :active,
+            type = :type,
+            updated_at = :updatedAt,
+            deleted_at = :deletedAt,
+            version = version + 1
+        WHERE id = :id AND version = :version""";
+
+    private static final String FIND_BY_ID = "SELECT " + COLUMNS + " FROM %s WHERE id = :id";
+    private static final String EXISTS = """
+        SELECT (SELECT COUNT(*) FROM category WHERE id = :id)
+            + (SELECT COUNT(*) FROM category_archive WHERE id = :id) AS total""";
+    private static final String DELETE_FROM = "DELETE FROM %s WHERE id = :id";
+    private static final String DELETE_ARCHIVED_AT_VERSION =
+        "DELETE FROM category_archive WHERE id = :id AND version = :version";
+    private static final String SELECT = "SELECT %s FROM category%s ORDER BY %s LIMIT :limit OFFSET :offset";
+    private static final String STREAM = "SELECT %s FROM category%s ORDER BY %s";
+    private static final String COUNT = "SELECT COUNT(*) AS total FROM category%s";
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final ObjectProvider<CategoryChangeListener> changeListeners;
+    private final int fetchSize;
+
+    public CategoryR2dbcGateway(
+        final DatabaseClient databaseClient,
+        final TransactionalOperator transactionalOperator,
+        final ObjectProvider<CategoryChangeListener> changeListeners,
+        @Value("${category.r2dbc.fetch-size:500}") final int fetchSize) {
+        this.databaseClient = requireNonNull(databaseClient);
+        this.transactionalOperator = requireNonNull(transactionalOperator);
+        this.changeListeners = requireNonNull(changeListeners);
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Mono<Category> create(final Category aCategory) {
+        return bindState(databaseClient.sql(INSERT), aCategory)
+            .bind("createdAt", utc(aCategory.getCreatedAt()))
+            .fetch()
+            .rowsUpdated()
+            .thenReturn(aCategory)
+            .flatMap(this::notifySaved);
+    }
+
+    @Override
+    public Mono<Void> deleteById(final CategoryID anId) {
+        final var id = CategoryIdConverter.toBytes(anId.getValue());
+        return databaseClient.sql(DELETE_FROM.formatted("category_archive")).bind("id", id).fetch().rowsUpdated()
+            .then(databaseClient.sql(DELETE_FROM.formatted("category")).bind("id", id).fetch().rowsUpdated())
+            .as(transactionalOperator::transactional)
+            .then(notify(listener -> listener.onDeleted(anId)));
+    }
+
+    /**
+     * Reads the hot table first and only looks in the archive for ids it does not hold, as the JPA gateway does.
+     */
+    @Override
+    public Mono<Category> findById(final CategoryID anId) {
+        return findById("category", anId).switchIfEmpty(Mono.defer(() -> findById("category_archive", anId)));
+    }
+
+    private Mono<Category> findById(final String aTable, final CategoryID anId) {
+        return databaseClient.sql(FIND_BY_ID.formatted(aTable))
+            .bind("id", CategoryIdConverter.toBytes(anId.getValue()))
+            .map(CategoryR2dbcGateway::toCategory)
+            .one();
+    }
+
+    /**
+     * One {@code UPDATE} guarded by the version the category was read at. When no hot row matches, an archived row at
+     * that version is removed from the archive and inserted back with the new state; otherwise a row that still exists
+     * in either table means another writer bumped the version first.
+     */
+    @Override
+    public Mono<Category> update(final Category aCategory) {
+        return bindState(databaseClient.sql(UPDATE), aCategory)
+            .fetch()
+            .rowsUpdated()
+            .flatMap(updated -> updated > 0 ? Mono.just(nextVersion(aCategory)) : restoreArchived(aCategory))
+            .as(transactionalOperator::transactional)
+            .flatMap(this::notifySaved);
+    }
+
+    private Mono<Category> restoreArchived(final Category aCategory) {
+        final var restored = nextVersion(aCategory);
+        return databaseClient.sql(DELETE_ARCHIVED_AT_VERSION)
+            .bind("id", CategoryIdConverter.toBytes(aCategory.getId().getValue()))
+            .bind("version", aCategory.getVersion())
+            .fetch()
+            .rowsUpdated()
+            .flatMap(deleted -> deleted > 0
+                ? bindState(databaseClient.sql(INSERT), restored)
+                    .bind("createdAt", utc(restored.getCreatedAt()))
+                    .fetch()
+                    .rowsUpdated()
+                    .thenReturn(restored)
+                : conflictOrNotFound(aCategory));
+    }
+
+    @Override
+    public Mono<Pagination<CategoryListItem>> findAllListItems(final CategorySearchQuery aQuery) {
+        return Mono.defer(() -> {
+            final var sort = sort(aQuery);
+            final var where = CategoryWhere.of(aQuery, CategoryR2dbcGateway::utc);
+            return (aQuery.hasCursor() ? findByCursor(aQuery, sort, where) : findByOffset(aQuery, sort, where))
+                .map(page -> page.map(Row::item));
+        });
+    }
+
+    private Mono<Pagination<Row>> findByOffset(
+        final CategorySearchQuery aQuery,
+        final String sort,
+        final CategoryWhere where) {
+        final var direction = Sort.Direction.fromString(aQuery.direction());
+        final var offset = (long) aQuery.page() * aQuery.perPage();
+
+        return read(where, sort, direction, offset, aQuery.perPage() + 1)
+            .flatMap(rows -> {
+                final var window = CategoryPageWindow.byOffset(aQuery, sort, rows, CategoryR2dbcGateway::cursor);
+                return window.totalKnown()
+                    ? Mono.just(window.toPagination(aQuery, 0))
+                    : count(aQuery, where).map(total -> window.toPagination(aQuery, total));
+            });
+    }
+
+    private Mono<Pagination<Row>> findByCursor(
+        final CategorySearchQuery aQuery,
+        final String sort,
+        final CategoryWhere where) {
+        final var aCursor = CategoryPageWindow.cursor(aQuery, sort);
+        final var scanDirection = CategoryPageWindow.scanDirection(aQuery, aCursor);
+        final var seekWhere = where.seek(SORT_COLUMNS.get(sort), aCursor, scanDirection.isAscending());
+
+        return read(seekWhere, sort, scanDirection, 0, aQuery.perPage() + 1)
+            .map(rows -> CategoryPageWindow.byCursor(aQuery, sort, aCursor, rows, CategoryR2dbcGateway::cursor))
+            .flatMap(window -> count(aQuery, where).map(total -> window.toPagination(aQuery, total)));
+    }
+
+    private Mono<List<Row>> read(
+        final CategoryWhere where,
+        final String sort,
+        final Sort.Direction direction,
+        final long offset,
+        final int limit) {
+        final var column = sort != null ? SORT_COLUMNS.get(sort) : null;
+        final var sql = SELECT.formatted(LIST_ITEM_COLUMNS, where.sql(), order(where, column, direction));
+        return bind(databaseClient.sql(sql), where)
+            .bind("limit", limit)
+            .bind("offset", offset)
+            .map(row -> new Row(toListItem(row), cursorValue(row, column), idOf(row)))
+            .all()
+            .collectList();
+    }
+
+    /**
+     * Streams the whole result {@code category.r2dbc.fetch-size} rows at a time; the driver only reads further rows off
+     * the socket as the subscriber requests them, so a slow client holds back the query instead of buffering it.
+     */
+    @Override
+    public Flux<CategoryListItem> streamListItems(final CategorySearchQuery aQuery) {
+        return Flux.defer(() -> {
+            if (aQuery.hasCursor()) {
+                throw DomainException.with(new Error("'cursor' is not supported by streamed listings"));
+            }
+            final var sort = sort(aQuery);
+            final var column = sort != null ? SORT_COLUMNS.get(sort) : null;
+            final var where = CategoryWhere.of(aQuery, CategoryR2dbcGateway::utc);
+            final var direction = Sort.Direction.fromString(aQuery.direction());
+            final var sql = STREAM.formatted(LIST_ITEM_COLUMNS, where.sql(), order(where, column, direction));
+            return bind(databaseClient.sql(sql), where)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(CategoryR2dbcGateway::toListItem)
+                .all();
+        });
+    }
+
+    /**
+     * The requested sort, or none for full-text searches without one, which come back by relevance.
+     */
+    private static String sort(final CategorySearchQuery aQuery) {
+        if (aQuery.searchMode() == SearchMode.LUCENE) {
+            throw DomainException.with(new Error("'searchMode' lucene is not supported by reactive listings"));
+        }
+        if (aQuery.includeArchived()) {
+            throw DomainException.with(new Error("'includeArchived' is not supported by reactive listings"));
+        }
+        final var ranked = aQuery.searchMode() == SearchMode.BOOLEAN || aQuery.searchMode() == SearchMode.NATURAL;
+        return aQuery.hasSort() ? sortable(aQuery.sort()) : ranked && aQuery.hasTerms() ? null : DEFAULT_SORT;
+    }
+
+    private static String order(final CategoryWhere where, final String column, final Sort.Direction direction) {
+        if (column == null) {
+            final var relevance = where.relevance();
+            return relevance != null ? relevance + " DESC, id ASC" : "id ASC";
+        }
+        final var aDirection = direction.name();
+        return "id".equals(column) ? "id " + aDirection : column + " " + aDirection + ", id " + aDirection;
+    }
+
+    private Mono<Long> count(final CategorySearchQuery aQuery, final CategoryWhere where) {
+        if (aQuery.count() == CountMode.NONE) {
+            return Mono.just(Pagination.UNKNOWN_TOTAL);
+        }
+        return bind(databaseClient.sql(COUNT.formatted(where.sql())), where)
+            .map(row -> row.get("total", Long.class))
+            .one()
+            .defaultIfEmpty(0L);
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(
+        final DatabaseClient.GenericExecuteSpec aSpec,
+        final CategoryWhere where) {
+        var spec = aSpec;
+        for (final var param : where.params().entrySet()) {
+            spec = spec.bind(param.getKey(), param.getValue());
+        }
+        return spec;
+    }
+
+    private Mono<Category> conflictOrNotFound(final Category aCategory) {
+        return databaseClient.sql(EXISTS)
+            .bind("id", CategoryIdConverter.toBytes(aCategory.getId().getValue()))
+            .map(row -> row.get("total", Long.class))
+            .one()
+            .flatMap(total -> Mono.error(total != null && total > 0
+                ? VersionConflictException.with(Category.class, aCategory.getId(), aCategory.getVersion())
+                : NotFoundException.with(Category.class, aCategory.getId())));
+    }
+
+    /**
+     * Listeners maintain in-memory structures with blocking calls, so they run off the event loop.
+     */
+    private Mono<Void> notify(final Consumer<CategoryChangeListener> anEvent) {
+        return Mono.fromRunnable(() -> changeListeners.orderedStream().forEach(anEvent))
+            .subscribeOn(Schedulers.boundedElastic())
+            .then();
+    }
+
+    private Mono<Category> notifySaved(final Category aCategory) {
+        return notify(listener -> listener.onSaved(aCategory)).thenReturn(aCategory);
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindState(
+        final DatabaseClient.GenericExecuteSpec aSpec,
+        final Category aCategory) {
+        var spec = aSpec
+            .bind("id", CategoryIdConverter.toBytes(aCategory.getId().getValue()))
+            .bind("name", aCategory.getName())
+            .bind("active", aCategory.isActive())
+            .bind("type", aCategory.getType().ordinal())
+            .bind("updatedAt", utc(aCategory.getUpdatedAt()))
+            .bind("version", aCategory.getVersion());
+        spec = aCategory.getDescription() != null
+            ? spec.bind("description", aCategory.getDescription())
+            : spec.bindNull("description", String.class);
+        return aCategory.getDeletedAt() != null
+            ? spec.bind("deletedAt", utc(aCategory.getDeletedAt()))
+            : spec.bindNull("deletedAt", LocalDateTime.class);
+    }
+
+    private static Category nextVersion(final Category aCategory) {
+        return Category.with(
+            aCategory.getId(),
+            aCategory.getName(),
+            aCategory.getDescription(),
+            aCategory.isActive(),
+            aCategory.getType(),
+            aCategory.getCreatedAt(),
+            aCategory.getUpdatedAt(),
+            aCategory.getDeletedAt(),
+            aCategory.getVersion() + 1);
+    }
+
+    private static Category toCategory(final Readable row) {
+        return Category.with(
+            CategoryID.from(CategoryIdConverter.fromBytes(row.get("id", byte[].class))),
+            row.get("name", String.class),
+            row.get("description", String.class),
+            Boolean.TRUE.equals(row.get("active", Boolean.class)),
+            CategoryType.values()[requireNonNull(row.get("type", Integer.class))],
+            instant(row, "created_at"),
+            instant(row, "updated_at"),
+            instant(row, "deleted_at"),
+            requireNonNull(row.get("version", Long.class)));
+    }
+
+    private static CategoryCursor cursor(
+        final String sort,
+        final Sort.Direction direction,
+        final Row row,
+        final boolean backward) {
+        return CategoryCursor.of(sort, direction, row.value(), row.id(), backward);
+    }
+
+    private static String idOf(final Readable row) {
+        return CategoryIdConverter.fromBytes(row.get("id", byte[].class));
+    }
+
+    /**
+     * The sort column as the JPA and JDBC gateways put it in cursors, so a cursor works against every gateway.
+     */
+    private static String cursorValue(final Readable row, final String column) {
+        if (column == null) {
+            return null;
+        }
+        return switch (column) {
+            case "id" -> idOf(row);
+            case "created_at", "updated_at" -> instant(row, column).toString();
+            default -> row.get(column, String.class);
+        };
+    }
+
+    private static CategoryListItem toListItem(final Readable row) {
+        return new CategoryListItem(
+            CategoryID.from(CategoryIdConverter.fromBytes(row.get("id", byte[].class))),
+            row.get("name", String.class),
+            row.get("description", String.class),
+            Boolean.TRUE.equals(row.get("active", Boolean.class)),
+            CategoryType.values()[requireNonNull(row.get("type", Integer.class))],
+            instant(row, "created_at"),
+            instant(row, "deleted_at"));
+    }
+
+    /**
+     * Timestamps are stored as UTC {@code DATETIME}s, the same as Connector/J writes them with {@code serverTimezone=UTC}.
+     */
+    private static LocalDateTime utc(final Instant anInstant) {
+        return LocalDateTime.ofInstant(anInstant, ZoneOffset.UTC);
+    }
+
+    private static Instant instant(final Readable row, final String column) {
+        final var aValue = row.get(column, LocalDateTime.class);
+        return aValue != null ? aValue.toInstant(ZoneOffset.UTC) : null;
+    }
+
+    private record Row(CategoryListItem item, String value, String id) {
+    }
+
+}
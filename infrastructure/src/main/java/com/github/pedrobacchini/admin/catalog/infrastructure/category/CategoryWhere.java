@@ -0,0 +1,176 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category;
+
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryFilter;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySearchQuery;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
+import com.github.pedrobacchini.admin.catalog.domain.exception.DomainException;
+import com.github.pedrobacchini.admin.catalog.domain.validation.Error;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.persistence.CategoryIdConverter;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.github.pedrobacchini.admin.catalog.infrastructure.util.SpecificationUtils.equal;
+import static com.github.pedrobacchini.admin.catalog.infrastructure.util.SpecificationUtils.range;
+
+/**
+ * Predicates of a category listing as fixed SQL fragments over the bare columns and their named bind values, so the
+ * statement text only varies with which predicates are present. The JDBC and R2DBC gateways render it as their
+ * {@code WHERE} clause, and {@link #filters} is also what the JPA gateway turns into Specifications, so every read path
+ * maps the structured filters the same way. Timestamps are bound in whatever type the driver at hand expects.
+ */
+record CategoryWhere(List<String> predicates, Map<String, Object> params, Function<Instant, Object> timestamps) {
+
+    private static final String LIKE = "(UPPER(name) LIKE :terms OR UPPER(description) LIKE :terms)";
+    private static final String MATCH_BOOLEAN = "MATCH(name, description) AGAINST (:terms IN BOOLEAN MODE)";
+    private static final String MATCH_NATURAL = "MATCH(name, description) AGAINST (:terms IN NATURAL LANGUAGE MODE)";
+    private static final String SEEK_AFTER = "(%1$s > :seekValue OR (%1$s = :seekValue AND id > :seekId))";
+    private static final String SEEK_BEFORE = "(%1$s < :seekValue OR (%1$s = :seekValue AND id < :seekId))";
+
+    static CategoryWhere of(final CategorySearchQuery aQuery, final Function<Instant, Object> timestamps) {
+        final var where = new CategoryWhere(new ArrayList<>(), new LinkedHashMap<>(), timestamps);
+        if (aQuery.hasTerms()) {
+            final var terms = aQuery.terms().trim();
+            switch (aQuery.searchMode()) {
+                case LIKE, LUCENE -> where.add(LIKE, "terms", "%" + aQuery.terms().toUpperCase() + "%");
+                case BOOLEAN -> {
+                    final var against = booleanTerms(terms);
+                    if (!against.isEmpty()) {
+                        where.add(MATCH_BOOLEAN, "terms", against);
+                    }
+                }
+                case NATURAL -> where.add(MATCH_NATURAL, "terms", terms);
+            }
+        }
+        for (final var aComparison : filters(aQuery.filter())) {
+            where.add(aComparison.sql(), aComparison.name(), where.bindable(aComparison.value()));
+        }
+        return where;
+    }
+
+    /**
+     * The structured filters as plain comparisons on the bare columns, so the {@code (active, type, ...)} composite
+     * indexes serve the equality part and the range or sort column that follows it. Ranges are half-open.
+     */
+    static List<Comparison> filters(final CategoryFilter aFilter) {
+        final var comparisons = new ArrayList<Comparison>();
+        if (aFilter.active() != null) {
+            comparisons.add(new Comparison("active", "active", "=", "active", aFilter.active()));
+        }
+        if (aFilter.type() != null) {
+            comparisons.add(new Comparison("type", "type", "=", "type", aFilter.type()));
+        }
+        if (aFilter.createdFrom() != null) {
+            comparisons.add(new Comparison("createdAt", "created_at", ">=", "createdFrom", aFilter.createdFrom()));
+        }
+        if (aFilter.createdTo() != null) {
+            comparisons.add(new Comparison("createdAt", "created_at", "<", "createdTo", aFilter.createdTo()));
+        }
+        if (aFilter.updatedFrom() != null) {
+            comparisons.add(new Comparison("updatedAt", "updated_at", ">=", "updatedFrom", aFilter.updatedFrom()));
+        }
+        if (aFilter.updatedTo() != null) {
+            comparisons.add(new Comparison("updatedAt", "updated_at", "<", "updatedTo", aFilter.updatedTo()));
+        }
+        return comparisons;
+    }
+
+    /**
+     * Turns free text into a boolean mode expression where every word is required and matched as a prefix, dropping
+     * the characters boolean mode reads as operators.
+     */
+    static String booleanTerms(final String terms) {
+        return Arrays.stream(terms.split("\\s+"))
+            .map(word -> word.replaceAll("[+\\-<>()~*\"@]", ""))
+            .filter(word -> !word.isBlank())
+            .map(word -> "+" + word + "*")
+            .collect(Collectors.joining(" "));
+    }
+
+    /**
+     * The full-text relevance of the search, to order by when no sort was requested, or {@code null} for LIKE searches.
+     */
+    String relevance() {
+        return predicates.stream()
+            .filter(aPredicate -> aPredicate.startsWith("MATCH("))
+            .findFirst()
+            .orElse(null);
+    }
+
+    /**
+     * Adds the keyset predicate selecting the rows after the cursor when scanning in the given direction.
+     */
+    CategoryWhere seek(final String column, final CategoryCursor aCursor, final boolean ascending) {
+        final var seek = new CategoryWhere(new ArrayList<>(predicates), new LinkedHashMap<>(params), timestamps);
+        final var anId = CategoryIdConverter.toBytes(aCursor.id());
+        if ("id".equals(column)) {
+            seek.add(ascending ? "id > :seekId" : "id < :seekId", "seekId", anId);
+            return seek;
+        }
+        seek.predicates.add((ascending ? SEEK_AFTER : SEEK_BEFORE).formatted(column));
+        seek.params.put("seekValue", seekValue(column, aCursor.value()));
+        seek.params.put("seekId", anId);
+        return seek;
+    }
+
+    String sql() {
+        return predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+    }
+
+    private void add(final String aPredicate, final String aName, final Object aValue) {
+        predicates.add(aPredicate);
+        params.put(aName, aValue);
+    }
+
+    private Object bindable(final Object aValue) {
+        if (aValue instanceof CategoryType aType) {
+            return aType.ordinal();
+        }
+        if (aValue instanceof Instant anInstant) {
+            return timestamps.apply(anInstant);
+        }
+        return aValue;
+    }
+
+    private Object seekValue(final String column, final String aValue) {
+        if (aValue == null) {
+            throw DomainException.with(new Error("'cursor' is invalid"));
+        }
+        if (!"created_at".equals(column) && !"updated_at".equals(column)) {
+            return aValue;
+        }
+        try {
+            return timestamps.apply(Instant.parse(aValue));
+        } catch (DateTimeParseException ex) {
+            throw DomainException.with(new Error("'cursor' is invalid"));
+        }
+    }
+
+    /**
+     * One structured filter: {@code attribute} for the JPA path, {@code column} and {@code name} for the SQL ones.
+     */
+    record Comparison(String attribute, String column, String operator, String name, Object value) {
+
+        String sql() {
+            return column + " " + operator + " :" + name;
+        }
+
+        <T> Specification<T> specification() {
+            return switch (operator) {
+                case ">=" -> range(attribute, (Instant) value, null);
+                case "<" -> range(attribute, null, (Instant) value);
+                default -> equal(attribute, value);
+            };
+        }
+
+    }
+
+}
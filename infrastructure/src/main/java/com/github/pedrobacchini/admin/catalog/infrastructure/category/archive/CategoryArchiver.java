@@ -0,0 +1,91 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.archive;
+
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.CategoryChangeListener;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.persistence.CategoryArchiveRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static com.github.pedrobacchini.admin.catalog.infrastructure.util.TransactionUtils.afterCommit;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Moves categories that have been inactive for longer than {@code category.archive.max-inactive-age} from the
+ * {@code category} table to {@code category_archive}, one chunk per transaction so the hot table is never locked for
+ * the whole run. Each chunk locks its rows while it moves them, so a category reactivated meanwhile stays in the hot
+ * table and several instances can run the job at once. Off unless {@code category.archive.enabled} is set.
+ */
+@Component
+@ConditionalOnProperty(name = "category.archive.enabled", havingValue = "true")
+public class CategoryArchiver {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CategoryArchiver.class);
+
+    private final CategoryArchiveRepository categoryArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration maxInactiveAge;
+    private final int chunkSize;
+    private final ObjectProvider<CategoryChangeListener> changeListeners;
+
+    public CategoryArchiver(
+        final CategoryArchiveRepository categoryArchiveRepository,
+        final PlatformTransactionManager transactionManager,
+        @Value("${category.archive.max-inactive-age:P180D}") final Duration maxInactiveAge,
+        @Value("${category.batch.chunk-size:1000}") final int chunkSize,
+        final ObjectProvider<CategoryChangeListener> changeListeners) {
+        this.categoryArchiveRepository = requireNonNull(categoryArchiveRepository);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxInactiveAge = requireNonNull(maxInactiveAge);
+        this.chunkSize = chunkSize;
+        this.changeListeners = requireNonNull(changeListeners);
+    }
+
+    @Scheduled(
+        initialDelayString = "${category.archive.interval:PT1H}",
+        fixedDelayString = "${category.archive.interval:PT1H}")
+    public void run() {
+        final var moved = archive(Instant.now().minus(maxInactiveAge));
+        if (moved > 0) {
+            LOG.info("Archived {} inactive categories", moved);
+        }
+    }
+
+    /**
+     * Archives every category deactivated before {@code cutoff}.
+     *
+     * @return the number of rows moved
+     */
+    public long archive(final Instant cutoff) {
+        var moved = 0L;
+        int found;
+        do {
+            final var archived = transactionTemplate.execute(status -> {
+                final var ids = categoryArchiveRepository.findArchivableIds(cutoff, chunkSize);
+                categoryArchiveRepository.moveToArchive(ids, cutoff, Instant.now());
+                // archived rows leave the hot table, so listeners drop them like a delete
+                afterCommit(() -> notifyArchived(ids));
+                return ids;
+            });
+            found = requireNonNull(archived).size();
+            moved += found;
+        } while (found == chunkSize);
+        return moved;
+    }
+
+    private void notifyArchived(final List<String> ids) {
+        final var anIds = ids.stream().map(CategoryID::from).toList();
+        changeListeners.orderedStream().forEach(listener -> listener.onDeletedAll(anIds));
+    }
+
+}
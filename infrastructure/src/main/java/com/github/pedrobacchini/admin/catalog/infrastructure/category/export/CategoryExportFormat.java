@@ -0,0 +1,126 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.dataformat.csv.CsvFactory;
+import com.fasterxml.jackson.dataformat.csv.CsvGenerator;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.github.pedrobacchini.admin.catalog.application.category.retrieve.export.ExportCategoriesOutput;
+import com.github.pedrobacchini.admin.catalog.application.category.retrieve.list.CaregoryListOutput;
+import com.github.pedrobacchini.admin.catalog.domain.exception.DomainException;
+import com.github.pedrobacchini.admin.catalog.domain.validation.Error;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Writes an export straight to the response with Jackson's streaming generator, one row at a time and with the same
+ * field names as the listing. Only the generator's own buffer is held, so memory does not grow with the export.
+ */
+public enum CategoryExportFormat {
+
+    NDJSON(MediaType.parseMediaType("application/x-ndjson")) {
+        @Override
+        JsonGenerator generator(final OutputStream out) throws IOException {
+            return JSON.createGenerator(out).setRootValueSeparator(new SerializedString("\n"));
+        }
+    },
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8")) {
+        @Override
+        JsonGenerator generator(final OutputStream out) throws IOException {
+            final CsvGenerator generator = CSV_FACTORY.createGenerator(out);
+            generator.setSchema(CSV_SCHEMA);
+            return generator;
+        }
+    };
+
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String ACTIVE = "is_active";
+    private static final String TYPE = "type";
+    private static final String CREATED_AT = "created_at";
+    private static final String DELETED_AT = "deleted_at";
+
+    private static final JsonFactory JSON = JsonFactory.builder()
+        .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+        .build();
+
+    private static final CsvFactory CSV_FACTORY = CsvFactory.builder()
+        .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+        .build();
+
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.builder()
+        .addColumn(ID)
+        .addColumn(NAME)
+        .addColumn(DESCRIPTION)
+        .addColumn(ACTIVE, CsvSchema.ColumnType.BOOLEAN)
+        .addColumn(TYPE)
+        .addColumn(CREATED_AT)
+        .addColumn(DELETED_AT)
+        .setUseHeader(true)
+        .build();
+
+    private final MediaType mediaType;
+
+    CategoryExportFormat(final MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public static CategoryExportFormat from(final String aFormat) {
+        return Arrays.stream(values())
+            .filter(format -> format.name().equalsIgnoreCase(aFormat))
+            .findFirst()
+            .orElseThrow(() -> DomainException.with(new Error("'format' must be one of ndjson or csv")));
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String fileName() {
+        return "categories." + name().toLowerCase();
+    }
+
+    /**
+     * Runs the export, writing each row as it is read.
+     *
+     * @return the number of rows written
+     */
+    public long write(final ExportCategoriesOutput anExport, final OutputStream out) throws IOException {
+        try (final var generator = generator(out)) {
+            return anExport.writeTo(item -> writeRow(generator, item));
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    abstract JsonGenerator generator(OutputStream out) throws IOException;
+
+    private static void writeRow(final JsonGenerator generator, final CaregoryListOutput item) {
+        try {
+            generator.writeStartObject();
+            generator.writeStringField(ID, item.id());
+            generator.writeStringField(NAME, item.name());
+            generator.writeStringField(DESCRIPTION, item.description());
+            generator.writeBooleanField(ACTIVE, item.isActive());
+            generator.writeStringField(TYPE, item.type().name());
+            generator.writeStringField(CREATED_AT, instant(item.createdAt()));
+            generator.writeStringField(DELETED_AT, instant(item.deletedAt()));
+            generator.writeEndObject();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String instant(final Instant anInstant) {
+        return anInstant != null ? anInstant.toString() : null;
+    }
+
+}
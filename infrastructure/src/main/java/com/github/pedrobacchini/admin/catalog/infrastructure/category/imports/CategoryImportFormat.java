@@ -0,0 +1,312 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.imports;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.csv.CsvFactory;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.github.pedrobacchini.admin.catalog.application.category.create.CreateCategoryCommand;
+import com.github.pedrobacchini.admin.catalog.application.category.create.ImportCategoryRecord;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
+import com.github.pedrobacchini.admin.catalog.domain.exception.DomainException;
+import com.github.pedrobacchini.admin.catalog.domain.validation.Error;
+import com.github.pedrobacchini.admin.catalog.domain.validation.handler.Notification;
+import io.vavr.API;
+import io.vavr.control.Either;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.LongConsumer;
+
+/**
+ * Reads an import off the request one record at a time with Jackson's streaming parser, with the same field names as
+ * a create request. Each record carries the line it starts on. A record that cannot be parsed becomes an error of its
+ * own: NDJSON carries on with the next line, while CSV stops there, since a broken quote leaves no reliable next row.
+ */
+public enum CategoryImportFormat {
+
+    NDJSON(MediaType.parseMediaType("application/x-ndjson")) {
+        @Override
+        public Iterator<ImportCategoryRecord> read(final InputStream in) {
+            return new NdjsonRecords(in);
+        }
+    },
+    CSV(MediaType.parseMediaType("text/csv")) {
+        @Override
+        public Iterator<ImportCategoryRecord> read(final InputStream in) {
+            try {
+                return new CsvRecords(in);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    };
+
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String ACTIVE = "is_active";
+    private static final String TYPE = "type";
+
+    /**
+     * Longest NDJSON line read, in characters: room for a maximum length description even with every character
+     * escaped. Longer lines are rejected without being buffered.
+     */
+    static final int MAX_LINE_LENGTH = 65_536;
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private static final CsvFactory CSV_FACTORY = CsvFactory.builder()
+        .enable(CsvParser.Feature.IGNORE_TRAILING_UNMAPPABLE)
+        .enable(CsvParser.Feature.TRIM_SPACES)
+        .build();
+
+    private final MediaType mediaType;
+
+    CategoryImportFormat(final MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public static CategoryImportFormat from(final MediaType aContentType) {
+        for (final var format : values()) {
+            if (format.mediaType.isCompatibleWith(aContentType)) {
+                return format;
+            }
+        }
+        throw DomainException.with(new Error("'Content-Type' must be application/x-ndjson or text/csv"));
+    }
+
+    /**
+     * Parses lazily: each call to {@code next()} reads one more record off the stream.
+     */
+    public abstract Iterator<ImportCategoryRecord> read(InputStream in);
+
+    /**
+     * Reads the fields of the object the parser is positioned at; unknown fields and nested values are skipped.
+     * {@code firstField} gets the line the first field starts on.
+     */
+    private static Either<Notification, CreateCategoryCommand> readRecord(
+        final JsonParser parser,
+        final LongConsumer firstField) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return API.Left(Notification.create(new Error("record should be an object")));
+        }
+        String name = null;
+        String description = null;
+        String active = null;
+        String type = null;
+        var first = true;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            if (first) {
+                firstField.accept(parser.currentTokenLocation().getLineNr());
+                first = false;
+            }
+            final var field = parser.currentName();
+            final var token = parser.nextToken();
+            if (token.isStructStart()) {
+                parser.skipChildren();
+                continue;
+            }
+            final var value = token == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+            switch (field) {
+                case NAME -> name = value;
+                case DESCRIPTION -> description = emptyToNull(value);
+                case ACTIVE -> active = emptyToNull(value);
+                case TYPE -> type = emptyToNull(value);
+                default -> {
+                }
+            }
+        }
+        return command(name, description, active, type);
+    }
+
+    private static Either<Notification, CreateCategoryCommand> command(
+        final String name,
+        final String description,
+        final String active,
+        final String type) {
+        if (active != null && !"true".equalsIgnoreCase(active) && !"false".equalsIgnoreCase(active)) {
+            return API.Left(Notification.create(new Error("'is_active' should be true or false")));
+        }
+        try {
+            return API.Right(CreateCategoryCommand.with(
+                name,
+                description,
+                active == null || Boolean.parseBoolean(active),
+                type != null ? CategoryType.from(type) : null));
+        } catch (DomainException ex) {
+            return API.Left(Notification.create(ex));
+        }
+    }
+
+    private static Either<Notification, CreateCategoryCommand> malformed(final JsonProcessingException ex) {
+        return API.Left(Notification.create(new Error("malformed record: " + ex.getOriginalMessage())));
+    }
+
+    private static String emptyToNull(final String aValue) {
+        return aValue == null || aValue.isEmpty() ? null : aValue;
+    }
+
+    /**
+     * One JSON object per line, parsed on its own so a malformed or overlong line only fails that record. Blank lines
+     * are skipped but still counted.
+     */
+    private static final class NdjsonRecords implements Iterator<ImportCategoryRecord> {
+
+        private final BufferedReader reader;
+        private final StringBuilder buffer = new StringBuilder();
+        private long lineNumber;
+        private String line;
+        private boolean tooLong;
+
+        NdjsonRecords(final InputStream in) {
+            this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                while (line == null && !tooLong) {
+                    if (!readLine()) {
+                        return false;
+                    }
+                }
+                return true;
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        public ImportCategoryRecord next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (tooLong) {
+                tooLong = false;
+                return ImportCategoryRecord.with(lineNumber, API.Left(Notification.create(
+                    new Error("line should be at most %d characters".formatted(MAX_LINE_LENGTH)))));
+            }
+            final var aLine = line;
+            line = null;
+            return ImportCategoryRecord.with(lineNumber, parse(aLine));
+        }
+
+        /**
+         * Reads the next physical line into {@code line}, or flags it as {@code tooLong} and drops it char by char
+         * instead of holding it. Blank lines leave both unset.
+         */
+        private boolean readLine() throws IOException {
+            buffer.setLength(0);
+            var c = reader.read();
+            if (c == -1) {
+                return false;
+            }
+            lineNumber++;
+            var overflow = false;
+            for (; c != -1 && c != '\n'; c = reader.read()) {
+                if (overflow) {
+                    continue;
+                }
+                buffer.append((char) c);
+                // one extra character for the \r of a \r\n line end
+                if (buffer.length() > MAX_LINE_LENGTH + 1) {
+                    overflow = true;
+                    buffer.setLength(0);
+                }
+            }
+            if (!buffer.isEmpty() && buffer.charAt(buffer.length() - 1) == '\r') {
+                buffer.setLength(buffer.length() - 1);
+            }
+            tooLong = overflow || buffer.length() > MAX_LINE_LENGTH;
+            final var aLine = buffer.toString();
+            if (!tooLong && !aLine.isBlank()) {
+                line = aLine;
+            }
+            return true;
+        }
+
+        private static Either<Notification, CreateCategoryCommand> parse(final String aLine) {
+            try (final var parser = JSON.createParser(aLine)) {
+                parser.nextToken();
+                // the line was counted while reading it
+                final var aRecord = readRecord(parser, ignored -> { });
+                if (parser.nextToken() != null) {
+                    return API.Left(Notification.create(new Error("record should be a single object per line")));
+                }
+                return aRecord;
+            } catch (JsonProcessingException ex) {
+                return malformed(ex);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+    }
+
+    /**
+     * Rows under a header line naming the columns, in any order. Missing columns are read as empty and extra ones are
+     * ignored.
+     */
+    private static final class CsvRecords implements Iterator<ImportCategoryRecord> {
+
+        private final JsonParser parser;
+        private ImportCategoryRecord pending;
+        private boolean done;
+        private long line;
+
+        CsvRecords(final InputStream in) throws IOException {
+            final var csvParser = CSV_FACTORY.createParser(in);
+            csvParser.setSchema(CsvSchema.emptySchema().withHeader());
+            this.parser = csvParser;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (pending == null && !done) {
+                advance();
+            }
+            return pending != null;
+        }
+
+        @Override
+        public ImportCategoryRecord next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final var aRecord = pending;
+            pending = null;
+            return aRecord;
+        }
+
+        private void advance() {
+            try {
+                if (parser.nextToken() == null) {
+                    done = true;
+                    return;
+                }
+                // a row is only located once its first value is read, since a quoted value may span several lines
+                line = parser.currentLocation().getLineNr();
+                final var aRecord = readRecord(parser, aLine -> line = aLine);
+                pending = ImportCategoryRecord.with(line, aRecord);
+            } catch (JsonProcessingException ex) {
+                // an unterminated quote is only noticed where the parser gave up, usually the end of the body
+                done = true;
+                pending = ImportCategoryRecord.with(parser.currentLocation().getLineNr(), malformed(ex));
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+    }
+
+}
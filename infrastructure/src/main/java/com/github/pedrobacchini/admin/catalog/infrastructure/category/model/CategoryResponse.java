@@ -13,7 +13,8 @@ public record CategoryResponse(
     CategoryType type,
     @JsonProperty("created_at") Instant createdAt,
     @JsonProperty("updated_at") Instant updatedAt,
-    @JsonProperty("deleted_at") Instant deletedAt
+    @JsonProperty("deleted_at") Instant deletedAt,
+    Long version
 ) {
 
 }
@@ -0,0 +1,8 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.model;
+
+public record CategorySuggestResponse(
+    String id,
+    String name
+) {
+
+}
@@ -0,0 +1,16 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.model;
+
+import com.github.pedrobacchini.admin.catalog.domain.validation.handler.Notification;
+
+import java.util.Map;
+
+public record CreateCategoriesResponse(
+    Map<Integer, Created> created,
+    Map<Integer, Notification> errors
+) {
+
+    public record Created(String id) {
+
+    }
+
+}
@@ -0,0 +1,227 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.persistence;
+
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Cold storage for categories that stayed inactive long enough to leave the {@code category} table.
+ */
+@Repository
+public class CategoryArchiveRepository {
+
+    private static final String COLUMNS = "id, name, description, active, type, created_at, updated_at, deleted_at, version";
+
+    private static final String ARCHIVABLE = "active = FALSE AND deleted_at < ?";
+
+    // SKIP LOCKED lets two archivers split the work instead of racing for the same rows
+    private static final String FIND_ARCHIVABLE_IDS = """
+        SELECT id FROM category
+        WHERE %s
+        ORDER BY deleted_at
+        LIMIT ?
+        FOR UPDATE SKIP LOCKED""".formatted(ARCHIVABLE);
+
+    private static final String COPY_TO_ARCHIVE = """
+        INSERT INTO category_archive (%1$s, archived_at)
+        SELECT %1$s, ? FROM category WHERE id IN (%2$s) AND %3$s""";
+
+    private static final String DELETE_ARCHIVED = "DELETE FROM category WHERE id IN (%s) AND " + ARCHIVABLE;
+
+    private static final String DELETE_FROM = "DELETE FROM %s WHERE id IN (%s)";
+
+    private static final String COPY_FROM_ARCHIVE = """
+        INSERT INTO category (%1$s)
+        SELECT %1$s FROM category_archive WHERE id IN (%2$s)""";
+
+    private static final String DELETE_AT_VERSION = "DELETE FROM category_archive WHERE id = ? AND version = ?";
+
+    private static final String FIND_IDS = "SELECT id FROM category_archive WHERE id IN (%s)";
+
+    private static final String FIND_BY_ID = "SELECT " + COLUMNS + " FROM category_archive WHERE id = ?";
+
+    private static final String FIND_WITH_ARCHIVE = """
+        SELECT %1$s FROM category WHERE %2$s
+        UNION ALL
+        SELECT %1$s FROM category_archive WHERE %2$s
+        ORDER BY %3$s %4$s, id %4$s
+        LIMIT ? OFFSET ?""";
+
+    private static final String COUNT_WITH_ARCHIVE = """
+        SELECT (SELECT COUNT(*) FROM category WHERE %1$s) + (SELECT COUNT(*) FROM category_archive WHERE %1$s)""";
+
+    private static final String TERMS_FILTER = "(UPPER(name) LIKE ? OR UPPER(description) LIKE ?)";
+    private static final String NO_FILTER = "1 = 1";
+
+    private static final RowMapper<CategoryJpaEntity> ROW_MAPPER = (rs, rowNum) -> {
+        final var entity = new CategoryJpaEntity();
+        entity.setId(CategoryIdConverter.fromBytes(rs.getBytes("id")));
+        entity.setName(rs.getString("name"));
+        entity.setDescription(rs.getString("description"));
+        entity.setActive(rs.getBoolean("active"));
+        entity.setType(CategoryType.values()[rs.getInt("type")]);
+        entity.setCreatedAt(instant(rs.getTimestamp("created_at")));
+        entity.setUpdatedAt(instant(rs.getTimestamp("updated_at")));
+        entity.setDeletedAt(instant(rs.getTimestamp("deleted_at")));
+        entity.setVersion(rs.getLong("version"));
+        return entity;
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CategoryArchiveRepository(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = requireNonNull(jdbcTemplate);
+    }
+
+    /**
+     * Ids of up to {@code limit} inactive categories deactivated before {@code cutoff}, oldest first. The rows stay
+     * locked until the surrounding transaction ends, and rows locked by another transaction are skipped.
+     */
+    public List<String> findArchivableIds(final Instant cutoff, final int limit) {
+        return jdbcTemplate.query(FIND_ARCHIVABLE_IDS,
+            (rs, rowNum) -> CategoryIdConverter.fromBytes(rs.getBytes("id")),
+            Timestamp.from(cutoff),
+            limit);
+    }
+
+    /**
+     * Copies the rows that are still archivable at {@code cutoff} into the archive and deletes them from the hot table.
+     * Must run inside the transaction that locked them through {@link #findArchivableIds}.
+     *
+     * @return the number of rows moved
+     * @throws IllegalStateException when the copy and the delete disagree, so the transaction rolls back
+     */
+    public int moveToArchive(final List<String> ids, final Instant cutoff, final Instant archivedAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        final var copyParams = new ArrayList<Object>(ids.size() + 2);
+        copyParams.add(Timestamp.from(archivedAt));
+        copyParams.addAll(Arrays.asList(binary(ids)));
+        copyParams.add(Timestamp.from(cutoff));
+        final var deleteParams = new ArrayList<>(Arrays.asList(binary(ids)));
+        deleteParams.add(Timestamp.from(cutoff));
+
+        final var copied = jdbcTemplate.update(
+            COPY_TO_ARCHIVE.formatted(COLUMNS, placeholders(ids), ARCHIVABLE), copyParams.toArray());
+        final var deleted = jdbcTemplate.update(DELETE_ARCHIVED.formatted(placeholders(ids)), deleteParams.toArray());
+        if (copied != deleted) {
+            throw new IllegalStateException(
+                "copied %d categories to the archive but deleted %d".formatted(copied, deleted));
+        }
+        return copied;
+    }
+
+    /**
+     * Moves the archived rows among {@code ids} back to the hot table as they are, keeping their {@code created_at} and
+     * {@code version}, so a following write to them behaves as on any hot row.
+     *
+     * @return the number of rows moved
+     * @throws IllegalStateException when the copy and the delete disagree, so the transaction rolls back
+     */
+    public int restoreAll(final List<String> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        final var copied = jdbcTemplate.update(COPY_FROM_ARCHIVE.formatted(COLUMNS, placeholders(ids)), binary(ids));
+        final var deleted = deleteAllById(ids);
+        if (copied != deleted) {
+            throw new IllegalStateException(
+                "copied %d categories out of the archive but deleted %d".formatted(copied, deleted));
+        }
+        return copied;
+    }
+
+    /**
+     * Deletes the archived row only while it is still at {@code version}.
+     *
+     * @return the number of rows deleted, 0 when the id is not archived or is at another version
+     */
+    public int deleteByIdAndVersion(final String anId, final long version) {
+        return jdbcTemplate.update(DELETE_AT_VERSION, CategoryIdConverter.toBytes(anId), version);
+    }
+
+    public int deleteAllById(final List<String> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(DELETE_FROM.formatted("category_archive", placeholders(ids)), binary(ids));
+    }
+
+    /**
+     * Which of {@code ids} are archived.
+     */
+    public List<String> findIds(final List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(FIND_IDS.formatted(placeholders(ids)),
+            (rs, rowNum) -> CategoryIdConverter.fromBytes(rs.getBytes("id")),
+            binary(ids));
+    }
+
+    public Optional<CategoryJpaEntity> findById(final String anId) {
+        return jdbcTemplate.query(FIND_BY_ID, ROW_MAPPER, (Object) CategoryIdConverter.toBytes(anId)).stream().findFirst();
+    }
+
+    /**
+     * Reads a window over the hot and archived rows together. {@code column} and {@code direction} are interpolated
+     * into the statement, so callers must pass whitelisted values only.
+     */
+    public List<CategoryJpaEntity> findAllWithArchive(
+        final String terms,
+        final String column,
+        final String direction,
+        final long offset,
+        final int limit) {
+        final var params = new ArrayList<>(filterParams(terms));
+        params.addAll(filterParams(terms));
+        params.add(limit);
+        params.add(offset);
+        final var sql = FIND_WITH_ARCHIVE.formatted(COLUMNS, filter(terms), column, direction);
+        return jdbcTemplate.query(sql, ROW_MAPPER, params.toArray());
+    }
+
+    public long countWithArchive(final String terms) {
+        final var params = new ArrayList<>(filterParams(terms));
+        params.addAll(filterParams(terms));
+        final var total = jdbcTemplate.queryForObject(COUNT_WITH_ARCHIVE.formatted(filter(terms)), Long.class, params.toArray());
+        return total != null ? total : 0;
+    }
+
+    private static String filter(final String terms) {
+        return terms != null && !terms.isBlank() ? TERMS_FILTER : NO_FILTER;
+    }
+
+    private static List<Object> filterParams(final String terms) {
+        if (terms == null || terms.isBlank()) {
+            return List.of();
+        }
+        final var pattern = "%" + terms.toUpperCase() + "%";
+        return List.of(pattern, pattern);
+    }
+
+    private static Object[] binary(final List<String> ids) {
+        return ids.stream().map(CategoryIdConverter::toBytes).toArray();
+    }
+
+    private static String placeholders(final List<String> ids) {
+        return String.join(", ", Collections.nCopies(ids.size(), "?"));
+    }
+
+    private static Instant instant(final Timestamp aTimestamp) {
+        return aTimestamp != null ? aTimestamp.toInstant() : null;
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.persistence;
+
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Stores the 36 character id as the 16 raw bytes of its UUID. Byte order follows the hex digits, so ordering and range
+ * scans on the column match the string form.
+ */
+@Converter
+public class CategoryIdConverter implements AttributeConverter<String, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(final String anId) {
+        return toBytes(anId);
+    }
+
+    @Override
+    public String convertToEntityAttribute(final byte[] aValue) {
+        return fromBytes(aValue);
+    }
+
+    /**
+     * Ids that are not UUIDs cannot have been stored, so they are mapped to a name-based (version 3) UUID: lookups with
+     * them still run and simply find nothing, because stored ids are random or time-ordered ones.
+     */
+    public static byte[] toBytes(final String anId) {
+        if (anId == null) {
+            return null;
+        }
+        final var uuid = CategoryID.from(anId).isUuid()
+            ? UUID.fromString(anId)
+            : UUID.nameUUIDFromBytes(anId.getBytes(StandardCharsets.UTF_8));
+        return ByteBuffer.allocate(16)
+            .putLong(uuid.getMostSignificantBits())
+            .putLong(uuid.getLeastSignificantBits())
+            .array();
+    }
+
+    public static String fromBytes(final byte[] aValue) {
+        if (aValue == null) {
+            return null;
+        }
+        final var buffer = ByteBuffer.wrap(aValue);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+
+}
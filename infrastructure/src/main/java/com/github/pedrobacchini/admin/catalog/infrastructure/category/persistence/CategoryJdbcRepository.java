@@ -0,0 +1,114 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.persistence;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Set-based writes that JPA would otherwise issue row by row.
+ */
+@Repository
+public class CategoryJdbcRepository {
+
+    private static final String INSERT = """
+        INSERT INTO category (id, name, description, active, type, created_at, updated_at, deleted_at, version)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    private static final String UPSERT = """
+        INSERT INTO category (id, name, description, active, type, created_at, updated_at, deleted_at, version)
+        VALUES %s
+        ON DUPLICATE KEY UPDATE
+            name = VALUES(name),
+            description = VALUES(description),
+            active = VALUES(active),
+            type = VALUES(type),
+            updated_at = VALUES(updated_at),
+            deleted_at = CASE WHEN VALUES(active) THEN NULL ELSE COALESCE(deleted_at, VALUES(deleted_at)) END,
+            version = version + 1""";
+
+    private static final String DELETE_BY_IDS = "DELETE FROM category WHERE id IN (%s)";
+
+    private static final String ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMNS = 9;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CategoryJdbcRepository(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = requireNonNull(jdbcTemplate);
+    }
+
+    /**
+     * Sends every row as one JDBC batch, which Connector/J rewrites into multi-row inserts when
+     * {@code rewriteBatchedStatements} is on.
+     */
+    public void insertAll(final List<CategoryJpaEntity> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT, entities, entities.size(), CategoryJdbcRepository::bind);
+    }
+
+    /**
+     * Writes every row in one multi-row statement so the affected-rows count covers the whole set: MySQL reports 1
+     * per inserted row and 2 per updated row, which is how callers tell the two apart. {@code created_at} is kept
+     * on update and an already deactivated row keeps its original {@code deleted_at}.
+     *
+     * @return the affected-rows count of the statement
+     */
+    public int upsertAll(final List<CategoryJpaEntity> entities) {
+        if (entities.isEmpty()) {
+            return 0;
+        }
+        final var sql = UPSERT.formatted(String.join(", ", Collections.nCopies(entities.size(), ROW)));
+        return jdbcTemplate.update(sql, ps -> {
+            for (var i = 0; i < entities.size(); i++) {
+                bind(ps, i * COLUMNS, entities.get(i));
+            }
+        });
+    }
+
+    /**
+     * Deletes by primary key without loading the rows first.
+     *
+     * @return the number of rows deleted
+     */
+    public int deleteAllById(final List<String> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        final var sql = DELETE_BY_IDS.formatted(String.join(", ", Collections.nCopies(ids.size(), "?")));
+        return jdbcTemplate.update(sql, ids.stream().map(CategoryIdConverter::toBytes).toArray());
+    }
+
+    private static void bind(final PreparedStatement ps, final CategoryJpaEntity entity) throws SQLException {
+        bind(ps, 0, entity);
+    }
+
+    private static void bind(
+        final PreparedStatement ps,
+        final int offset,
+        final CategoryJpaEntity entity) throws SQLException {
+        ps.setBytes(offset + 1, CategoryIdConverter.toBytes(entity.getId()));
+        ps.setString(offset + 2, entity.getName());
+        ps.setString(offset + 3, entity.getDescription());
+        ps.setBoolean(offset + 4, entity.isActive());
+        ps.setInt(offset + 5, entity.getType().ordinal());
+        ps.setTimestamp(offset + 6, timestamp(entity.getCreatedAt()));
+        ps.setTimestamp(offset + 7, timestamp(entity.getUpdatedAt()));
+        ps.setTimestamp(offset + 8, timestamp(entity.getDeletedAt()));
+        ps.setLong(offset + 9, entity.getVersion());
+    }
+
+    private static Timestamp timestamp(final Instant anInstant) {
+        return anInstant != null ? Timestamp.from(anInstant) : null;
+    }
+
+}
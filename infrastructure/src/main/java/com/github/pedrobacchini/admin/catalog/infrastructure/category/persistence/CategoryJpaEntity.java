@@ -4,6 +4,7 @@ import com.github.pedrobacchini.admin.catalog.domain.category.Category;
 import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
 import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -23,6 +24,8 @@ import java.time.Instant;
 public class CategoryJpaEntity {
 
     @Id
+    @Convert(converter = CategoryIdConverter.class)
+    @Column(name = "id", columnDefinition = "BINARY(16)")
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -47,6 +50,10 @@ public class CategoryJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    // compared and incremented by the conditional update statements, not by Hibernate
+    @Column(name = "version", nullable = false)
+    private long version;
+
     public CategoryJpaEntity() {
     }
 
@@ -58,7 +65,8 @@ public class CategoryJpaEntity {
         final CategoryType type,
         final Instant createdAt,
         final Instant updatedAt,
-        final Instant deletedAt) {
+        final Instant deletedAt,
+        final long version) {
         this.id = id;
         this.name = name;
         this.description = description;
@@ -67,6 +75,7 @@ public class CategoryJpaEntity {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
+        this.version = version;
     }
 
     public static CategoryJpaEntity from(final Category category) {
@@ -78,7 +87,8 @@ public class CategoryJpaEntity {
             category.getType(),
             category.getCreatedAt(),
             category.getUpdatedAt(),
-            category.getDeletedAt()
+            category.getDeletedAt(),
+            category.getVersion()
         );
     }
 
@@ -91,7 +101,8 @@ public class CategoryJpaEntity {
             getType(),
             getCreatedAt(),
             getUpdatedAt(),
-            getDeletedAt());
+            getDeletedAt(),
+            getVersion());
     }
 
     public String getId() {
@@ -158,5 +169,13 @@ public class CategoryJpaEntity {
         this.type = type;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(final long version) {
+        this.version = version;
+    }
+
 }
 
@@ -1,12 +1,53 @@
 package com.github.pedrobacchini.admin.catalog.infrastructure.category.persistence;
 
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
+import java.time.Instant;
 
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String>, CategoryRepositoryCustom {
+
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
     Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Pageable page);
 
+    long count(Specification<CategoryJpaEntity> whereClause);
+
+    /**
+     * Writes the mutable columns of one row with a single {@code UPDATE}, instead of the SELECT plus UPDATE that
+     * {@code save} issues to merge a detached entity. The row is only touched while it is still at {@code version},
+     * which is bumped in the same statement, so concurrent writers need no lock.
+     *
+     * @return the number of rows updated, 0 when the id is not in the hot table or is at another version
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE CategoryJpaEntity c
+        SET c.name = :name,
+            c.description = :description,
+            c.active = :active,
+            c.type = :type,
+            c.updatedAt = :updatedAt,
+            c.deletedAt = :deletedAt,
+            c.version = c.version + 1
+        WHERE c.id = :id AND c.version = :version""")
+    int updateState(
+        @Param("id") String id,
+        @Param("name") String name,
+        @Param("description") String description,
+        @Param("active") boolean active,
+        @Param("type") CategoryType type,
+        @Param("updatedAt") Instant updatedAt,
+        @Param("deletedAt") Instant deletedAt,
+        @Param("version") long version);
+
 }
@@ -0,0 +1,33 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.persistence;
+
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface CategoryRepositoryCustom {
+
+    /**
+     * Reads a window of rows without issuing the {@code COUNT(*)} query a {@code Page} requires.
+     */
+    List<CategoryJpaEntity> findSlice(Specification<CategoryJpaEntity> whereClause, Sort sort, long offset, int limit);
+
+    /**
+     * Reads a window of rows as tuples holding only the given attributes, each aliased by its attribute name. Nothing
+     * is attached to the persistence context.
+     */
+    List<Tuple> findTuples(
+        Specification<CategoryJpaEntity> whereClause,
+        List<String> attributes,
+        Sort sort,
+        long offset,
+        int limit);
+
+    /**
+     * Reads only the ids of up to {@code limit} matching rows and locks those rows until the surrounding transaction
+     * ends, so they still match when that transaction writes them.
+     */
+    List<String> findIdsForUpdate(Specification<CategoryJpaEntity> whereClause, int limit);
+
+}
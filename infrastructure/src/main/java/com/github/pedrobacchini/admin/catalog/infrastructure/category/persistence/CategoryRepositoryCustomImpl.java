@@ -0,0 +1,103 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+public class CategoryRepositoryCustomImpl implements CategoryRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    public CategoryRepositoryCustomImpl(final EntityManager entityManager) {
+        this.entityManager = requireNonNull(entityManager);
+    }
+
+    @Override
+    public List<CategoryJpaEntity> findSlice(
+        final Specification<CategoryJpaEntity> whereClause,
+        final Sort sort,
+        final long offset,
+        final int limit) {
+        final var cb = entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(CategoryJpaEntity.class);
+        final var root = query.from(CategoryJpaEntity.class);
+
+        if (whereClause != null) {
+            final var predicate = whereClause.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        query.select(root);
+        if (sort.isSorted()) {
+            query.orderBy(toOrders(sort, root, cb));
+        }
+
+        // rows are only mapped to aggregates, so skip the dirty-checking snapshot per entity
+        return entityManager.createQuery(query)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .setFirstResult(Math.toIntExact(offset))
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    @Override
+    public List<Tuple> findTuples(
+        final Specification<CategoryJpaEntity> whereClause,
+        final List<String> attributes,
+        final Sort sort,
+        final long offset,
+        final int limit) {
+        final var cb = entityManager.getCriteriaBuilder();
+        final var query = cb.createTupleQuery();
+        final var root = query.from(CategoryJpaEntity.class);
+
+        if (whereClause != null) {
+            final var predicate = whereClause.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        query.multiselect(attributes.stream()
+            .<Selection<?>>map(attribute -> root.get(attribute).alias(attribute))
+            .toList());
+        if (sort.isSorted()) {
+            query.orderBy(toOrders(sort, root, cb));
+        }
+
+        return entityManager.createQuery(query)
+            .setFirstResult(Math.toIntExact(offset))
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    @Override
+    public List<String> findIdsForUpdate(final Specification<CategoryJpaEntity> whereClause, final int limit) {
+        final var cb = entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(String.class);
+        final var root = query.from(CategoryJpaEntity.class);
+
+        if (whereClause != null) {
+            final var predicate = whereClause.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        query.select(root.get("id"));
+
+        return entityManager.createQuery(query)
+            .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+}
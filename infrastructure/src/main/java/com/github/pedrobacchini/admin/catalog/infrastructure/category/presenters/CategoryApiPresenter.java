@@ -1,9 +1,16 @@
 package com.github.pedrobacchini.admin.catalog.infrastructure.category.presenters;
 
+import com.github.pedrobacchini.admin.catalog.application.category.create.CreateCategoriesOutput;
 import com.github.pedrobacchini.admin.catalog.application.category.retrieve.get.CategoryOutput;
 import com.github.pedrobacchini.admin.catalog.application.category.retrieve.list.CaregoryListOutput;
+import com.github.pedrobacchini.admin.catalog.application.category.retrieve.suggest.CategorySuggestOutput;
 import com.github.pedrobacchini.admin.catalog.infrastructure.category.model.CategoryResponse;
 import com.github.pedrobacchini.admin.catalog.infrastructure.category.model.CategoryListResponse;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.model.CategorySuggestResponse;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.model.CreateCategoriesResponse;
+
+import java.util.Map;
+import java.util.stream.Collectors;
 
 public interface CategoryApiPresenter {
 
@@ -16,7 +23,8 @@ public interface CategoryApiPresenter {
             categoryOutput.type(),
             categoryOutput.createdAt(),
             categoryOutput.updatedAt(),
-            categoryOutput.deletedAt()
+            categoryOutput.deletedAt(),
+            categoryOutput.version()
         );
     }
 
@@ -31,4 +39,16 @@ public interface CategoryApiPresenter {
             categoryOutput.deletedAt()
         );
     }
+
+    static CategorySuggestResponse present(final CategorySuggestOutput categoryOutput) {
+        return new CategorySuggestResponse(categoryOutput.id(), categoryOutput.name());
+    }
+
+    static CreateCategoriesResponse present(final CreateCategoriesOutput output) {
+        final Map<Integer, CreateCategoriesResponse.Created> created = output.created().entrySet().stream()
+            .collect(Collectors.toMap(
+                Map.Entry::getKey,
+                entry -> new CreateCategoriesResponse.Created(entry.getValue().id())));
+        return new CreateCategoriesResponse(created, output.errors());
+    }
 }
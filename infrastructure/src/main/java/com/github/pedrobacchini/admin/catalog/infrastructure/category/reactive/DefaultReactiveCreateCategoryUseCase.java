@@ -0,0 +1,46 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive;
+
+import com.github.pedrobacchini.admin.catalog.application.category.create.CreateCategoryCommand;
+import com.github.pedrobacchini.admin.catalog.application.category.create.CreateCategoryOutput;
+import com.github.pedrobacchini.admin.catalog.domain.IdGenerator;
+import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+import com.github.pedrobacchini.admin.catalog.domain.validation.handler.Notification;
+import io.vavr.API;
+import io.vavr.control.Either;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+public class DefaultReactiveCreateCategoryUseCase extends ReactiveCreateCategoryUseCase {
+
+    private final ReactiveCategoryGateway categoryGateway;
+    private final IdGenerator idGenerator;
+
+    public DefaultReactiveCreateCategoryUseCase(
+        final ReactiveCategoryGateway categoryGateway,
+        final IdGenerator idGenerator) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.idGenerator = Objects.requireNonNull(idGenerator);
+    }
+
+    @Override
+    public Mono<Either<Notification, CreateCategoryOutput>> execute(final CreateCategoryCommand aCommand) {
+        final var notification = Notification.create();
+        final var aCategory = Category.newCategory(
+            CategoryID.from(idGenerator.next()),
+            aCommand.name(),
+            aCommand.description(),
+            aCommand.isActive(),
+            aCommand.type());
+        aCategory.validate(notification);
+
+        if (notification.hasError()) {
+            return Mono.just(API.Left(notification));
+        }
+        return categoryGateway.create(aCategory)
+            .<Either<Notification, CreateCategoryOutput>>map(created -> API.Right(CreateCategoryOutput.from(created)))
+            .onErrorResume(ex -> Mono.just(API.Left(Notification.create(ex))));
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive;
+
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+public class DefaultReactiveDeleteCategoryUseCase extends ReactiveDeleteCategoryUseCase {
+
+    private final ReactiveCategoryGateway categoryGateway;
+
+    public DefaultReactiveDeleteCategoryUseCase(final ReactiveCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Mono<Void> execute(final String anId) {
+        return this.categoryGateway.deleteById(CategoryID.from(anId));
+    }
+
+}
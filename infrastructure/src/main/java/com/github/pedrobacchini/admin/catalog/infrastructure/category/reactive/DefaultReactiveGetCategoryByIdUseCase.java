@@ -0,0 +1,27 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive;
+
+import com.github.pedrobacchini.admin.catalog.application.category.retrieve.get.CategoryOutput;
+import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+import com.github.pedrobacchini.admin.catalog.domain.exception.NotFoundException;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+public class DefaultReactiveGetCategoryByIdUseCase extends ReactiveGetCategoryByIdUseCase {
+
+    private final ReactiveCategoryGateway categoryGateway;
+
+    public DefaultReactiveGetCategoryByIdUseCase(final ReactiveCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Mono<CategoryOutput> execute(final String anId) {
+        final var anCategoryID = CategoryID.from(anId);
+        return this.categoryGateway.findById(anCategoryID)
+            .map(CategoryOutput::from)
+            .switchIfEmpty(Mono.error(() -> NotFoundException.with(Category.class, anCategoryID)));
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive;
+
+import com.github.pedrobacchini.admin.catalog.application.category.retrieve.list.CaregoryListOutput;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySearchQuery;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.Pagination;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+public class DefaultReactiveListCategoriesUseCase extends ReactiveListCategoriesUseCase {
+
+    private final ReactiveCategoryGateway categoryGateway;
+
+    public DefaultReactiveListCategoriesUseCase(final ReactiveCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Mono<Pagination<CaregoryListOutput>> execute(final CategorySearchQuery aQuery) {
+        return this.categoryGateway.findAllListItems(aQuery)
+            .map(page -> page.map(CaregoryListOutput::from));
+    }
+
+}
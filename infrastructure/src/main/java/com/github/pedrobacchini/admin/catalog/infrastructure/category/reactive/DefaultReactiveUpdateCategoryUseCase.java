@@ -0,0 +1,70 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive;
+
+import com.github.pedrobacchini.admin.catalog.application.category.update.DefaultUpdateCategoryUseCase;
+import com.github.pedrobacchini.admin.catalog.application.category.update.UpdateCategoryCommand;
+import com.github.pedrobacchini.admin.catalog.application.category.update.UpdateCategoryOutput;
+import com.github.pedrobacchini.admin.catalog.application.category.update.UpdateRetryPolicy;
+import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+import com.github.pedrobacchini.admin.catalog.domain.exception.NotFoundException;
+import com.github.pedrobacchini.admin.catalog.domain.exception.VersionConflictException;
+import com.github.pedrobacchini.admin.catalog.domain.validation.handler.Notification;
+import io.vavr.API;
+import io.vavr.control.Either;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+public class DefaultReactiveUpdateCategoryUseCase extends ReactiveUpdateCategoryUseCase {
+
+    private final ReactiveCategoryGateway categoryGateway;
+    private final UpdateRetryPolicy retryPolicy;
+
+    public DefaultReactiveUpdateCategoryUseCase(
+        final ReactiveCategoryGateway categoryGateway,
+        final UpdateRetryPolicy retryPolicy) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.retryPolicy = Objects.requireNonNull(retryPolicy);
+    }
+
+    /**
+     * Same retry rules as {@link DefaultUpdateCategoryUseCase}, waiting with a timer instead of a sleeping thread.
+     */
+    @Override
+    public Mono<Either<Notification, UpdateCategoryOutput>> execute(final UpdateCategoryCommand aCommand) {
+        return execute(aCommand, 1);
+    }
+
+    private Mono<Either<Notification, UpdateCategoryOutput>> execute(
+        final UpdateCategoryCommand aCommand,
+        final int anAttempt) {
+        return attempt(aCommand).onErrorResume(VersionConflictException.class, ex ->
+            aCommand.hasExpectedVersion() || !retryPolicy.canRetry(anAttempt)
+                ? Mono.error(ex)
+                : Mono.delay(retryPolicy.delay(anAttempt)).then(execute(aCommand, anAttempt + 1)));
+    }
+
+    private Mono<Either<Notification, UpdateCategoryOutput>> attempt(final UpdateCategoryCommand aCommand) {
+        final var anId = CategoryID.from(aCommand.id());
+        return categoryGateway.findById(anId)
+            .switchIfEmpty(Mono.error(() -> NotFoundException.with(Category.class, anId)))
+            .flatMap(aCategory -> {
+                if (aCommand.hasExpectedVersion() && aCommand.expectedVersion() != aCategory.getVersion()) {
+                    return Mono.error(VersionConflictException.with(Category.class, anId, aCommand.expectedVersion()));
+                }
+                final var notification = Notification.create();
+                aCategory.update(aCommand.name(), aCommand.description(), aCommand.isActive())
+                    .validate(notification);
+                return notification.hasError() ? Mono.just(API.Left(notification)) : update(aCategory);
+            });
+    }
+
+    private Mono<Either<Notification, UpdateCategoryOutput>> update(final Category aCategory) {
+        return categoryGateway.update(aCategory)
+            .<Either<Notification, UpdateCategoryOutput>>map(updated -> API.Right(UpdateCategoryOutput.from(updated)))
+            .onErrorResume(ex -> ex instanceof VersionConflictException
+                ? Mono.error(ex)
+                : Mono.just(API.Left(Notification.create(ex))));
+    }
+
+}
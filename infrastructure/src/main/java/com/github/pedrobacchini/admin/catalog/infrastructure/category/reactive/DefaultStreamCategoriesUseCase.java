@@ -0,0 +1,23 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive;
+
+import com.github.pedrobacchini.admin.catalog.application.category.retrieve.list.CaregoryListOutput;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySearchQuery;
+import reactor.core.publisher.Flux;
+
+import java.util.Objects;
+
+public class DefaultStreamCategoriesUseCase extends StreamCategoriesUseCase {
+
+    private final ReactiveCategoryGateway categoryGateway;
+
+    public DefaultStreamCategoriesUseCase(final ReactiveCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Flux<CaregoryListOutput> execute(final CategorySearchQuery aQuery) {
+        return this.categoryGateway.streamListItems(aQuery)
+            .map(CaregoryListOutput::from);
+    }
+
+}
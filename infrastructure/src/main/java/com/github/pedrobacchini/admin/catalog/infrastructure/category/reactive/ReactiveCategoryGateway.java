@@ -0,0 +1,34 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive;
+
+import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryGateway;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryListItem;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySearchQuery;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.Pagination;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of the single category operations of {@link CategoryGateway}, kept on the adapter side so
+ * the domain does not depend on Reactor. Failures are signalled as errors with the same domain exceptions. Batch
+ * creation, upserts, bulk deletes, suggestions, exports and imports have no reactive counterpart; the reactive API
+ * answers them with {@code 501 Not Implemented}.
+ */
+public interface ReactiveCategoryGateway {
+
+    Mono<Category> create(Category aCategory);
+
+    Mono<Void> deleteById(CategoryID anId);
+
+    Mono<Category> findById(CategoryID anId);
+
+    Mono<Category> update(Category aCategory);
+
+    Mono<Pagination<CategoryListItem>> findAllListItems(CategorySearchQuery aQuery);
+
+    /**
+     * Every row matching the query in its sort order, ignoring page and perPage, emitted as the subscriber requests it.
+     */
+    Flux<CategoryListItem> streamListItems(CategorySearchQuery aQuery);
+}
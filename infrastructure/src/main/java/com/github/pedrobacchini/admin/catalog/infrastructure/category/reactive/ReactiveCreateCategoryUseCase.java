@@ -0,0 +1,13 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive;
+
+import com.github.pedrobacchini.admin.catalog.application.UseCase;
+import com.github.pedrobacchini.admin.catalog.application.category.create.CreateCategoryCommand;
+import com.github.pedrobacchini.admin.catalog.application.category.create.CreateCategoryOutput;
+import com.github.pedrobacchini.admin.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+import reactor.core.publisher.Mono;
+
+public abstract class ReactiveCreateCategoryUseCase
+    extends UseCase<CreateCategoryCommand, Mono<Either<Notification, CreateCategoryOutput>>> {
+
+}
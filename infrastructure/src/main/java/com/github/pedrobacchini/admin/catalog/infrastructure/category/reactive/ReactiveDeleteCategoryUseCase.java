@@ -0,0 +1,8 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive;
+
+import com.github.pedrobacchini.admin.catalog.application.UseCase;
+import reactor.core.publisher.Mono;
+
+public abstract class ReactiveDeleteCategoryUseCase extends UseCase<String, Mono<Void>> {
+
+}
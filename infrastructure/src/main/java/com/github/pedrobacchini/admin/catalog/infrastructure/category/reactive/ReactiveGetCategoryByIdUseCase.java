@@ -0,0 +1,9 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive;
+
+import com.github.pedrobacchini.admin.catalog.application.UseCase;
+import com.github.pedrobacchini.admin.catalog.application.category.retrieve.get.CategoryOutput;
+import reactor.core.publisher.Mono;
+
+public abstract class ReactiveGetCategoryByIdUseCase extends UseCase<String, Mono<CategoryOutput>> {
+
+}
@@ -0,0 +1,12 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive;
+
+import com.github.pedrobacchini.admin.catalog.application.UseCase;
+import com.github.pedrobacchini.admin.catalog.application.category.retrieve.list.CaregoryListOutput;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySearchQuery;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.Pagination;
+import reactor.core.publisher.Mono;
+
+public abstract class ReactiveListCategoriesUseCase
+    extends UseCase<CategorySearchQuery, Mono<Pagination<CaregoryListOutput>>> {
+
+}
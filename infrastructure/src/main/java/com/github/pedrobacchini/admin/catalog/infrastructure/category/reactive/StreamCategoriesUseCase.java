@@ -0,0 +1,10 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive;
+
+import com.github.pedrobacchini.admin.catalog.application.UseCase;
+import com.github.pedrobacchini.admin.catalog.application.category.retrieve.list.CaregoryListOutput;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySearchQuery;
+import reactor.core.publisher.Flux;
+
+public abstract class StreamCategoriesUseCase extends UseCase<CategorySearchQuery, Flux<CaregoryListOutput>> {
+
+}
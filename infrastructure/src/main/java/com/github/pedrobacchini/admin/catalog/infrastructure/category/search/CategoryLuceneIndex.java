@@ -0,0 +1,402 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.search;
+
+import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+import com.github.pedrobacchini.admin.catalog.domain.exception.DomainException;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.Pagination;
+import com.github.pedrobacchini.admin.catalog.domain.validation.Error;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.CategoryChangeListener;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.persistence.CategoryIdConverter;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * In-process full-text index over category names and descriptions. Writes arrive through
+ * {@link CategoryChangeListener} and are only buffered in the writer, so the notifying request never waits on a reopen;
+ * a background thread reopens the searcher at least every {@code category.search.lucene.refresh-interval}, which bounds
+ * how long a write takes to become searchable. The index is only committed on rebuild and shutdown, stamped with the
+ * checksum of the table it was built from so a restart can tell whether it is still current.
+ * <p>
+ * Only this instance's writes reach the index, so it is off unless {@code category.search.lucene.enabled} is set, which
+ * is only safe with a single writer to the table. Shutdown never stamps a fresh table checksum, which would certify
+ * rows written elsewhere as indexed; it keeps the checksum of the last rebuild, so any write since then, from here or
+ * anywhere else, makes the next start rebuild.
+ */
+@Component
+@ConditionalOnProperty(name = "category.search.lucene.enabled", havingValue = "true")
+public class CategoryLuceneIndex implements CategoryChangeListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CategoryLuceneIndex.class);
+
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String NAME_SORT = "name_sort";
+    private static final String DESCRIPTION = "description";
+    private static final String CREATED_AT = "created_at";
+    private static final String UPDATED_AT = "updated_at";
+    private static final String CHECKSUM = "checksum";
+    private static final String STALE = "stale";
+
+    private static final String SELECT_CATEGORIES =
+        "SELECT id, name, description, created_at, updated_at FROM category";
+    private static final String SELECT_CHECKSUM = "SELECT COUNT(*), MAX(updated_at) FROM category";
+
+    private static final Map<String, SortField.Type> SORTABLE = Map.of(
+        "name", SortField.Type.STRING,
+        "createdAt", SortField.Type.LONG,
+        "updatedAt", SortField.Type.LONG);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+    // listener writes share the writer, a rebuild needs it to itself so no write lands between its delete and re-add
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+    private final AtomicLong lastWrite = new AtomicLong();
+
+    private volatile boolean inSync = true;
+    // checksum of the table the index was last built from, or found to match on start
+    private volatile String builtFrom = STALE;
+
+    public CategoryLuceneIndex(
+        final JdbcTemplate jdbcTemplate,
+        @Value("${category.search.lucene.path}") final String path,
+        @Value("${category.search.lucene.refresh-interval:1s}") final Duration refreshInterval,
+        @Value("${category.jdbc.fetch-size:1000}") final int fetchSize) {
+        this.jdbcTemplate = requireNonNull(jdbcTemplate);
+        this.fetchSize = fetchSize;
+        try {
+            this.directory = new MMapDirectory(Path.of(path));
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        this.reopenThread = new ControlledRealTimeReopenThread<>(
+            writer, searcherManager, refreshInterval.toMillis() / 1000.0, 0.01);
+        this.reopenThread.setName("category-index-reopen");
+        this.reopenThread.setDaemon(true);
+        this.reopenThread.start();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verify() {
+        final var expected = checksum();
+        final var actual = storedChecksum();
+        if (!expected.equals(actual)) {
+            LOG.info("Category index checksum {} does not match table checksum {}, rebuilding", actual, expected);
+            rebuild();
+            return;
+        }
+        builtFrom = expected;
+    }
+
+    /**
+     * Replaces the whole index with the current contents of the {@code category} table, streaming the rows.
+     */
+    public void rebuild() {
+        rebuildLock.writeLock().lock();
+        try {
+            final var aChecksum = checksum();
+            writer.deleteAll();
+            jdbcTemplate.query(
+                connection -> {
+                    final var statement = connection.prepareStatement(
+                        SELECT_CATEGORIES,
+                        ResultSet.TYPE_FORWARD_ONLY,
+                        ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(fetchSize);
+                    return statement;
+                },
+                (RowCallbackHandler) rs -> add(rs));
+            commit(aChecksum);
+            searcherManager.maybeRefreshBlocking();
+            builtFrom = aChecksum;
+            inSync = true;
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onSaved(final Category aCategory) {
+        onSavedAll(List.of(aCategory));
+    }
+
+    @Override
+    public void onSavedAll(final List<Category> aCategories) {
+        apply(() -> {
+            var sequence = 0L;
+            for (final var aCategory : aCategories) {
+                sequence = writer.updateDocument(new Term(ID, aCategory.getId().getValue()), document(aCategory));
+            }
+            return sequence;
+        });
+    }
+
+    @Override
+    public void onDeleted(final CategoryID anId) {
+        onDeletedAll(List.of(anId));
+    }
+
+    @Override
+    public void onDeletedAll(final List<CategoryID> anIds) {
+        final var terms = anIds.stream().map(anId -> new Term(ID, anId.getValue())).toArray(Term[]::new);
+        apply(() -> writer.deleteDocuments(terms));
+    }
+
+    /**
+     * Waits until every write applied so far is visible to {@link #search}, instead of the next scheduled reopen.
+     */
+    public void awaitSearchable() {
+        try {
+            reopenThread.waitForGeneration(lastWrite.get());
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Resolves one page of ids. Every word in {@code terms} must prefix-match the name or the description; without a
+     * {@code sort} hits are ordered by relevance, name matches weighing more.
+     */
+    public CategorySearchHits search(
+        final String terms,
+        final String sort,
+        final Sort.Direction direction,
+        final long offset,
+        final int limit,
+        final boolean countTotal) {
+        final var query = query(terms);
+        final var luceneSort = sort(sort, direction);
+        try {
+            final var searcher = searcherManager.acquire();
+            try {
+                final var topDocs = searcher.search(query, Math.toIntExact(offset + limit + 1), luceneSort);
+                final var scoreDocs = topDocs.scoreDocs;
+                final var ids = new ArrayList<String>(limit);
+                for (var i = (int) offset; i < Math.min(scoreDocs.length, offset + limit); i++) {
+                    ids.add(searcher.doc(scoreDocs[i].doc).get(ID));
+                }
+                return new CategorySearchHits(
+                    ids,
+                    scoreDocs.length > offset + limit,
+                    countTotal ? searcher.count(query) : Pagination.UNKNOWN_TOTAL);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        try {
+            commit(inSync ? builtFrom : STALE);
+        } finally {
+            reopenThread.close();
+            searcherManager.close();
+            writer.close();
+            directory.close();
+        }
+    }
+
+    private void apply(final IndexOperation operation) {
+        rebuildLock.readLock().lock();
+        try {
+            final var sequence = operation.run();
+            lastWrite.accumulateAndGet(sequence, Math::max);
+        } catch (final IOException | RuntimeException ex) {
+            // the table is the source of truth; a missed write only costs a rebuild
+            inSync = false;
+            LOG.warn("Could not apply a category change to the search index", ex);
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    private void add(final ResultSet rs) throws SQLException {
+        try {
+            writer.addDocument(document(
+                CategoryIdConverter.fromBytes(rs.getBytes("id")),
+                rs.getString("name"),
+                rs.getString("description"),
+                rs.getTimestamp("created_at").toInstant(),
+                rs.getTimestamp("updated_at").toInstant()));
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void commit(final String aChecksum) throws IOException {
+        writer.setLiveCommitData(Map.of(CHECKSUM, aChecksum).entrySet());
+        writer.commit();
+    }
+
+    private String checksum() {
+        return jdbcTemplate.queryForObject(SELECT_CHECKSUM, (rs, rowNum) -> {
+            final var maxUpdatedAt = rs.getTimestamp(2);
+            return rs.getLong(1) + "@" + (maxUpdatedAt != null ? maxUpdatedAt.toInstant() : "");
+        });
+    }
+
+    private String storedChecksum() {
+        try {
+            if (!DirectoryReader.indexExists(directory)) {
+                return null;
+            }
+            return SegmentInfos.readLatestCommit(directory).getUserData().get(CHECKSUM);
+        } catch (final IOException ex) {
+            return null;
+        }
+    }
+
+    private Query query(final String terms) {
+        if (terms == null || terms.isBlank()) {
+            return new MatchAllDocsQuery();
+        }
+        final var tokens = tokens(terms);
+        if (tokens.isEmpty()) {
+            return new MatchNoDocsQuery();
+        }
+        final var builder = new BooleanQuery.Builder();
+        for (final var token : tokens) {
+            builder.add(new BooleanQuery.Builder()
+                .add(new BoostQuery(new PrefixQuery(new Term(NAME, token)), 2f), BooleanClause.Occur.SHOULD)
+                .add(new PrefixQuery(new Term(DESCRIPTION, token)), BooleanClause.Occur.SHOULD)
+                .build(), BooleanClause.Occur.MUST);
+        }
+        return builder.build();
+    }
+
+    private List<String> tokens(final String terms) {
+        final var tokens = new ArrayList<String>();
+        try (var stream = analyzer.tokenStream(NAME, terms)) {
+            final var term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            stream.end();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return tokens;
+    }
+
+    private static org.apache.lucene.search.Sort sort(final String sort, final Sort.Direction direction) {
+        final var reverse = direction.isDescending();
+        if (sort == null) {
+            return new org.apache.lucene.search.Sort(SortField.FIELD_SCORE, new SortField(ID, SortField.Type.STRING));
+        }
+        final var type = SORTABLE.get(sort);
+        if (type == null) {
+            throw DomainException.with(new Error("'sort' must be one of name, createdAt or updatedAt for lucene search"));
+        }
+        final var field = switch (sort) {
+            case "name" -> NAME_SORT;
+            case "createdAt" -> CREATED_AT;
+            default -> UPDATED_AT;
+        };
+        return new org.apache.lucene.search.Sort(
+            new SortField(field, type, reverse),
+            new SortField(ID, SortField.Type.STRING, reverse));
+    }
+
+    private static Document document(final Category aCategory) {
+        return document(
+            aCategory.getId().getValue(),
+            aCategory.getName(),
+            aCategory.getDescription(),
+            aCategory.getCreatedAt(),
+            aCategory.getUpdatedAt());
+    }
+
+    private static Document document(
+        final String id,
+        final String name,
+        final String description,
+        final Instant createdAt,
+        final Instant updatedAt) {
+        final var doc = new Document();
+        doc.add(new StringField(ID, id, Field.Store.YES));
+        doc.add(new SortedDocValuesField(ID, new BytesRef(id)));
+        doc.add(new TextField(NAME, name, Field.Store.NO));
+        doc.add(new SortedDocValuesField(NAME_SORT, new BytesRef(name.toLowerCase(Locale.ROOT))));
+        if (Objects.nonNull(description)) {
+            doc.add(new TextField(DESCRIPTION, description, Field.Store.NO));
+        }
+        doc.add(new NumericDocValuesField(CREATED_AT, ChronoUnit.MICROS.between(Instant.EPOCH, createdAt)));
+        doc.add(new NumericDocValuesField(UPDATED_AT, ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt)));
+        return doc;
+    }
+
+    @FunctionalInterface
+    private interface IndexOperation {
+        // returns the writer's sequence number for the last change made
+        long run() throws IOException;
+    }
+
+}
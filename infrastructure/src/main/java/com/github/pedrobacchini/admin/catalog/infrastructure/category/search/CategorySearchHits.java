@@ -0,0 +1,6 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.search;
+
+import java.util.List;
+
+public record CategorySearchHits(List<String> ids, boolean hasMore, long total) {
+}
@@ -0,0 +1,203 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.suggest;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Prefix trie over normalized category names where every node keeps its best {@code topK} entries precomputed, so a
+ * lookup is a walk down the prefix plus a copy of that list. Each word start of a name is a key and keys are stripped of
+ * accents, so "acao" finds "Filmes de A&ccedil;&atilde;o".
+ * <p>
+ * Readers never lock: children and top lists are immutable arrays swapped on write. Writers are serialized.
+ */
+public class CategoryNameTrie {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    /** Shorter names first, as they are the closer match for the same prefix. */
+    private static final Comparator<Entry> RANK = Comparator
+        .comparingInt((Entry entry) -> entry.key().length())
+        .thenComparing(Entry::key)
+        .thenComparing(Entry::id);
+
+    private final int topK;
+    private final Node root = new Node();
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    public CategoryNameTrie(final int topK) {
+        this.topK = topK;
+    }
+
+    public List<Entry> lookup(final String aPrefix, final int aLimit) {
+        final var key = normalize(aPrefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        var node = root;
+        for (var i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+        final var top = node.top;
+        return List.of(Arrays.copyOf(top, Math.min(aLimit, top.length)));
+    }
+
+    public synchronized void put(final String anId, final String aName) {
+        final var previous = entries.get(anId);
+        if (previous != null) {
+            if (previous.name().equals(aName)) {
+                return;
+            }
+            remove(anId);
+        }
+        final var entry = new Entry(anId, aName, normalize(aName));
+        entries.put(anId, entry);
+        for (final var key : keys(entry.key())) {
+            final var path = path(key, true);
+            path.get(path.size() - 1).addTerminal(entry);
+            refresh(path);
+        }
+    }
+
+    public synchronized void remove(final String anId) {
+        final var entry = entries.remove(anId);
+        if (entry == null) {
+            return;
+        }
+        for (final var key : keys(entry.key())) {
+            final var path = path(key, false);
+            if (path.size() == key.length() + 1) {
+                path.get(path.size() - 1).removeTerminal(entry);
+                refresh(path);
+            }
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    static String normalize(final String aText) {
+        if (aText == null) {
+            return "";
+        }
+        final var decomposed = Normalizer.normalize(aText, Normalizer.Form.NFD);
+        final var stripped = MARKS.matcher(decomposed).replaceAll("");
+        return SPACES.matcher(stripped.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> keys(final String aKey) {
+        final var keys = new LinkedHashSet<String>();
+        if (!aKey.isEmpty()) {
+            keys.add(aKey);
+        }
+        for (var i = aKey.indexOf(' '); i >= 0; i = aKey.indexOf(' ', i + 1)) {
+            if (i + 1 < aKey.length()) {
+                keys.add(aKey.substring(i + 1));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Nodes from the root down to {@code aKey}, stopping early when {@code create} is off and the key is missing.
+     */
+    private List<Node> path(final String aKey, final boolean create) {
+        final var path = new ArrayList<Node>(aKey.length() + 1);
+        var node = root;
+        path.add(node);
+        for (var i = 0; i < aKey.length(); i++) {
+            final var next = create ? node.childOrCreate(aKey.charAt(i)) : node.child(aKey.charAt(i));
+            if (next == null) {
+                break;
+            }
+            node = next;
+            path.add(node);
+        }
+        return path;
+    }
+
+    /** Recomputes the top lists bottom-up along a path whose leaf changed. */
+    private void refresh(final List<Node> path) {
+        for (var i = path.size() - 1; i >= 0; i--) {
+            final var node = path.get(i);
+            final var candidates = node.terminals == null ? new HashSet<Entry>() : new HashSet<>(node.terminals);
+            for (final var child : node.children.nodes) {
+                candidates.addAll(Arrays.asList(child.top));
+            }
+            node.top = candidates.stream()
+                .sorted(RANK)
+                .limit(topK)
+                .toArray(Entry[]::new);
+        }
+    }
+
+    public record Entry(String id, String name, String key) {
+    }
+
+    private static final class Node {
+
+        /** Only word-start nodes end a key, so the set is left null on the far more common inner nodes. */
+        private Set<Entry> terminals;
+        private volatile Children children = Children.EMPTY;
+        private volatile Entry[] top = NO_ENTRIES;
+
+        private void addTerminal(final Entry anEntry) {
+            if (terminals == null) {
+                terminals = new HashSet<>(2);
+            }
+            terminals.add(anEntry);
+        }
+
+        private void removeTerminal(final Entry anEntry) {
+            if (terminals != null && terminals.remove(anEntry) && terminals.isEmpty()) {
+                terminals = null;
+            }
+        }
+
+        private Node child(final char aChar) {
+            final var current = children;
+            final var index = Arrays.binarySearch(current.chars, aChar);
+            return index >= 0 ? current.nodes[index] : null;
+        }
+
+        private Node childOrCreate(final char aChar) {
+            final var current = children;
+            final var index = Arrays.binarySearch(current.chars, aChar);
+            if (index >= 0) {
+                return current.nodes[index];
+            }
+            final var insertAt = -index - 1;
+            final var chars = new char[current.chars.length + 1];
+            final var nodes = new Node[current.nodes.length + 1];
+            System.arraycopy(current.chars, 0, chars, 0, insertAt);
+            System.arraycopy(current.nodes, 0, nodes, 0, insertAt);
+            System.arraycopy(current.chars, insertAt, chars, insertAt + 1, current.chars.length - insertAt);
+            System.arraycopy(current.nodes, insertAt, nodes, insertAt + 1, current.nodes.length - insertAt);
+            final var node = new Node();
+            chars[insertAt] = aChar;
+            nodes[insertAt] = node;
+            children = new Children(chars, nodes);
+            return node;
+        }
+    }
+
+    private record Children(char[] chars, Node[] nodes) {
+        private static final Children EMPTY = new Children(new char[0], new Node[0]);
+    }
+
+}
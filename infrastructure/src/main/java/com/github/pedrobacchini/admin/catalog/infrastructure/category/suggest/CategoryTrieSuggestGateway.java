@@ -0,0 +1,137 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.suggest;
+
+import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySuggestGateway;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySuggestion;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.CategoryChangeListener;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.persistence.CategoryIdConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Serves name suggestions from memory. The trie is loaded from the table once the application is ready, kept current by
+ * this instance's write notifications and rebuilt every {@code category.suggest.reload-interval} to pick up writes made
+ * by other instances.
+ * <p>
+ * A reload builds a new trie off to the side while the old one keeps serving. Notifications that arrive meanwhile are
+ * applied to the old trie and buffered, then replayed on the new one before it is swapped in, so a save or delete that
+ * raced the scan is never lost or undone.
+ */
+@Component
+public class CategoryTrieSuggestGateway implements CategorySuggestGateway, CategoryChangeListener {
+
+    private static final String SELECT_NAMES = "SELECT id, name FROM category";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+    private final int topK;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile CategoryNameTrie trie;
+    private List<Consumer<CategoryNameTrie>> pending;
+
+    public CategoryTrieSuggestGateway(
+        final JdbcTemplate jdbcTemplate,
+        @Value("${category.jdbc.fetch-size:1000}") final int fetchSize,
+        @Value("${category.suggest.top-k:10}") final int topK) {
+        this.jdbcTemplate = requireNonNull(jdbcTemplate);
+        this.fetchSize = fetchSize;
+        this.topK = topK;
+        this.trie = new CategoryNameTrie(topK);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+        initialDelayString = "${category.suggest.reload-interval:PT5M}",
+        fixedDelayString = "${category.suggest.reload-interval:PT5M}")
+    public void load() {
+        lock.lock();
+        try {
+            if (pending != null) {
+                return;
+            }
+            pending = new ArrayList<>();
+        } finally {
+            lock.unlock();
+        }
+        final var fresh = new CategoryNameTrie(topK);
+        try {
+            scan(fresh);
+        } catch (final RuntimeException ex) {
+            lock.lock();
+            try {
+                pending = null;
+            } finally {
+                lock.unlock();
+            }
+            throw ex;
+        }
+        lock.lock();
+        try {
+            pending.forEach(change -> change.accept(fresh));
+            pending = null;
+            trie = fresh;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void scan(final CategoryNameTrie aTrie) {
+        jdbcTemplate.query(
+            connection -> {
+                final var statement = connection.prepareStatement(
+                    SELECT_NAMES,
+                    ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                return statement;
+            },
+            (RowCallbackHandler) rs -> aTrie.put(CategoryIdConverter.fromBytes(rs.getBytes("id")), rs.getString("name")));
+    }
+
+    @Override
+    public List<CategorySuggestion> suggest(final String aPrefix, final int aLimit) {
+        return trie.lookup(aPrefix, aLimit).stream()
+            .map(entry -> new CategorySuggestion(CategoryID.from(entry.id()), entry.name()))
+            .toList();
+    }
+
+    @Override
+    public void onSaved(final Category aCategory) {
+        final var id = aCategory.getId().getValue();
+        final var name = aCategory.getName();
+        apply(aTrie -> aTrie.put(id, name));
+    }
+
+    @Override
+    public void onDeleted(final CategoryID anId) {
+        final var id = anId.getValue();
+        apply(aTrie -> aTrie.remove(id));
+    }
+
+    private void apply(final Consumer<CategoryNameTrie> aChange) {
+        lock.lock();
+        try {
+            aChange.accept(trie);
+            if (pending != null) {
+                pending.add(aChange);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
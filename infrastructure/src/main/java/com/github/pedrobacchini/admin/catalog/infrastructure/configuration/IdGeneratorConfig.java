@@ -0,0 +1,21 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.configuration;
+
+import com.github.pedrobacchini.admin.catalog.domain.IdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public IdGenerator idGenerator(@Value("${category.id.generator:random}") final String aStrategy) {
+        return switch (aStrategy) {
+            case "random" -> IdGenerator.random();
+            case "time-ordered" -> IdGenerator.timeOrdered();
+            default -> throw new IllegalArgumentException(
+                "category.id.generator should be 'random' or 'time-ordered' but was '%s'".formatted(aStrategy));
+        };
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.configuration;
+
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs every servlet request on its own virtual thread instead of one of the {@code server.undertow.threads.workers},
+ * so blocking use cases are no longer capped by the worker pool. Connections become the limit instead: the profile
+ * turns on {@code datasource.bounded.enabled}, which puts each Hikari pool behind a fair semaphore of its own size, see
+ * {@link com.github.pedrobacchini.admin.catalog.infrastructure.configuration.datasource.BoundedDataSourceConfig}.
+ * Enabled by the {@code virtual-threads} profile.
+ * <p>
+ * A virtual thread blocking inside a {@code synchronized} block pins its carrier. The driver and pool versions in the
+ * build take locks around their I/O, and the search index reopens its searcher on a background thread under a
+ * read-write lock, but any code doing I/O while holding a monitor pins again; {@code -Djdk.tracePinnedThreads=short}
+ * reports it.
+ */
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadConfig {
+
+    @Bean(destroyMethod = "close")
+    public ExecutorService requestExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("request-", 0).factory());
+    }
+
+    @Bean
+    public WebServerFactoryCustomizer<UndertowServletWebServerFactory> virtualThreadDispatch(
+        final ExecutorService requestExecutor) {
+        return factory -> factory.addDeploymentInfoCustomizers(deployment -> deployment.setExecutor(requestExecutor));
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.configuration;
+
+import com.github.pedrobacchini.admin.catalog.infrastructure.configuration.metrics.RequestAllocationInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ObjectProvider<ThreadPoolTaskExecutor> streamingExecutor;
+
+    public WebMvcConfig(
+        final ObjectProvider<MeterRegistry> meterRegistry,
+        @Qualifier("streamingExecutor") final ObjectProvider<ThreadPoolTaskExecutor> streamingExecutor) {
+        this.meterRegistry = meterRegistry;
+        this.streamingExecutor = streamingExecutor;
+    }
+
+    /**
+     * Writes streamed bodies such as exports. Each running one holds a pooled connection until the client has read the
+     * whole body, so the pool stays well below {@code maximum-pool-size}; once it and its queue are full further
+     * streams are rejected with {@code 503} instead of waiting for a connection.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor streamingExecutor(
+        @Value("${category.export.threads:4}") final int threads,
+        @Value("${category.export.queue-capacity:0}") final int queueCapacity) {
+        final var executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("streaming-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(final AsyncSupportConfigurer configurer) {
+        // runs after Boot's configurer; left alone, streamed bodies would each get a new thread
+        configurer.setTaskExecutor(streamingExecutor.getObject());
+    }
+
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        // slices without metrics auto-configuration have no registry
+        meterRegistry.ifAvailable(aRegistry -> registry.addInterceptor(new RequestAllocationInterceptor(aRegistry)));
+    }
+
+}
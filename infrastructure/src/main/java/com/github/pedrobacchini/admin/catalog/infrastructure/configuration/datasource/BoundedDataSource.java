@@ -0,0 +1,115 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.configuration.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lets at most {@code permits} connections out of the target pool at once, handing permits out first come first
+ * served. Meant to sit in front of a pool of the same size: with a thread per request there are far more callers than
+ * connections, and a fair queue keeps waiters in arrival order instead of letting the pool's own short timeout fail
+ * them. The target pool stays owned by whoever created it; this wrapper never closes it.
+ */
+public class BoundedDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+
+    public BoundedDataSource(final DataSource target, final int permits, final Duration acquireTimeout) {
+        super(target);
+        this.permits = new Semaphore(permits, true);
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    /**
+     * Bounds {@code aPool} by its own {@code maximum-pool-size}, so a permit always has a connection behind it.
+     */
+    public static BoundedDataSource from(final HikariDataSource aPool, final Duration acquireTimeout) {
+        return new BoundedDataSource(aPool, aPool.getMaximumPoolSize(), acquireTimeout);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return checkout(super::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return checkout(() -> super.getConnection(username, password));
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int queuedThreads() {
+        return permits.getQueueLength();
+    }
+
+    private Connection checkout(final ConnectionSupplier aSupplier) throws SQLException {
+        acquire();
+        final Connection aConnection;
+        try {
+            aConnection = aSupplier.get();
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+        return releasingOnClose(aConnection);
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                    "Connection is not available, request timed out after %dms".formatted(acquireTimeout.toMillis()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection", e);
+        }
+    }
+
+    /**
+     * Wraps the connection so closing it gives the permit back, once, however many times close is called.
+     */
+    private Connection releasingOnClose(final Connection aConnection) {
+        final var released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[]{Connection.class},
+            (proxy, method, args) -> {
+                if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                    try {
+                        return method.invoke(aConnection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    } finally {
+                        permits.release();
+                    }
+                }
+                try {
+                    return method.invoke(aConnection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            });
+    }
+
+    private interface ConnectionSupplier {
+
+        Connection get() throws SQLException;
+
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.configuration.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Declares the single auto-configured pool itself so it can put a {@link BoundedDataSource} in front of it. The
+ * {@link HikariDataSource} stays a bean of its own for pool metrics and health. Off unless
+ * {@code datasource.bounded.enabled} is set; with replicas on, {@link ReplicaDataSourceConfig} bounds both pools.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.bounded.enabled", havingValue = "true")
+public class BoundedDataSourceConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "false", matchIfMissing = true)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource hikariDataSource(final DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "false", matchIfMissing = true)
+    public DataSource dataSource(
+        @Qualifier("hikariDataSource") final HikariDataSource pool,
+        @Value("${datasource.bounded.acquire-timeout:5s}") final Duration acquireTimeout) {
+        return BoundedDataSource.from(pool, acquireTimeout);
+    }
+
+}
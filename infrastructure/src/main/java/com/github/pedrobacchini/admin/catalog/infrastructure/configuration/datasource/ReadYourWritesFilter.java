@@ -0,0 +1,79 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.configuration.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Stamps every mutating request that completes with a 2xx with {@value #LAST_WRITE_HEADER} (epoch millis, taken after
+ * the handler returned and its transaction committed) and routes the reads of a request that echoes a stamp younger
+ * than the tolerated replica lag to the primary, so a client always sees its own writes.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String LAST_WRITE_HEADER = "X-Last-Write-At";
+
+    private final Duration maxReplicaLag;
+    private final Clock clock;
+
+    public ReadYourWritesFilter(final Duration maxReplicaLag, final Clock clock) {
+        this.maxReplicaLag = requireNonNull(maxReplicaLag);
+        this.clock = requireNonNull(clock);
+    }
+
+    @Override
+    protected void doFilterInternal(
+        final HttpServletRequest request,
+        final HttpServletResponse response,
+        final FilterChain filterChain) throws ServletException, IOException {
+        if (isRead(request)) {
+            if (lastWrite(request) > clock.millis() - maxReplicaLag.toMillis()) {
+                ReplicaRoutingDataSource.forcePrimary();
+            }
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                ReplicaRoutingDataSource.release();
+            }
+            return;
+        }
+
+        // write responses are small, buffering them keeps the headers open until the outcome is known
+        final var buffered = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, buffered);
+            if (buffered.getStatus() / 100 == 2) {
+                buffered.setHeader(LAST_WRITE_HEADER, String.valueOf(clock.millis()));
+            }
+        } finally {
+            buffered.copyBodyToResponse();
+        }
+    }
+
+    private static boolean isRead(final HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+    }
+
+    private static long lastWrite(final HttpServletRequest request) {
+        final var aHeader = request.getHeader(LAST_WRITE_HEADER);
+        if (aHeader == null || aHeader.isBlank()) {
+            return Long.MIN_VALUE;
+        }
+        try {
+            return Long.parseLong(aHeader.trim());
+        } catch (NumberFormatException ex) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.configuration.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Replaces the single auto-configured pool with a {@code master} pool for writes and a {@code replica} pool for
+ * read-only transactions. Off unless {@code datasource.replica.enabled} is set. With {@code datasource.bounded.enabled}
+ * each pool is routed to through its own {@link BoundedDataSource}, while the pools stay beans of their own.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties primaryDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(
+        @Qualifier("primaryDataSourceProperties") final DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+        @Qualifier("replicaDataSourceProperties") final DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+        @Qualifier("primaryDataSource") final HikariDataSource primary,
+        @Qualifier("replicaDataSource") final HikariDataSource replica,
+        @Value("${datasource.bounded.enabled:false}") final boolean bounded,
+        @Value("${datasource.bounded.acquire-timeout:5s}") final Duration acquireTimeout) {
+        return new LazyConnectionDataSourceProxy(bounded
+            ? new ReplicaRoutingDataSource(
+                BoundedDataSource.from(primary, acquireTimeout), BoundedDataSource.from(replica, acquireTimeout))
+            : new ReplicaRoutingDataSource(primary, replica));
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(
+        @Value("${datasource.replica.max-lag:2s}") final Duration maxReplicaLag) {
+        return new ReadYourWritesFilter(maxReplicaLag, Clock.systemUTC());
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.configuration.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to the replica pool and everything else to the primary. Must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so the target is picked on the first
+ * statement, once the transaction's read-only flag is known.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = ThreadLocal.withInitial(() -> false);
+
+    public ReplicaRoutingDataSource(final DataSource primary, final DataSource replica) {
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Pins the reads of the current thread to the primary until {@link #release()}, for callers that must see their
+     * own recent writes.
+     */
+    public static void forcePrimary() {
+        PRIMARY_FORCED.set(true);
+    }
+
+    public static void release() {
+        PRIMARY_FORCED.remove();
+    }
+
+    /**
+     * Whether the current thread's reads are pinned to the primary, so caches in front of the reads can step aside.
+     */
+    public static boolean isPrimaryForced() {
+        return PRIMARY_FORCED.get();
+    }
+
+    @Override
+    protected Route determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !PRIMARY_FORCED.get()
+            ? Route.REPLICA
+            : Route.PRIMARY;
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.configuration.hibernate;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers {@value #MATCH_BOOLEAN} and {@value #MATCH_NATURAL} as {@code (column, column, against, rawTerms)}
+ * functions returning the relevance score, rendered as MySQL {@code MATCH ... AGAINST}. The choice follows the
+ * configured dialect, so nothing connects to the database during bootstrap; other dialects get no function and
+ * full-text listings fail on them.
+ */
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_BOOLEAN = "match_against_boolean";
+    public static final String MATCH_NATURAL = "match_against_natural";
+
+    @Override
+    public void contributeFunctions(final FunctionContributions functionContributions) {
+        if (!(dialect(functionContributions) instanceof MySQLDialect)) {
+            return;
+        }
+        final var registry = functionContributions.getFunctionRegistry();
+        final var doubleType = functionContributions.getTypeConfiguration()
+            .getBasicTypeRegistry()
+            .resolve(StandardBasicTypes.DOUBLE);
+
+        registry.registerPattern(MATCH_BOOLEAN, "match(?1, ?2) against (?3 in boolean mode)", doubleType);
+        registry.registerPattern(MATCH_NATURAL, "match(?1, ?2) against (?3 in natural language mode)", doubleType);
+    }
+
+    public static Dialect dialect(final FunctionContributions functionContributions) {
+        return functionContributions.getServiceRegistry().getService(JdbcServices.class).getDialect();
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.configuration.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.management.ManagementFactory;
+import java.util.Objects;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Records the bytes allocated by the worker thread while serving each request as {@code http.server.requests.allocated},
+ * tagged like the {@code http.server.requests} latency timer so both can be compared per endpoint.
+ */
+public class RequestAllocationInterceptor implements HandlerInterceptor {
+
+    public static final String METRIC_NAME = "http.server.requests.allocated";
+
+    private static final String START_ATTRIBUTE = RequestAllocationInterceptor.class.getName() + ".start";
+
+    private final MeterRegistry registry;
+    private final com.sun.management.ThreadMXBean threads;
+
+    public RequestAllocationInterceptor(final MeterRegistry registry) {
+        this.registry = requireNonNull(registry);
+        this.threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    }
+
+    @Override
+    public boolean preHandle(
+        final HttpServletRequest request,
+        final HttpServletResponse response,
+        final Object handler) {
+        // virtual threads report -1, so requests served by them are not recorded
+        final var start = threads.isThreadAllocatedMemoryEnabled() ? threads.getCurrentThreadAllocatedBytes() : -1;
+        if (start >= 0) {
+            request.setAttribute(START_ATTRIBUTE, start);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+        final HttpServletRequest request,
+        final HttpServletResponse response,
+        final Object handler,
+        final Exception ex) {
+        if (!(request.getAttribute(START_ATTRIBUTE) instanceof Long start)) {
+            return;
+        }
+        DistributionSummary.builder(METRIC_NAME)
+            .baseUnit("bytes")
+            .tag("method", request.getMethod())
+            .tag("uri", uri(request))
+            .tag("status", String.valueOf(response.getStatus()))
+            .register(registry)
+            .record(threads.getCurrentThreadAllocatedBytes() - start);
+    }
+
+    private static String uri(final HttpServletRequest request) {
+        return Objects.toString(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE), "UNKNOWN");
+    }
+
+}
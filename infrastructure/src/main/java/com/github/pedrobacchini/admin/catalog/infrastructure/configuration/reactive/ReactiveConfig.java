@@ -0,0 +1,112 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.configuration.reactive;
+
+import com.github.pedrobacchini.admin.catalog.application.category.update.UpdateRetryPolicy;
+import com.github.pedrobacchini.admin.catalog.domain.IdGenerator;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive.DefaultReactiveCreateCategoryUseCase;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive.DefaultReactiveDeleteCategoryUseCase;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive.DefaultReactiveGetCategoryByIdUseCase;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive.DefaultReactiveListCategoriesUseCase;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive.DefaultReactiveUpdateCategoryUseCase;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive.DefaultStreamCategoriesUseCase;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive.ReactiveCategoryGateway;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive.ReactiveCreateCategoryUseCase;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive.ReactiveDeleteCategoryUseCase;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive.ReactiveGetCategoryByIdUseCase;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive.ReactiveListCategoriesUseCase;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive.ReactiveUpdateCategoryUseCase;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive.StreamCategoriesUseCase;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import java.time.Duration;
+
+/**
+ * Non-blocking stack of the {@code reactive} profile: an R2DBC pool next to the JDBC one, and the reactive use cases
+ * served by {@link com.github.pedrobacchini.admin.catalog.infrastructure.api.controller.ReactiveCategoryController}.
+ * The R2DBC auto-configuration is excluded so the other profiles never open a pool they do not use.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.r2dbc")
+    public R2dbcProperties r2dbcProperties() {
+        return new R2dbcProperties();
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool connectionFactory(final R2dbcProperties properties) {
+        final var options = ConnectionFactoryOptions.parse(properties.getUrl()).mutate()
+            .option(ConnectionFactoryOptions.USER, properties.getUsername())
+            .option(ConnectionFactoryOptions.PASSWORD, properties.getPassword())
+            .build();
+        final var pool = properties.getPool();
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+            .initialSize(pool.getInitialSize())
+            .maxSize(pool.getMaxSize())
+            .maxIdleTime(pool.getMaxIdleTime())
+            .build());
+    }
+
+    @Bean
+    public DatabaseClient databaseClient(final ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    @Bean
+    public TransactionalOperator transactionalOperator(final ConnectionFactory connectionFactory) {
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+    }
+
+    @Bean
+    public ReactiveCreateCategoryUseCase reactiveCreateCategoryUseCase(
+        final ReactiveCategoryGateway categoryGateway,
+        final IdGenerator idGenerator) {
+        return new DefaultReactiveCreateCategoryUseCase(categoryGateway, idGenerator);
+    }
+
+    @Bean
+    public ReactiveUpdateCategoryUseCase reactiveUpdateCategoryUseCase(
+        final ReactiveCategoryGateway categoryGateway,
+        @Value("${category.update.retry.max-attempts:3}") final int maxAttempts,
+        @Value("${category.update.retry.base-delay:10ms}") final Duration baseDelay,
+        @Value("${category.update.retry.max-delay:100ms}") final Duration maxDelay) {
+        return new DefaultReactiveUpdateCategoryUseCase(
+            categoryGateway,
+            UpdateRetryPolicy.with(maxAttempts, baseDelay, maxDelay));
+    }
+
+    @Bean
+    public ReactiveDeleteCategoryUseCase reactiveDeleteCategoryUseCase(final ReactiveCategoryGateway categoryGateway) {
+        return new DefaultReactiveDeleteCategoryUseCase(categoryGateway);
+    }
+
+    @Bean
+    public ReactiveGetCategoryByIdUseCase reactiveGetCategoryByIdUseCase(final ReactiveCategoryGateway categoryGateway) {
+        return new DefaultReactiveGetCategoryByIdUseCase(categoryGateway);
+    }
+
+    @Bean
+    public ReactiveListCategoriesUseCase reactiveListCategoriesUseCase(final ReactiveCategoryGateway categoryGateway) {
+        return new DefaultReactiveListCategoriesUseCase(categoryGateway);
+    }
+
+    @Bean
+    public StreamCategoriesUseCase streamCategoriesUseCase(final ReactiveCategoryGateway categoryGateway) {
+        return new DefaultStreamCategoriesUseCase(categoryGateway);
+    }
+
+}
@@ -0,0 +1,162 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.configuration.usecases;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.pedrobacchini.admin.catalog.application.category.retrieve.list.CaregoryListOutput;
+import com.github.pedrobacchini.admin.catalog.application.category.retrieve.list.ListCategoriesUseCase;
+import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryFilter;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySearchQuery;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.Pagination;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.CategoryChangeListener;
+import com.github.pedrobacchini.admin.catalog.infrastructure.configuration.datasource.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Serves repeated listings from memory, keyed by the normalized {@link CategorySearchQuery}. Every committed write
+ * bumps one generation counter through {@link CategoryChangeListener} instead of working out which pages it touched;
+ * a page is only served while the generation it was read under is still current, and the generation is taken before
+ * the read, so a page read concurrently with a write is never served after the write's notification. Pages are bounded
+ * by {@code category.list-cache.maximum-items} rows in total, and by {@code category.list-cache.expire-after-write}
+ * for writes made by other instances, which this one is never notified of. Lookups are counted as
+ * {@code category.list.cache.gets}, tagged with the result and the shape of the query.
+ * <p>
+ * Off unless {@code category.list-cache.enabled} is set, since pages changed on another instance are served stale for
+ * up to {@code expire-after-write}. Misses are read from the primary, so a lagging replica cannot store a page older
+ * than the generation it is filed under, and requests pinned to the primary to see their own writes bypass the cache.
+ */
+class CachingListCategoriesUseCase extends ListCategoriesUseCase implements CategoryChangeListener {
+
+    public static final String METRIC_NAME = "category.list.cache.gets";
+
+    private final ListCategoriesUseCase listCategoriesUseCase;
+    private final Cache<CategorySearchQuery, Entry> pages;
+    private final AtomicLong generation = new AtomicLong();
+    private final MeterRegistry meterRegistry;
+
+    CachingListCategoriesUseCase(
+        final ListCategoriesUseCase listCategoriesUseCase,
+        final long maximumItems,
+        final Duration expireAfterWrite,
+        final ObjectProvider<MeterRegistry> meterRegistry) {
+        this.listCategoriesUseCase = requireNonNull(listCategoriesUseCase);
+        this.pages = Caffeine.newBuilder()
+            .maximumWeight(maximumItems)
+            .weigher((CategorySearchQuery aQuery, Entry anEntry) -> 1 + anEntry.page().items().size())
+            .expireAfterWrite(expireAfterWrite)
+            .build();
+        this.meterRegistry = meterRegistry.getIfAvailable();
+    }
+
+    @Override
+    public Pagination<CaregoryListOutput> execute(final CategorySearchQuery aQuery) {
+        if (ReplicaRoutingDataSource.isPrimaryForced()) {
+            return listCategoriesUseCase.execute(aQuery);
+        }
+        final var aKey = normalize(aQuery);
+        final var current = generation.get();
+
+        final var cached = pages.getIfPresent(aKey);
+        if (cached != null && cached.generation() == current) {
+            record(aKey, "hit");
+            return cached.page();
+        }
+
+        final var aPage = readFromPrimary(aKey);
+        // a slower read from an older generation must not replace a newer page
+        pages.asMap().merge(aKey, new Entry(current, aPage),
+            (previous, next) -> previous.generation() > next.generation() ? previous : next);
+        record(aKey, "miss");
+        return aPage;
+    }
+
+    @Override
+    public void onSaved(final Category aCategory) {
+        generation.incrementAndGet();
+    }
+
+    @Override
+    public void onDeleted(final CategoryID anId) {
+        generation.incrementAndGet();
+    }
+
+    private Pagination<CaregoryListOutput> readFromPrimary(final CategorySearchQuery aQuery) {
+        ReplicaRoutingDataSource.forcePrimary();
+        try {
+            return listCategoriesUseCase.execute(aQuery);
+        } finally {
+            // pinned requests never get here, so there is no earlier pin to restore
+            ReplicaRoutingDataSource.release();
+        }
+    }
+
+    /**
+     * Spells every query that lists the same page the same way: no terms, no sort and no cursor are all empty strings
+     * or {@code null} however they arrived, and the direction is matched case-insensitively downstream anyway.
+     */
+    static CategorySearchQuery normalize(final CategorySearchQuery aQuery) {
+        return new CategorySearchQuery(
+            aQuery.page(),
+            aQuery.perPage(),
+            aQuery.hasTerms() ? aQuery.terms() : "",
+            aQuery.hasSort() ? aQuery.sort() : "",
+            aQuery.direction() != null ? aQuery.direction().toLowerCase(Locale.ROOT) : null,
+            aQuery.hasCursor() ? aQuery.cursor() : null,
+            aQuery.count(),
+            aQuery.searchMode(),
+            aQuery.includeArchived(),
+            aQuery.filter());
+    }
+
+    /**
+     * Tags by what the query does rather than its values, so the number of series stays bounded. Only queries the
+     * gateway accepted get here, so the sort is one of the sortable attributes.
+     */
+    private void record(final CategorySearchQuery aQuery, final String aResult) {
+        if (meterRegistry == null) {
+            return;
+        }
+        Counter.builder(METRIC_NAME)
+            .tag("result", aResult)
+            .tag("sort", aQuery.hasSort() ? aQuery.sort() : "default")
+            .tag("direction", String.valueOf(aQuery.direction()))
+            .tag("paging", aQuery.hasCursor() ? "cursor" : "offset")
+            .tag("search", aQuery.hasTerms() ? aQuery.searchMode().name().toLowerCase(Locale.ROOT) : "none")
+            .tag("filter", filterShape(aQuery.filter()))
+            .tag("count", aQuery.count().name().toLowerCase(Locale.ROOT))
+            .tag("archived", String.valueOf(aQuery.includeArchived()))
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private static String filterShape(final CategoryFilter aFilter) {
+        final var fields = new StringJoiner(",").setEmptyValue("none");
+        if (aFilter.type() != null) {
+            fields.add("type");
+        }
+        if (aFilter.active() != null) {
+            fields.add("active");
+        }
+        if (aFilter.createdFrom() != null || aFilter.createdTo() != null) {
+            fields.add("createdAt");
+        }
+        if (aFilter.updatedFrom() != null || aFilter.updatedTo() != null) {
+            fields.add("updatedAt");
+        }
+        return fields.toString();
+    }
+
+    private record Entry(long generation, Pagination<CaregoryListOutput> page) {
+    }
+
+}
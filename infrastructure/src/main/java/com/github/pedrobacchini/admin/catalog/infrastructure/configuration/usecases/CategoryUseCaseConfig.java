@@ -1,38 +1,94 @@
 package com.github.pedrobacchini.admin.catalog.infrastructure.configuration.usecases;
 
+import com.github.pedrobacchini.admin.catalog.application.category.create.CreateCategoriesUseCase;
 import com.github.pedrobacchini.admin.catalog.application.category.create.CreateCategoryUseCase;
+import com.github.pedrobacchini.admin.catalog.application.category.create.DefaultCreateCategoriesUseCase;
 import com.github.pedrobacchini.admin.catalog.application.category.create.DefaultCreateCategoryUseCase;
+import com.github.pedrobacchini.admin.catalog.application.category.create.DefaultImportCategoriesUseCase;
+import com.github.pedrobacchini.admin.catalog.application.category.create.ImportCategoriesUseCase;
+import com.github.pedrobacchini.admin.catalog.application.category.delete.DefaultDeleteCategoriesUseCase;
 import com.github.pedrobacchini.admin.catalog.application.category.delete.DefaultDeleteCategoryUseCase;
+import com.github.pedrobacchini.admin.catalog.application.category.delete.DeleteCategoriesUseCase;
 import com.github.pedrobacchini.admin.catalog.application.category.delete.DeleteCategoryUseCase;
+import com.github.pedrobacchini.admin.catalog.application.category.retrieve.export.DefaultExportCategoriesUseCase;
+import com.github.pedrobacchini.admin.catalog.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.github.pedrobacchini.admin.catalog.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
 import com.github.pedrobacchini.admin.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.github.pedrobacchini.admin.catalog.application.category.retrieve.list.DefaultListCategoriesUseCase;
 import com.github.pedrobacchini.admin.catalog.application.category.retrieve.list.ListCategoriesUseCase;
-import com.github.pedrobacchini.admin.catalog.application.category.update.DefaultUpdateCategoryUseCase;
+import com.github.pedrobacchini.admin.catalog.application.category.retrieve.suggest.DefaultSuggestCategoriesUseCase;
+import com.github.pedrobacchini.admin.catalog.application.category.retrieve.suggest.SuggestCategoriesUseCase;
 import com.github.pedrobacchini.admin.catalog.application.category.update.UpdateCategoryUseCase;
+import com.github.pedrobacchini.admin.catalog.application.category.update.UpdateRetryPolicy;
+import com.github.pedrobacchini.admin.catalog.application.category.upsert.DefaultUpsertCategoryUseCase;
+import com.github.pedrobacchini.admin.catalog.application.category.upsert.UpsertCategoryUseCase;
+import com.github.pedrobacchini.admin.catalog.domain.IdGenerator;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryExportGateway;
 import com.github.pedrobacchini.admin.catalog.domain.category.CategoryGateway;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySuggestGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
 import java.util.Objects;
 
 @Configuration
 public class CategoryUseCaseConfig {
 
     private final CategoryGateway categoryGateway;
+    private final CategorySuggestGateway categorySuggestGateway;
+    private final CategoryExportGateway categoryExportGateway;
+    private final PlatformTransactionManager transactionManager;
+    private final IdGenerator idGenerator;
 
-    public CategoryUseCaseConfig(final CategoryGateway categoryGateway) {
+    public CategoryUseCaseConfig(
+        final CategoryGateway categoryGateway,
+        final CategorySuggestGateway categorySuggestGateway,
+        final CategoryExportGateway categoryExportGateway,
+        final PlatformTransactionManager transactionManager,
+        final IdGenerator idGenerator) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.categorySuggestGateway = Objects.requireNonNull(categorySuggestGateway);
+        this.categoryExportGateway = Objects.requireNonNull(categoryExportGateway);
+        this.transactionManager = Objects.requireNonNull(transactionManager);
+        this.idGenerator = Objects.requireNonNull(idGenerator);
     }
 
     @Bean
     public CreateCategoryUseCase createCategoryUseCase() {
-        return new DefaultCreateCategoryUseCase(categoryGateway);
+        return new DefaultCreateCategoryUseCase(categoryGateway, idGenerator);
     }
 
     @Bean
-    public UpdateCategoryUseCase updateCategoryUseCase() {
-        return new DefaultUpdateCategoryUseCase(categoryGateway);
+    public CreateCategoriesUseCase createCategoriesUseCase() {
+        return new DefaultCreateCategoriesUseCase(categoryGateway, idGenerator);
+    }
+
+    @Bean
+    public ImportCategoriesUseCase importCategoriesUseCase(
+        @Value("${category.batch.chunk-size:1000}") final int chunkSize,
+        @Value("${category.import.max-errors:1000}") final int maxErrors) {
+        return new DefaultImportCategoriesUseCase(categoryGateway, idGenerator, chunkSize, maxErrors);
+    }
+
+    @Bean
+    public UpdateCategoryUseCase updateCategoryUseCase(
+        @Value("${category.update.retry.max-attempts:3}") final int maxAttempts,
+        @Value("${category.update.retry.base-delay:10ms}") final Duration baseDelay,
+        @Value("${category.update.retry.max-delay:100ms}") final Duration maxDelay) {
+        final var retryPolicy = UpdateRetryPolicy.with(maxAttempts, baseDelay, maxDelay);
+        return new TransactionalUpdateCategoryUseCase(categoryGateway, retryPolicy, transactionManager);
+    }
+
+    @Bean
+    public UpsertCategoryUseCase upsertCategoryUseCase() {
+        return new DefaultUpsertCategoryUseCase(categoryGateway);
     }
 
     @Bean
@@ -40,6 +96,11 @@ public class CategoryUseCaseConfig {
         return new DefaultDeleteCategoryUseCase(categoryGateway);
     }
 
+    @Bean
+    public DeleteCategoriesUseCase deleteCategoriesUseCase() {
+        return new DefaultDeleteCategoriesUseCase(categoryGateway);
+    }
+
     @Bean
     public GetCategoryByIdUseCase getCategoryByIdUseCase() {
         return new DefaultGetCategoryByIdUseCase(categoryGateway);
@@ -50,4 +111,24 @@ public class CategoryUseCaseConfig {
         return new DefaultListCategoriesUseCase(categoryGateway);
     }
 
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "category.list-cache.enabled", havingValue = "true")
+    public CachingListCategoriesUseCase cachingListCategoriesUseCase(
+        @Value("${category.list-cache.maximum-items:100000}") final long maximumItems,
+        @Value("${category.list-cache.expire-after-write:30s}") final Duration expireAfterWrite,
+        final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new CachingListCategoriesUseCase(listCategoriesUseCase(), maximumItems, expireAfterWrite, meterRegistry);
+    }
+
+    @Bean
+    public ExportCategoriesUseCase exportCategoriesUseCase() {
+        return new DefaultExportCategoriesUseCase(categoryExportGateway);
+    }
+
+    @Bean
+    public SuggestCategoriesUseCase suggestCategoriesUseCase(@Value("${category.suggest.top-k:10}") final int topK) {
+        return new DefaultSuggestCategoriesUseCase(categorySuggestGateway, topK);
+    }
+
 }
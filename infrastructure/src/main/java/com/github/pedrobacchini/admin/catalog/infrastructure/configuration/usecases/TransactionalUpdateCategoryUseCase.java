@@ -0,0 +1,41 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.configuration.usecases;
+
+import com.github.pedrobacchini.admin.catalog.application.category.update.DefaultUpdateCategoryUseCase;
+import com.github.pedrobacchini.admin.catalog.application.category.update.UpdateCategoryCommand;
+import com.github.pedrobacchini.admin.catalog.application.category.update.UpdateCategoryOutput;
+import com.github.pedrobacchini.admin.catalog.application.category.update.UpdateRetryPolicy;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryGateway;
+import com.github.pedrobacchini.admin.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs the load, validation and write of each update attempt in one transaction, so a PUT costs a single SELECT and a
+ * single UPDATE on one connection instead of two transactions. A retried attempt gets a new transaction and therefore
+ * a fresh snapshot to read from.
+ */
+class TransactionalUpdateCategoryUseCase extends DefaultUpdateCategoryUseCase {
+
+    private final TransactionTemplate transactionTemplate;
+
+    TransactionalUpdateCategoryUseCase(
+        final CategoryGateway categoryGateway,
+        final UpdateRetryPolicy retryPolicy,
+        final PlatformTransactionManager transactionManager) {
+        super(categoryGateway, retryPolicy);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    protected Either<Notification, UpdateCategoryOutput> attempt(final UpdateCategoryCommand aCommand) {
+        return transactionTemplate.execute(status -> {
+            final var result = super.attempt(aCommand);
+            if (result.isLeft()) {
+                status.setRollbackOnly();
+            }
+            return result;
+        });
+    }
+
+}
@@ -1,7 +1,10 @@
 package com.github.pedrobacchini.admin.catalog.infrastructure.util;
 
+import jakarta.persistence.criteria.Path;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.Instant;
+
 public final class SpecificationUtils {
 
     private SpecificationUtils() {}
@@ -10,4 +13,98 @@ public final class SpecificationUtils {
         return (root, query, cb) -> cb.like(cb.upper(root.get(prop)), "%" + term.toUpperCase() + "%");
     }
 
+    public static <T> Specification<T> equal(final String prop, final Object value) {
+        return (root, query, cb) -> cb.equal(root.get(prop), value);
+    }
+
+    /**
+     * Half-open range {@code from <= prop < to} on the bare column, so an index on it can be range scanned. A
+     * {@code null} bound leaves that side open.
+     */
+    public static <T, Y extends Comparable<? super Y>> Specification<T> range(
+        final String prop,
+        final Y from,
+        final Y to) {
+        return (root, query, cb) -> {
+            final Path<Y> path = root.get(prop);
+            if (from != null && to != null) {
+                return cb.and(cb.greaterThanOrEqualTo(path, from), cb.lessThan(path, to));
+            }
+            if (from != null) {
+                return cb.greaterThanOrEqualTo(path, from);
+            }
+            return to != null ? cb.lessThan(path, to) : null;
+        };
+    }
+
+    /**
+     * Full-text predicate keeping the rows whose relevance for {@code against} is positive. When {@code byRelevance} is
+     * set the rows are also ordered by descending relevance, except in count queries.
+     */
+    public static <T> Specification<T> matchAgainst(
+        final String function,
+        final String prop,
+        final String otherProp,
+        final String against,
+        final String rawTerms,
+        final String idProp,
+        final boolean byRelevance) {
+        return (root, query, cb) -> {
+            final var relevance = cb.function(
+                function,
+                Double.class,
+                root.get(prop),
+                root.get(otherProp),
+                cb.literal(against),
+                cb.literal(rawTerms));
+            if (byRelevance && !Long.class.equals(query.getResultType())) {
+                query.orderBy(cb.desc(relevance), cb.asc(root.get(idProp)));
+            }
+            return cb.greaterThan(relevance, 0d);
+        };
+    }
+
+    /**
+     * Keyset predicate selecting the rows that come after ({@code prop}, {@code idProp}) = ({@code value}, {@code id})
+     * when scanning in the given direction. NULLs are treated as the lowest value, as MySQL orders them.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Specification<T> seek(
+        final String prop,
+        final String value,
+        final String idProp,
+        final String id,
+        final boolean ascending) {
+        return (root, query, cb) -> {
+            final Path path = root.get(prop);
+            final Path<String> idPath = root.get(idProp);
+            final var aValue = parse(path.getJavaType(), value);
+
+            final var sameKey = aValue == null ? cb.isNull(path) : cb.equal(path, aValue);
+            final var tieBreak = cb.and(sameKey, ascending ? cb.greaterThan(idPath, id) : cb.lessThan(idPath, id));
+            if (aValue == null) {
+                return ascending ? cb.or(tieBreak, cb.isNotNull(path)) : tieBreak;
+            }
+            final var beyond = ascending ? cb.greaterThan(path, aValue) : cb.lessThan(path, aValue);
+            return ascending ? cb.or(beyond, tieBreak) : cb.or(beyond, tieBreak, cb.isNull(path));
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparable parse(final Class<?> aType, final String aValue) {
+        if (aValue == null) {
+            return null;
+        }
+        if (Instant.class.equals(aType)) {
+            return Instant.parse(aValue);
+        }
+        if (Boolean.class.equals(aType) || boolean.class.equals(aType)) {
+            return Boolean.valueOf(aValue);
+        }
+        if (aType.isEnum()) {
+            return Enum.valueOf((Class) aType, aValue);
+        }
+        return aValue;
+    }
+
 }
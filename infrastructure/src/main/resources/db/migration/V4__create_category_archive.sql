@@ -0,0 +1,13 @@
+CREATE TABLE category_archive (
+    id VARCHAR(36) NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(4000),
+    active BOOLEAN NOT NULL DEFAULT FALSE,
+    type INTEGER NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    deleted_at DATETIME(6) NULL,
+    archived_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_category_deleted_at ON category (deleted_at);
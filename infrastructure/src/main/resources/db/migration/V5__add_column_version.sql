@@ -0,0 +1,5 @@
+ALTER TABLE category
+ADD version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE category_archive
+ADD version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,11 @@
+-- equality filters first, then the range or sort column; InnoDB appends the primary key, which is the id tie-break of
+-- every ordered read. active has two values, so filters on type alone still use these through a skip scan.
+CREATE INDEX idx_category_active_type_name ON category (active, type, name);
+CREATE INDEX idx_category_active_type_created_at ON category (active, type, created_at);
+CREATE INDEX idx_category_active_type_updated_at ON category (active, type, updated_at);
+
+-- unfiltered sorts and timestamp ranges; every page is ordered by (sort column, id), and spelling the id out keeps
+-- the tie-break in the index on any engine
+CREATE INDEX idx_category_name_id ON category (name, id);
+CREATE INDEX idx_category_created_at_id ON category (created_at, id);
+CREATE INDEX idx_category_updated_at_id ON category (updated_at, id);
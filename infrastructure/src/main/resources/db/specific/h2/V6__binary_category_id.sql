@@ -0,0 +1,15 @@
+ALTER TABLE category ADD COLUMN id_bin BINARY(16) NULL;
+UPDATE category SET id_bin = CAST(CAST(id AS UUID) AS BINARY(16));
+ALTER TABLE category DROP PRIMARY KEY;
+ALTER TABLE category DROP COLUMN id;
+ALTER TABLE category ALTER COLUMN id_bin RENAME TO id;
+ALTER TABLE category ALTER COLUMN id SET NOT NULL;
+ALTER TABLE category ADD PRIMARY KEY (id);
+
+ALTER TABLE category_archive ADD COLUMN id_bin BINARY(16) NULL;
+UPDATE category_archive SET id_bin = CAST(CAST(id AS UUID) AS BINARY(16));
+ALTER TABLE category_archive DROP PRIMARY KEY;
+ALTER TABLE category_archive DROP COLUMN id;
+ALTER TABLE category_archive ALTER COLUMN id_bin RENAME TO id;
+ALTER TABLE category_archive ALTER COLUMN id SET NOT NULL;
+ALTER TABLE category_archive ADD PRIMARY KEY (id);
@@ -0,0 +1,9 @@
+ALTER TABLE category ADD COLUMN id_bin BINARY(16) NULL FIRST;
+UPDATE category SET id_bin = UNHEX(REPLACE(id, '-', ''));
+ALTER TABLE category DROP PRIMARY KEY, DROP COLUMN id;
+ALTER TABLE category CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST, ADD PRIMARY KEY (id);
+
+ALTER TABLE category_archive ADD COLUMN id_bin BINARY(16) NULL FIRST;
+UPDATE category_archive SET id_bin = UNHEX(REPLACE(id, '-', ''));
+ALTER TABLE category_archive DROP PRIMARY KEY, DROP COLUMN id;
+ALTER TABLE category_archive CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST, ADD PRIMARY KEY (id);
@@ -1,5 +1,6 @@
 package com.github.pedrobacchini.admin.catalog;
 
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
 import org.jeasy.random.EasyRandom;
 import org.jeasy.random.EasyRandomParameters;
 
@@ -11,7 +12,9 @@ public class DummyUtil {
         throw new IllegalStateException("Utility class");
     }
 
-    private final static EasyRandomParameters parameters = new EasyRandomParameters();
+    // ids are stored as binary UUIDs, so random strings would not survive a round trip
+    private final static EasyRandomParameters parameters = new EasyRandomParameters()
+        .randomize(CategoryID.class, CategoryID::unique);
     private final static EasyRandom easyRandom = new EasyRandom(parameters);
 
     public static <T> T dummyObject(Class<T> clazz) {
@@ -0,0 +1,44 @@
+package com.github.pedrobacchini.admin.catalog.e2e.category;
+
+import org.junit.jupiter.api.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+
+/**
+ * Harness shared by the category benchmarks: one MySQL for all of them, the Lucene index switched off so that its
+ * refreshes do not add to the measured writes, and results reported through {@link #log}. Run them with
+ * {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+abstract class CategoryBenchmark {
+
+    static final Logger LOG = LoggerFactory.getLogger("benchmark");
+
+    static final String LUCENE_DISABLED = "category.search.lucene.enabled=false";
+
+    // Started once and never stopped here, so cached test contexts keep pointing at a live port.
+    static final MySQLContainer<?> MY_SQL_CONTAINER = new MySQLContainer<>("mysql:latest")
+        .withPassword("123456")
+        .withUsername("root")
+        .withDatabaseName("adm_videos")
+        .withCommand("--max-connections=500");
+
+    static {
+        MY_SQL_CONTAINER.start();
+    }
+
+    @DynamicPropertySource
+    static void setBenchmarkProperties(final DynamicPropertyRegistry registry) {
+        registry.add("mysql.port", () -> MY_SQL_CONTAINER.getMappedPort(3306));
+        registry.add("category.search.lucene.enabled", () -> false);
+        registry.add("spring.jpa.show-sql", () -> false);
+    }
+
+    static void log(final String aFormat, final Object... args) {
+        LOG.info(String.format(aFormat, args));
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.github.pedrobacchini.admin.catalog.e2e.category;
+
+import com.github.pedrobacchini.admin.catalog.E2ETest;
+import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryGateway;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.persistence.CategoryIdConverter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * Compares the {@code BINARY(16)} primary key against the former {@code VARCHAR(36)} one, in on-disk size and
+ * point-lookup latency. Run with {@code ./gradlew benchmark}.
+ */
+@E2ETest
+public class CategoryBinaryIdBenchmarkTest extends CategoryBenchmark {
+
+    private static final int ROWS = 50_000;
+    private static final int WARMUP = 1_000;
+    private static final int ITERATIONS = 10_000;
+
+    private static final String CREATE_VARCHAR_COPY = """
+        CREATE TABLE category_varchar_id (
+            id VARCHAR(36) NOT NULL PRIMARY KEY,
+            name VARCHAR(255) NOT NULL,
+            description VARCHAR(4000),
+            active BOOLEAN NOT NULL,
+            type TINYINT NOT NULL,
+            created_at DATETIME(6) NOT NULL,
+            updated_at DATETIME(6) NOT NULL,
+            deleted_at DATETIME(6) NULL,
+            version BIGINT NOT NULL DEFAULT 0,
+            KEY idx_category_varchar_id_name (name)
+        )""";
+
+    private static final String COPY_ROWS = """
+        INSERT INTO category_varchar_id
+        SELECT LOWER(INSERT(INSERT(INSERT(INSERT(HEX(id), 9, 0, '-'), 14, 0, '-'), 19, 0, '-'), 24, 0, '-')),
+               name, description, active, type, created_at, updated_at, deleted_at, version
+        FROM category""";
+
+    private static final String TABLE_SIZE = """
+        SELECT DATA_LENGTH, INDEX_LENGTH FROM information_schema.TABLES
+        WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?""";
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void compareBinaryIdAgainstVarcharId() {
+        final var categories = IntStream.range(0, ROWS)
+            .mapToObj(i -> Category.newCategory("Categoria " + i, "Descrição " + i, true, CategoryType.COMMON))
+            .toList();
+        categoryGateway.createAll(categories);
+        final var ids = categories.stream().map(it -> it.getId().getValue()).toList();
+
+        jdbcTemplate.execute(CREATE_VARCHAR_COPY);
+        jdbcTemplate.update(COPY_ROWS);
+        jdbcTemplate.execute("ANALYZE TABLE category, category_varchar_id");
+
+        size("binary ", "category");
+        size("varchar", "category_varchar_id");
+
+        lookup("binary ", ids, id -> jdbcTemplate.queryForList(
+            "SELECT name FROM category WHERE id = ?", String.class, (Object) CategoryIdConverter.toBytes(id)));
+        lookup("varchar", ids, id -> jdbcTemplate.queryForList(
+            "SELECT name FROM category_varchar_id WHERE id = ?", String.class, id));
+    }
+
+    private void size(final String aLabel, final String aTable) {
+        jdbcTemplate.query(TABLE_SIZE, rs -> {
+            log("%s: data %,d KB, secondary indexes %,d KB",
+                aLabel, rs.getLong("DATA_LENGTH") / 1024, rs.getLong("INDEX_LENGTH") / 1024);
+        }, aTable);
+    }
+
+    private static void lookup(final String aLabel, final List<String> ids, final Consumer<String> aLookup) {
+        final var random = ThreadLocalRandom.current();
+        for (var i = 0; i < WARMUP; i++) {
+            aLookup.accept(ids.get(random.nextInt(ids.size())));
+        }
+
+        final var start = System.nanoTime();
+        for (var i = 0; i < ITERATIONS; i++) {
+            aLookup.accept(ids.get(random.nextInt(ids.size())));
+        }
+        final var elapsed = System.nanoTime() - start;
+
+        log("%s: %,.1f µs/lookup", aLabel, elapsed / 1_000d / ITERATIONS);
+    }
+
+}
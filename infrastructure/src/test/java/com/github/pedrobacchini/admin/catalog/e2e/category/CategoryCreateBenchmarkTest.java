@@ -0,0 +1,57 @@
+package com.github.pedrobacchini.admin.catalog.e2e.category;
+
+import com.github.pedrobacchini.admin.catalog.E2ETest;
+import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryGateway;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the single-item create path against the batched one. Run with {@code ./gradlew benchmark}.
+ */
+@E2ETest
+public class CategoryCreateBenchmarkTest extends CategoryBenchmark {
+
+    private static final int ROWS = 5_000;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Test
+    void compareSingleCreateAgainstCreateAllThroughput() {
+        final var single = newCategories("single");
+        final var singleStart = System.nanoTime();
+        single.forEach(categoryGateway::create);
+        final var singleElapsed = System.nanoTime() - singleStart;
+
+        final var batch = newCategories("batch");
+        final var batchStart = System.nanoTime();
+        categoryGateway.createAll(batch);
+        final var batchElapsed = System.nanoTime() - batchStart;
+
+        assertEquals(ROWS * 2L, categoryRepository.count());
+
+        log("create    : %,.0f rows/s", rowsPerSecond(singleElapsed));
+        log("createAll : %,.0f rows/s", rowsPerSecond(batchElapsed));
+    }
+
+    private static List<Category> newCategories(final String aPrefix) {
+        return IntStream.range(0, ROWS)
+            .mapToObj(i -> Category.newCategory(aPrefix + " " + i, "Categoria " + i, true, CategoryType.COMMON))
+            .toList();
+    }
+
+    private static double rowsPerSecond(final long elapsedNanos) {
+        return ROWS / (elapsedNanos / 1_000_000_000d);
+    }
+
+}
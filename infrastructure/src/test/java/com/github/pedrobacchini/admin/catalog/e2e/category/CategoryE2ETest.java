@@ -149,25 +149,65 @@ public class CategoryE2ETest {
     }
 
     @Test
-    public void asACatalogAdminIsShouldBeAbleToSortAllCategoriesByDescriptionDesc() throws Exception {
+    public void asACatalogAdminIsShouldBeAbleToFullTextSearchCategoriesByRelevance() throws Exception {
+        assertTrue(MY_SQL_CONTAINER.isRunning());
+
+        assertEquals(0, categoryRepository.count());
+
+        givenAValidCategory("Series", "Filmes em capitulos", true, CategoryType.COMMON);
+        givenAValidCategory("Filmes", "Os filmes mais assistidos", true, CategoryType.COMMON);
+        givenAValidCategory("Documentarios", null, true, CategoryType.COMMON);
+
+        final var request = get("/categories")
+            .queryParam("search", "film")
+            .queryParam("searchMode", "boolean")
+            .accept(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total", equalTo(2)))
+            .andExpect(jsonPath("$.items", hasSize(2)))
+            .andExpect(jsonPath("$.items[0].name", equalTo("Filmes")))
+            .andExpect(jsonPath("$.items[1].name", equalTo("Series")));
+    }
+
+    @Test
+    public void asACatalogAdminIsShouldBeAbleToNaturalLanguageSearchCategoriesByRelevance() throws Exception {
+        assertTrue(MY_SQL_CONTAINER.isRunning());
+
+        assertEquals(0, categoryRepository.count());
+
+        givenAValidCategory("Series", "Filmes em capitulos", true, CategoryType.COMMON);
+        givenAValidCategory("Filmes", "Os filmes mais assistidos", true, CategoryType.COMMON);
+        givenAValidCategory("Documentarios", null, true, CategoryType.COMMON);
+
+        final var request = get("/categories")
+            .queryParam("search", "filmes")
+            .queryParam("searchMode", "natural")
+            .accept(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total", equalTo(2)))
+            .andExpect(jsonPath("$.items", hasSize(2)))
+            .andExpect(jsonPath("$.items[0].name", equalTo("Filmes")))
+            .andExpect(jsonPath("$.items[1].name", equalTo("Series")));
+    }
+
+    @Test
+    public void asACatalogAdminIShouldNotBeAbleToSortCategoriesByAnUnindexedColumn() throws Exception {
         assertTrue(MY_SQL_CONTAINER.isRunning());
 
         assertEquals(0, categoryRepository.count());
 
         givenAValidCategory("Filmes", "C", true, CategoryType.COMMON);
-        givenAValidCategory("Documentarios", "Z", true, CategoryType.COMMON);
-        givenAValidCategory("Series", "A", true, CategoryType.COMMON);
 
         listCategories(0, 3, "", "description", "desc")
             .andDo(print())
-            .andExpect(status().isOk())
-            .andExpect(jsonPath("$.current_page", equalTo(0)))
-            .andExpect(jsonPath("$.per_page", equalTo(3)))
-            .andExpect(jsonPath("$.total", equalTo(3)))
-            .andExpect(jsonPath("$.items", hasSize(3)))
-            .andExpect(jsonPath("$.items[0].name", equalTo("Documentarios")))
-            .andExpect(jsonPath("$.items[1].name", equalTo("Filmes")))
-            .andExpect(jsonPath("$.items[2].name", equalTo("Series")));
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.message", equalTo("'sort' must be one of id, name, createdAt or updatedAt")));
     }
 
     @Test
@@ -221,7 +261,7 @@ public class CategoryE2ETest {
         final var expectedDescription = "A categoria mais assistida";
         final var expectedIsActive = true;
 
-        final var requestBody = new UpdateCategoryRequest(expectedName, expectedDescription, expectedIsActive);
+        final var requestBody = new UpdateCategoryRequest(expectedName, expectedDescription, expectedIsActive, null);
 
         final var request = put("/categories/" + actualId.getValue())
             .contentType(MediaType.APPLICATION_JSON)
@@ -254,7 +294,7 @@ public class CategoryE2ETest {
 
         final var actualId = givenAValidCategory(expectedName, expectedDescription, true, CategoryType.COMMON);
 
-        final var requestBody = new UpdateCategoryRequest(expectedName, expectedDescription, expectedIsActive);
+        final var requestBody = new UpdateCategoryRequest(expectedName, expectedDescription, expectedIsActive, null);
 
         final var request = put("/categories/" + actualId.getValue())
             .contentType(MediaType.APPLICATION_JSON)
@@ -287,7 +327,7 @@ public class CategoryE2ETest {
 
         final var actualId = givenAValidCategory(expectedName, expectedDescription, false, CategoryType.COMMON);
 
-        final var requestBody = new UpdateCategoryRequest(expectedName, expectedDescription, expectedIsActive);
+        final var requestBody = new UpdateCategoryRequest(expectedName, expectedDescription, expectedIsActive, null);
 
         final var request = put("/categories/" + actualId.getValue())
             .contentType(MediaType.APPLICATION_JSON)
@@ -0,0 +1,67 @@
+package com.github.pedrobacchini.admin.catalog.e2e.category;
+
+import com.github.pedrobacchini.admin.catalog.E2ETest;
+import com.github.pedrobacchini.admin.catalog.domain.IdGenerator;
+import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryGateway;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.stream.IntStream;
+
+/**
+ * Compares how bulk inserts with random (v4) and time-ordered (v7) ids treat the clustered primary key. Generation
+ * throughput on its own is measured by the JMH {@code IdGeneratorBenchmark} in the domain module.
+ */
+@E2ETest
+public class CategoryIdGeneratorBenchmarkTest extends CategoryBenchmark {
+
+    private static final int ROWS = 200_000;
+    private static final int CHUNK = 1_000;
+
+    private static final String PAGE_SPLITS = """
+        SELECT COUNT FROM information_schema.INNODB_METRICS WHERE NAME = 'index_page_splits'""";
+
+    private static final String TABLE_SIZE = """
+        SELECT DATA_LENGTH FROM information_schema.TABLES
+        WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'category'""";
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void compareBulkInsertIndexLocality() {
+        jdbcTemplate.execute("SET GLOBAL innodb_monitor_enable = 'index_page_splits'");
+
+        insert("random      ", IdGenerator.random());
+        insert("time-ordered", IdGenerator.timeOrdered());
+    }
+
+    private void insert(final String aLabel, final IdGenerator aGenerator) {
+        jdbcTemplate.execute("TRUNCATE TABLE category");
+
+        final var splitsBefore = jdbcTemplate.queryForObject(PAGE_SPLITS, Long.class);
+        final var start = System.nanoTime();
+        for (var offset = 0; offset < ROWS; offset += CHUNK) {
+            categoryGateway.createAll(IntStream.range(offset, offset + CHUNK)
+                .mapToObj(i -> Category.newCategory(
+                    CategoryID.from(aGenerator.next()), "Categoria " + i, "Descrição " + i, true, CategoryType.COMMON))
+                .toList());
+        }
+        final var elapsed = System.nanoTime() - start;
+        final var splits = jdbcTemplate.queryForObject(PAGE_SPLITS, Long.class) - splitsBefore;
+
+        jdbcTemplate.execute("ANALYZE TABLE category");
+        final var size = jdbcTemplate.queryForObject(TABLE_SIZE, Long.class);
+
+        log("%s: %,.0f rows/s, %,d page splits, %,d KB clustered index",
+            aLabel, ROWS / (elapsed / 1_000_000_000d), splits, size / 1024);
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.github.pedrobacchini.admin.catalog.e2e.category;
+
+import com.github.pedrobacchini.admin.catalog.E2ETest;
+import com.github.pedrobacchini.admin.catalog.application.category.retrieve.list.CaregoryListOutput;
+import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryGateway;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySearchQuery;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares listing through hydrated entities against the tuple projection, in latency and bytes allocated per call.
+ * Run with {@code ./gradlew benchmark}.
+ */
+@E2ETest
+public class CategoryListBenchmarkTest extends CategoryBenchmark {
+
+    private static final int ROWS = 5_000;
+    private static final int PER_PAGE = 500;
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 200;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Test
+    void compareEntityListingAgainstProjectionListing() {
+        categoryGateway.createAll(IntStream.range(0, ROWS)
+            .mapToObj(i -> Category.newCategory("Categoria " + i, "x".repeat(1000), true, CategoryType.COMMON))
+            .toList());
+
+        final var aQuery = new CategorySearchQuery(0, PER_PAGE, "", "name", "asc");
+
+        final Supplier<Object> entities = () -> categoryGateway.findAll(aQuery).map(CaregoryListOutput::from);
+        final Supplier<Object> projection = () -> categoryGateway.findAllListItems(aQuery).map(CaregoryListOutput::from);
+
+        assertEquals(
+            categoryGateway.findAll(aQuery).map(CaregoryListOutput::from),
+            categoryGateway.findAllListItems(aQuery).map(CaregoryListOutput::from));
+
+        measure("entities  ", entities);
+        measure("projection", projection);
+    }
+
+    private static void measure(final String aLabel, final Supplier<Object> aCall) {
+        final var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final var threadId = Thread.currentThread().getId();
+
+        for (var i = 0; i < WARMUP; i++) {
+            aCall.get();
+        }
+
+        final var bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        final var start = System.nanoTime();
+        for (var i = 0; i < ITERATIONS; i++) {
+            aCall.get();
+        }
+        final var elapsed = System.nanoTime() - start;
+        final var allocated = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        log("%s: %,.2f ms/call, %,d KB allocated/call",
+            aLabel, elapsed / 1_000_000d / ITERATIONS, allocated / 1024 / ITERATIONS);
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.github.pedrobacchini.admin.catalog.e2e.category;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpRequest;
+
+import static com.github.pedrobacchini.admin.catalog.e2e.category.HttpLoad.createCategories;
+import static com.github.pedrobacchini.admin.catalog.e2e.category.HttpLoad.drive;
+import static com.github.pedrobacchini.admin.catalog.e2e.category.HttpLoad.report;
+import static com.github.pedrobacchini.admin.catalog.e2e.category.HttpLoad.send;
+import static com.github.pedrobacchini.admin.catalog.e2e.category.HttpLoad.start;
+import static com.github.pedrobacchini.admin.catalog.e2e.category.HttpLoad.uri;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Serves the same {@code /categories} contract from the servlet stack and from the {@code reactive} profile, side by
+ * side against one MySQL, and drives both with the same number of concurrent clients. Run with
+ * {@code ./gradlew benchmark}.
+ */
+public class CategoryReactiveBenchmarkTest extends CategoryBenchmark {
+
+    private static final int ROWS = 1_000;
+    private static final int REQUESTS = 20_000;
+    private static final int[] CONCURRENCY = {64, 512};
+
+    private static ConfigurableApplicationContext servlet;
+    private static ConfigurableApplicationContext reactive;
+
+    @BeforeAll
+    static void startBoth() {
+        servlet = start(MY_SQL_CONTAINER, "test-e2e");
+        reactive = start(MY_SQL_CONTAINER, "test-e2e", "reactive");
+    }
+
+    @AfterAll
+    static void stopBoth() {
+        if (reactive != null) {
+            reactive.close();
+        }
+        if (servlet != null) {
+            servlet.close();
+        }
+    }
+
+    @Test
+    void compareServletAgainstReactiveUnderConcurrentListing() throws Exception {
+        createCategories(servlet, ROWS);
+
+        final var aPath = "/categories?perPage=20&sort=name&count=none";
+        assertEquals(200, send(HttpRequest.newBuilder(uri(servlet, aPath)).build()).statusCode());
+        assertEquals(200, send(HttpRequest.newBuilder(uri(reactive, aPath)).build()).statusCode());
+
+        for (final var concurrency : CONCURRENCY) {
+            // the first round warms up both stacks
+            drive(uri(servlet, aPath), REQUESTS, concurrency);
+            drive(uri(reactive, aPath), REQUESTS, concurrency);
+            report("servlet  c=" + concurrency, drive(uri(servlet, aPath), REQUESTS, concurrency));
+            report("reactive c=" + concurrency, drive(uri(reactive, aPath), REQUESTS, concurrency));
+        }
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.github.pedrobacchini.admin.catalog.e2e.category;
+
+import com.github.pedrobacchini.admin.catalog.E2ETest;
+import com.github.pedrobacchini.admin.catalog.application.category.update.UpdateCategoryCommand;
+import com.github.pedrobacchini.admin.catalog.application.category.update.UpdateCategoryUseCase;
+import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryGateway;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
+import com.github.pedrobacchini.admin.catalog.domain.exception.VersionConflictException;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Hammers a single category from many threads, once letting the use case retry lost races and once sending the read
+ * version as If-Match would. Run with {@code ./gradlew benchmark}.
+ */
+@E2ETest
+public class CategoryUpdateContentionBenchmarkTest extends CategoryBenchmark {
+
+    private static final int THREADS = 16;
+    private static final int UPDATES_PER_THREAD = 50;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+    @Autowired
+    private UpdateCategoryUseCase updateCategoryUseCase;
+
+    @Test
+    void compareRetriedUpdatesAgainstIfMatchUpdatesOnOneId() throws InterruptedException {
+        final var aCategory = Category.newCategory("Filmes", null, true, CategoryType.COMMON);
+        categoryGateway.create(aCategory);
+
+        final var retried = hammer("retry   ", aCategory, anId -> null);
+        final var ifMatch = hammer("if-match", aCategory, anId -> categoryGateway.findById(anId)
+            .map(Category::getVersion)
+            .orElseThrow(AssertionFailedError::new));
+
+        final var actualVersion = categoryGateway.findById(aCategory.getId())
+            .orElseThrow(AssertionFailedError::new)
+            .getVersion();
+
+        // every successful write bumped the version exactly once, no update was lost
+        assertEquals(retried + ifMatch, actualVersion);
+        assertTrue(retried > 0 && ifMatch > 0);
+    }
+
+    private int hammer(
+        final String aLabel,
+        final Category aCategory,
+        final Function<CategoryID, Long> expectedVersion)
+        throws InterruptedException {
+        final var succeeded = new AtomicInteger();
+        final var conflicts = new AtomicInteger();
+        final var executor = Executors.newFixedThreadPool(THREADS);
+        final var start = System.nanoTime();
+
+        for (var t = 0; t < THREADS; t++) {
+            final var thread = t;
+            executor.submit(() -> {
+                for (var i = 0; i < UPDATES_PER_THREAD; i++) {
+                    final var aCommand = UpdateCategoryCommand.with(
+                        aCategory.getId().getValue(),
+                        "Filmes " + thread + "-" + i,
+                        null,
+                        true,
+                        expectedVersion.apply(aCategory.getId()));
+                    try {
+                        updateCategoryUseCase.execute(aCommand).get();
+                        succeeded.incrementAndGet();
+                    } catch (VersionConflictException ex) {
+                        conflicts.incrementAndGet();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.MINUTES));
+
+        final var elapsed = System.nanoTime() - start;
+        final var total = THREADS * UPDATES_PER_THREAD;
+        log("%s : %,.0f updates/s, %d ok, %d conflicts (412)",
+            aLabel, total / (elapsed / 1_000_000_000d), succeeded.get(), conflicts.get());
+        return succeeded.get();
+    }
+
+}
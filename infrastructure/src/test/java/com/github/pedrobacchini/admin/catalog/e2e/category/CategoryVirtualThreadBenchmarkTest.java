@@ -0,0 +1,65 @@
+package com.github.pedrobacchini.admin.catalog.e2e.category;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpRequest;
+
+import static com.github.pedrobacchini.admin.catalog.e2e.category.HttpLoad.createCategories;
+import static com.github.pedrobacchini.admin.catalog.e2e.category.HttpLoad.drive;
+import static com.github.pedrobacchini.admin.catalog.e2e.category.HttpLoad.report;
+import static com.github.pedrobacchini.admin.catalog.e2e.category.HttpLoad.send;
+import static com.github.pedrobacchini.admin.catalog.e2e.category.HttpLoad.start;
+import static com.github.pedrobacchini.admin.catalog.e2e.category.HttpLoad.uri;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Serves {@code /categories} from the Undertow worker pool and from the {@code virtual-threads} profile, side by side
+ * against one MySQL, with more concurrent connections than there are workers. Run with {@code ./gradlew benchmark},
+ * adding {@code -Djdk.tracePinnedThreads=short} to the test JVM to see whether any JDBC call still pins its carrier.
+ */
+public class CategoryVirtualThreadBenchmarkTest extends CategoryBenchmark {
+
+    private static final int ROWS = 1_000;
+    private static final int REQUESTS = 30_000;
+    private static final int[] CONCURRENCY = {1_024, 2_048};
+
+    private static ConfigurableApplicationContext platform;
+    private static ConfigurableApplicationContext virtual;
+
+    @BeforeAll
+    static void startBoth() {
+        platform = start(MY_SQL_CONTAINER, "test-e2e");
+        virtual = start(MY_SQL_CONTAINER, "test-e2e", "virtual-threads");
+    }
+
+    @AfterAll
+    static void stopBoth() {
+        if (virtual != null) {
+            virtual.close();
+        }
+        if (platform != null) {
+            platform.close();
+        }
+    }
+
+    @Test
+    void comparePlatformAgainstVirtualThreadsAtThousandsOfConnections() throws Exception {
+        createCategories(platform, ROWS);
+
+        final var aPath = "/categories?perPage=20&sort=name&count=none";
+        assertEquals(200, send(HttpRequest.newBuilder(uri(platform, aPath)).build()).statusCode());
+        assertEquals(200, send(HttpRequest.newBuilder(uri(virtual, aPath)).build()).statusCode());
+
+        for (final var concurrency : CONCURRENCY) {
+            // the first round warms up both stacks
+            drive(uri(platform, aPath), REQUESTS, concurrency);
+            drive(uri(virtual, aPath), REQUESTS, concurrency);
+            report("platform c=" + concurrency, drive(uri(platform, aPath), REQUESTS, concurrency));
+            report("virtual  c=" + concurrency, drive(uri(virtual, aPath), REQUESTS, concurrency));
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.github.pedrobacchini.admin.catalog.e2e.category;
+
+import com.github.pedrobacchini.admin.catalog.infrastructure.configuration.WebServerConfig;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.repository.CrudRepository;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Starts whole apps on a random port and keeps a fixed number of requests in flight against them, for the benchmarks
+ * that compare serving stacks.
+ */
+final class HttpLoad {
+
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(10))
+        .build();
+
+    private HttpLoad() {}
+
+    static ConfigurableApplicationContext start(final MySQLContainer<?> aDatabase, final String... profiles) {
+        return new SpringApplicationBuilder(WebServerConfig.class)
+            .profiles(profiles)
+            .properties(
+                "server.port=0",
+                "mysql.port=" + aDatabase.getMappedPort(3306),
+                "spring.jpa.show-sql=false",
+                CategoryBenchmark.LUCENE_DISABLED)
+            .run();
+    }
+
+    static URI uri(final ConfigurableApplicationContext anApp, final String aPath) {
+        final var port = ((WebServerApplicationContext) anApp).getWebServer().getPort();
+        return URI.create("http://localhost:" + port + aPath);
+    }
+
+    static HttpResponse<String> send(final HttpRequest aRequest) throws Exception {
+        return HTTP_CLIENT.send(aRequest, HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Replaces whatever earlier benchmarks left in the shared database with {@code count} categories.
+     */
+    static void createCategories(final ConfigurableApplicationContext anApp, final int count) throws Exception {
+        anApp.getBeansOfType(CrudRepository.class).values().forEach(CrudRepository::deleteAll);
+        for (var i = 0; i < count; i++) {
+            final var response = send(HttpRequest.newBuilder(uri(anApp, "/categories"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                    "{\"name\":\"Categoria %d\",\"description\":\"Descrição %d\",\"is_active\":true,\"type\":\"COMMON\"}"
+                        .formatted(i, i)))
+                .build());
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("seeding failed with " + response.statusCode());
+            }
+        }
+    }
+
+    /**
+     * Sends {@code requests} GETs keeping at most {@code concurrency} of them, and as many connections, open at once.
+     */
+    static Run drive(final URI aTarget, final int requests, final int concurrency) throws InterruptedException {
+        final var permits = new Semaphore(concurrency);
+        final var failures = new AtomicInteger();
+        final var latencies = Collections.synchronizedList(new ArrayList<Long>(requests));
+        final var calls = new ArrayList<CompletableFuture<?>>(requests);
+        final var request = HttpRequest.newBuilder(aTarget).timeout(Duration.ofSeconds(30)).build();
+
+        final var start = System.nanoTime();
+        for (var i = 0; i < requests; i++) {
+            permits.acquire();
+            final var sent = System.nanoTime();
+            calls.add(HTTP_CLIENT.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    latencies.add(System.nanoTime() - sent);
+                    if (error != null || response.statusCode() != 200) {
+                        failures.incrementAndGet();
+                    }
+                    permits.release();
+                }));
+        }
+        CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).exceptionally(ex -> null).join();
+        return new Run(requests, System.nanoTime() - start, new ArrayList<>(latencies), failures.get());
+    }
+
+    static void report(final String aLabel, final Run aRun) {
+        final var sorted = aRun.latencies().stream().sorted().toList();
+        CategoryBenchmark.log("%s: %,.0f req/s, p50 %,.2f ms, p99 %,.2f ms, %d failed",
+            aLabel,
+            aRun.requests() / (aRun.elapsed() / 1_000_000_000d),
+            sorted.get(sorted.size() / 2) / 1_000_000d,
+            sorted.get((int) (sorted.size() * 0.99)) / 1_000_000d,
+            aRun.failures());
+    }
+
+    record Run(int requests, long elapsed, List<Long> latencies, int failures) {
+    }
+
+}
@@ -1,33 +1,56 @@
 package com.github.pedrobacchini.admin.catalog.infrastructure.api;
 
 import com.github.pedrobacchini.admin.catalog.ControllerTest;
+import com.github.pedrobacchini.admin.catalog.application.category.create.CreateCategoriesOutput;
+import com.github.pedrobacchini.admin.catalog.application.category.create.CreateCategoriesUseCase;
 import com.github.pedrobacchini.admin.catalog.application.category.create.CreateCategoryOutput;
 import com.github.pedrobacchini.admin.catalog.application.category.create.CreateCategoryUseCase;
+import com.github.pedrobacchini.admin.catalog.application.category.create.ImportCategoriesCommand;
+import com.github.pedrobacchini.admin.catalog.application.category.create.ImportCategoriesOutput;
+import com.github.pedrobacchini.admin.catalog.application.category.create.ImportCategoriesUseCase;
+import com.github.pedrobacchini.admin.catalog.application.category.delete.DeleteCategoriesOutput;
+import com.github.pedrobacchini.admin.catalog.application.category.delete.DeleteCategoriesUseCase;
 import com.github.pedrobacchini.admin.catalog.application.category.delete.DeleteCategoryUseCase;
+import com.github.pedrobacchini.admin.catalog.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.github.pedrobacchini.admin.catalog.application.category.retrieve.get.CategoryOutput;
 import com.github.pedrobacchini.admin.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.github.pedrobacchini.admin.catalog.application.category.retrieve.list.CaregoryListOutput;
 import com.github.pedrobacchini.admin.catalog.application.category.retrieve.list.ListCategoriesUseCase;
+import com.github.pedrobacchini.admin.catalog.application.category.retrieve.suggest.CategorySuggestOutput;
+import com.github.pedrobacchini.admin.catalog.application.category.retrieve.suggest.SuggestCategoriesUseCase;
 import com.github.pedrobacchini.admin.catalog.application.category.update.UpdateCategoryOutput;
 import com.github.pedrobacchini.admin.catalog.application.category.update.UpdateCategoryUseCase;
+import com.github.pedrobacchini.admin.catalog.application.category.upsert.UpsertCategoryOutput;
+import com.github.pedrobacchini.admin.catalog.application.category.upsert.UpsertCategoryUseCase;
 import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryFilter;
 import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySearchQuery;
 import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
 import com.github.pedrobacchini.admin.catalog.domain.exception.DomainException;
 import com.github.pedrobacchini.admin.catalog.domain.exception.NotFoundException;
+import com.github.pedrobacchini.admin.catalog.domain.exception.VersionConflictException;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.CountMode;
 import com.github.pedrobacchini.admin.catalog.domain.pagination.Pagination;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.SearchMode;
 import com.github.pedrobacchini.admin.catalog.domain.validation.Error;
 import com.github.pedrobacchini.admin.catalog.domain.validation.handler.Notification;
 import com.github.pedrobacchini.admin.catalog.infrastructure.category.model.CreateCategoryRequest;
 import com.github.pedrobacchini.admin.catalog.infrastructure.category.model.UpdateCategoryRequest;
+import com.github.pedrobacchini.admin.catalog.infrastructure.configuration.datasource.ReplicaRoutingDataSource;
 import com.github.pedrobacchini.admin.catalog.infrastructure.configuration.json.Json;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import static com.github.pedrobacchini.admin.catalog.DummyUtil.dummyObject;
@@ -36,18 +59,23 @@ import static io.vavr.API.Right;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ControllerTest(controllers = CategoryAPI.class)
@@ -71,6 +99,24 @@ public class CategoryAPITest {
     @MockBean
     private ListCategoriesUseCase listCategoriesUseCase;
 
+    @MockBean
+    private SuggestCategoriesUseCase suggestCategoriesUseCase;
+
+    @MockBean
+    private CreateCategoriesUseCase createCategoriesUseCase;
+
+    @MockBean
+    private UpsertCategoryUseCase upsertCategoryUseCase;
+
+    @MockBean
+    private DeleteCategoriesUseCase deleteCategoriesUseCase;
+
+    @MockBean
+    private ExportCategoriesUseCase exportCategoriesUseCase;
+
+    @MockBean
+    private ImportCategoriesUseCase importCategoriesUseCase;
+
     @Test
     void givenAValidCommand_whenCallsCreateCategory_shouldReturnCategoryId() throws Exception {
         // given
@@ -295,6 +341,57 @@ public class CategoryAPITest {
                 Objects.equals(aInput.active(), cmd.isActive())));
     }
 
+    @Test
+    void givenAnIfMatchVersion_whenCallsUpdateCategory_shouldForwardItAndReturnTheNewETag() throws Exception {
+        // given
+        final var expectedID = "123";
+        final var aInput = dummyObject(UpdateCategoryRequest.class);
+
+        when(updateCategoryUseCase.execute(any()))
+            .thenReturn(Right(UpdateCategoryOutput.from(expectedID, 5)));
+
+        // when
+        final var request = put("/categories/{id}", expectedID)
+            .header("If-Match", "\"4\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(Json.writeValueAsString(aInput));
+
+        final var response = this.mockMvc.perform(request)
+            .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"5\""))
+            .andExpect(jsonPath("$.version", equalTo(5)));
+
+        verify(updateCategoryUseCase, times(1)).execute(argThat(cmd ->
+            Objects.equals(expectedID, cmd.id()) && Objects.equals(4L, cmd.expectedVersion())));
+    }
+
+    @Test
+    void givenAStaleIfMatchVersion_whenCallsUpdateCategory_shouldReturnPreconditionFailed() throws Exception {
+        // given
+        final var expectedID = "123";
+        final var expectedErrorMessage = "Category with ID 123 is no longer at version 4";
+        final var aInput = dummyObject(UpdateCategoryRequest.class);
+
+        when(updateCategoryUseCase.execute(any()))
+            .thenThrow(VersionConflictException.with(Category.class, CategoryID.from(expectedID), 4));
+
+        // when
+        final var request = put("/categories/{id}", expectedID)
+            .header("If-Match", "\"4\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(Json.writeValueAsString(aInput));
+
+        final var response = this.mockMvc.perform(request)
+            .andDo(print());
+
+        // then
+        response.andExpect(status().isPreconditionFailed())
+            .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+    }
+
     @Test
     void givenAInvalidName_whenCallsUpdateCategory_shouldReturnDomainException() throws Exception {
         // given
@@ -306,7 +403,7 @@ public class CategoryAPITest {
         final var expectedErrorCount = 1;
         final var expectedMessageError = "'name' should not be null";
 
-        final var aInput = new UpdateCategoryRequest(expectedName, expectedDescription, expectedIsActive);
+        final var aInput = new UpdateCategoryRequest(expectedName, expectedDescription, expectedIsActive, null);
 
         when(updateCategoryUseCase.execute(any()))
             .thenReturn(Left(Notification.create(new Error(expectedMessageError))));
@@ -333,6 +430,46 @@ public class CategoryAPITest {
                 Objects.equals(expectedIsActive, cmd.isActive())));
     }
 
+    @Test
+    void givenAnUnknownIdAndUpsert_whenCallsUpdateCategory_shouldCreateIt() throws Exception {
+        // given
+        final var expectedID = "123";
+        final var expectedName = "Filmes";
+        final var expectedDescription = "A categoria mais assistida";
+        final var expectedIsActive = true;
+        final var expectedType = CategoryType.COMMON;
+
+        final var aInput = new UpdateCategoryRequest(expectedName, expectedDescription, expectedIsActive, expectedType);
+
+        when(upsertCategoryUseCase.execute(any()))
+            .thenReturn(Right(new UpsertCategoryOutput(expectedID, 1, 0)));
+
+        // when
+        final var request = put("/categories/{id}", expectedID)
+            .queryParam("upsert", "true")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(Json.writeValueAsString(aInput));
+
+        final var response = this.mockMvc.perform(request)
+            .andDo(print());
+
+        // then
+        response
+            .andExpect(status().isCreated())
+            .andExpect(header().string("Location", "/categories/123"))
+            .andExpect(jsonPath("$.id", equalTo(expectedID)))
+            .andExpect(jsonPath("$.inserted", equalTo(1)))
+            .andExpect(jsonPath("$.updated", equalTo(0)));
+
+        verify(updateCategoryUseCase, never()).execute(any());
+        verify(upsertCategoryUseCase, times(1)).execute(argThat(cmd ->
+            Objects.equals(expectedID, cmd.id()) &&
+                Objects.equals(expectedName, cmd.name()) &&
+                Objects.equals(expectedDescription, cmd.description()) &&
+                Objects.equals(expectedIsActive, cmd.isActive()) &&
+                Objects.equals(expectedType, cmd.type())));
+    }
+
     @Test
     void givenAValidId_whenCallsDeleteCategory_shouldReturnNoContent() throws Exception {
         // given
@@ -404,4 +541,524 @@ public class CategoryAPITest {
                     && Objects.equals(expectedTerms, query.terms())));
     }
 
+    @Test
+    void givenACursor_whenCallsListCategories_shouldForwardItAndReturnNextCursor() throws Exception {
+        // given
+        final var expectedCursor = "eyJzb3J0IjoibmFtZSJ9";
+        final var expectedNext = "bmV4dA";
+        final var expectedPrev = "cHJldg";
+
+        final var aCategory = Category.newCategory("Movie", null, true, CategoryType.COMMON);
+        final var expectedResult = new Pagination<>(0, 10, 1, List.of(aCategory), expectedNext, expectedPrev)
+            .map(CaregoryListOutput::from);
+
+        when(listCategoriesUseCase.execute(any()))
+            .thenReturn(expectedResult);
+
+        // when
+        final var request = get("/categories")
+            .queryParam("cursor", expectedCursor)
+            .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mockMvc.perform(request)
+            .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+            .andExpect(jsonPath("$.next", equalTo(expectedNext)))
+            .andExpect(jsonPath("$.prev", equalTo(expectedPrev)))
+            .andExpect(jsonPath("$.items", hasSize(1)));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+            Objects.equals(expectedCursor, query.cursor())
+                && !query.hasSort()
+                && Objects.equals("asc", query.direction())));
+    }
+
+    @Test
+    void givenCountNone_whenCallsListCategories_shouldForwardItAndReturnHasNext() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("Movie", null, true, CategoryType.COMMON);
+        final var expectedResult = new Pagination<>(
+            0, 1, Pagination.UNKNOWN_TOTAL, List.of(aCategory), "bmV4dA", null, true, CountMode.NONE)
+            .map(CaregoryListOutput::from);
+
+        when(listCategoriesUseCase.execute(any()))
+            .thenReturn(expectedResult);
+
+        // when
+        final var request = get("/categories")
+            .queryParam("perPage", "1")
+            .queryParam("count", "none")
+            .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mockMvc.perform(request)
+            .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+            .andExpect(jsonPath("$.total", equalTo(-1)))
+            .andExpect(jsonPath("$.has_next", equalTo(true)))
+            .andExpect(jsonPath("$.count_mode", equalTo("NONE")));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+            query.count() == CountMode.NONE && query.searchMode() == SearchMode.LIKE));
+    }
+
+    @Test
+    void givenAnInvalidCountMode_whenCallsListCategories_shouldReturnDomainException() throws Exception {
+        // given
+        final var expectedMessageError = "'count' must be one of exact, none or estimate";
+
+        // when
+        final var request = get("/categories")
+            .queryParam("count", "approximate")
+            .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mockMvc.perform(request)
+            .andDo(print());
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.message", equalTo(expectedMessageError)));
+
+        verify(listCategoriesUseCase, never()).execute(any());
+    }
+
+    @Test
+    void givenAFullTextSearchMode_whenCallsListCategories_shouldForwardIt() throws Exception {
+        // given
+        final var expectedTerms = "doc";
+
+        when(listCategoriesUseCase.execute(any()))
+            .thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        // when
+        final var request = get("/categories")
+            .queryParam("search", expectedTerms)
+            .queryParam("searchMode", "boolean")
+            .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mockMvc.perform(request)
+            .andDo(print());
+
+        // then
+        response.andExpect(status().isOk());
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+            Objects.equals(expectedTerms, query.terms()) && query.searchMode() == SearchMode.BOOLEAN));
+    }
+
+    @Test
+    void givenIncludeArchived_whenCallsListCategories_shouldForwardIt() throws Exception {
+        // given
+        when(listCategoriesUseCase.execute(any()))
+            .thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        // when
+        final var request = get("/categories")
+            .queryParam("includeArchived", "true")
+            .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mockMvc.perform(request)
+            .andDo(print());
+
+        // then
+        response.andExpect(status().isOk());
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(CategorySearchQuery::includeArchived));
+    }
+
+    @Test
+    void givenStructuredFilters_whenCallsListCategories_shouldForwardThem() throws Exception {
+        // given
+        final var expectedCreatedFrom = Instant.parse("2023-01-01T00:00:00Z");
+        final var expectedCreatedTo = Instant.parse("2023-01-08T00:00:00Z");
+
+        when(listCategoriesUseCase.execute(any()))
+            .thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        // when
+        final var request = get("/categories")
+            .queryParam("type", "restrict")
+            .queryParam("active", "true")
+            .queryParam("createdFrom", expectedCreatedFrom.toString())
+            .queryParam("createdTo", expectedCreatedTo.toString())
+            .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mockMvc.perform(request)
+            .andDo(print());
+
+        // then
+        response.andExpect(status().isOk());
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+            Objects.equals(
+                new CategoryFilter(CategoryType.RESTRICT, true, expectedCreatedFrom, expectedCreatedTo, null, null),
+                query.filter())));
+    }
+
+    @Test
+    void givenAnInvalidTypeFilter_whenCallsListCategories_shouldReturnDomainException() throws Exception {
+        // given
+        final var expectedMessageError = "'type' must be one of common or restrict";
+
+        // when
+        final var request = get("/categories")
+            .queryParam("type", "secret")
+            .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mockMvc.perform(request)
+            .andDo(print());
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.message", equalTo(expectedMessageError)));
+
+        verify(listCategoriesUseCase, never()).execute(any());
+    }
+
+    @Test
+    void givenAnEmptyCreatedRange_whenCallsListCategories_shouldReturnDomainException() throws Exception {
+        // given
+        final var expectedMessageError = "'createdFrom' should be before 'createdTo'";
+
+        // when
+        final var request = get("/categories")
+            .queryParam("createdFrom", "2023-01-08T00:00:00Z")
+            .queryParam("createdTo", "2023-01-01T00:00:00Z")
+            .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mockMvc.perform(request)
+            .andDo(print());
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.message", equalTo(expectedMessageError)));
+
+        verify(listCategoriesUseCase, never()).execute(any());
+    }
+
+    @Test
+    void givenAPrefix_whenCallsSuggestCategories_shouldReturnSuggestions() throws Exception {
+        // given
+        final var expectedPrefix = "fil";
+        final var expectedLimit = 5;
+        final var expectedId = CategoryID.unique().getValue();
+
+        when(suggestCategoriesUseCase.execute(any()))
+            .thenReturn(List.of(new CategorySuggestOutput(expectedId, "Filmes")));
+
+        // when
+        final var request = get("/categories/suggest")
+            .queryParam("prefix", expectedPrefix)
+            .queryParam("limit", String.valueOf(expectedLimit))
+            .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mockMvc.perform(request)
+            .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].id", equalTo(expectedId)))
+            .andExpect(jsonPath("$[0].name", equalTo("Filmes")));
+
+        verify(suggestCategoriesUseCase, times(1)).execute(argThat(cmd ->
+            Objects.equals(expectedPrefix, cmd.prefix()) && expectedLimit == cmd.limit()));
+    }
+
+    @Test
+    void givenValidAndInvalidItems_whenCallsCreateCategories_shouldReturnMultiStatusByIndex() throws Exception {
+        // given
+        final var expectedMessageError = "'name' should not be null";
+        final var aValid = new CreateCategoryRequest("Filmes", "A categoria mais assistida", true, CategoryType.COMMON);
+        final var anInvalid = new CreateCategoryRequest(null, "A categoria mais assistida", true, CategoryType.COMMON);
+
+        when(createCategoriesUseCase.execute(any()))
+            .thenReturn(CreateCategoriesOutput.with(
+                Map.of(0, CreateCategoryOutput.from("123")),
+                Map.of(1, Notification.create(new Error(expectedMessageError)))));
+
+        // when
+        final var request = post("/categories/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(Json.writeValueAsString(List.of(aValid, anInvalid)));
+        final var response = mockMvc.perform(request)
+            .andDo(print());
+
+        // then
+        response
+            .andExpect(status().isMultiStatus())
+            .andExpect(jsonPath("$.created['0'].id", equalTo("123")))
+            .andExpect(jsonPath("$.errors['1'].errors[0].message", equalTo(expectedMessageError)));
+
+        verify(createCategoriesUseCase, times(1)).execute(argThat(cmds ->
+            cmds.size() == 2
+                && Objects.equals("Filmes", cmds.get(0).name())
+                && Objects.isNull(cmds.get(1).name())
+                && cmds.get(1).isActive()));
+    }
+
+    @Test
+    void givenIds_whenCallsDeleteCategories_shouldReturnDeletedCount() throws Exception {
+        // given
+        when(deleteCategoriesUseCase.execute(any()))
+            .thenReturn(DeleteCategoriesOutput.from(2));
+
+        // when
+        final var request = delete("/categories")
+            .queryParam("ids", "123", "456")
+            .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mockMvc.perform(request)
+            .andDo(print());
+
+        // then
+        response
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.deleted", equalTo(2)));
+
+        verify(deleteCategoriesUseCase, times(1)).execute(argThat(cmd ->
+            List.of("123", "456").equals(cmd.ids())
+                && !cmd.hasTerms()
+                && cmd.searchMode() == SearchMode.LIKE));
+    }
+
+    @Test
+    void givenFiltersWithoutSearch_whenCallsDeleteCategories_shouldPassTheFilterToTheCommand() throws Exception {
+        // given
+        when(deleteCategoriesUseCase.execute(any()))
+            .thenReturn(DeleteCategoriesOutput.from(3));
+
+        // when
+        final var request = delete("/categories")
+            .queryParam("type", "restrict")
+            .queryParam("active", "false")
+            .queryParam("updatedTo", "2024-01-01T00:00:00Z")
+            .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mockMvc.perform(request)
+            .andDo(print());
+
+        // then
+        response
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.deleted", equalTo(3)));
+
+        verify(deleteCategoriesUseCase, times(1)).execute(argThat(cmd ->
+            !cmd.hasIds()
+                && !cmd.hasTerms()
+                && cmd.filter().type() == CategoryType.RESTRICT
+                && Boolean.FALSE.equals(cmd.filter().active())
+                && Instant.parse("2024-01-01T00:00:00Z").equals(cmd.filter().updatedTo())));
+    }
+
+    @Test
+    void givenNeitherIdsNorSearch_whenCallsDeleteCategories_shouldReturnUnprocessableEntity() throws Exception {
+        // given
+        final var expectedErrorMessage = "'ids', 'search' or a filter should be informed";
+
+        when(deleteCategoriesUseCase.execute(any()))
+            .thenThrow(DomainException.with(new Error(expectedErrorMessage)));
+
+        // when
+        final var request = delete("/categories")
+            .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mockMvc.perform(request)
+            .andDo(print());
+
+        // then
+        response
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+    }
+
+    @Test
+    void givenStructuredFilters_whenCallsExportCategories_shouldStreamOneJsonLinePerCategory() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("Filmes", null, true, CategoryType.COMMON);
+        final var anotherCategory = Category.newCategory("Series", "Episodios", false, CategoryType.RESTRICT);
+        final var rows = List.of(CaregoryListOutput.from(aCategory), CaregoryListOutput.from(anotherCategory));
+
+        when(exportCategoriesUseCase.execute(any()))
+            .thenReturn(aSink -> {
+                rows.forEach(aSink);
+                return rows.size();
+            });
+
+        // when
+        final var request = get("/categories/export")
+            .queryParam("format", "ndjson")
+            .queryParam("sort", "createdAt")
+            .queryParam("active", "true");
+
+        final var started = this.mockMvc.perform(request)
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        final var response = this.mockMvc.perform(asyncDispatch(started))
+            .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "application/x-ndjson"))
+            .andExpect(header().string("Content-Disposition", "attachment; filename=\"categories.ndjson\""))
+            .andExpect(content().string(
+                "{\"id\":\"%s\",\"name\":\"Filmes\",\"description\":null,\"is_active\":true,\"type\":\"COMMON\",\"created_at\":\"%s\",\"deleted_at\":null}\n"
+                    .formatted(aCategory.getId().getValue(), aCategory.getCreatedAt())
+                    + "{\"id\":\"%s\",\"name\":\"Series\",\"description\":\"Episodios\",\"is_active\":false,\"type\":\"RESTRICT\",\"created_at\":\"%s\",\"deleted_at\":\"%s\"}"
+                    .formatted(anotherCategory.getId().getValue(), anotherCategory.getCreatedAt(), anotherCategory.getDeletedAt())));
+
+        verify(exportCategoriesUseCase, times(1)).execute(argThat(query ->
+            Objects.equals("createdAt", query.sort())
+                && Objects.equals(true, query.filter().active())
+                && query.searchMode() == SearchMode.LIKE
+                && !query.includeArchived()));
+    }
+
+    @Test
+    void givenAPrimaryPinnedRequest_whenCallsExportCategories_shouldKeepThePinWhileStreaming() throws Exception {
+        // given
+        final var pinnedWhileStreaming = new ArrayList<Boolean>();
+
+        when(exportCategoriesUseCase.execute(any()))
+            .thenReturn(aSink -> {
+                pinnedWhileStreaming.add(ReplicaRoutingDataSource.isPrimaryForced());
+                return 0;
+            });
+
+        // when
+        ReplicaRoutingDataSource.forcePrimary();
+        final MvcResult started;
+        try {
+            started = this.mockMvc.perform(get("/categories/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        } finally {
+            ReplicaRoutingDataSource.release();
+        }
+
+        this.mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk());
+
+        // then
+        assertEquals(List.of(true), pinnedWhileStreaming);
+    }
+
+    @Test
+    void givenCsvFormat_whenCallsExportCategories_shouldStreamAHeaderAndOneRowPerCategory() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("Filmes", "Documentarios", true, CategoryType.COMMON);
+
+        when(exportCategoriesUseCase.execute(any()))
+            .thenReturn(aSink -> {
+                aSink.accept(CaregoryListOutput.from(aCategory));
+                return 1;
+            });
+
+        // when
+        final var started = this.mockMvc.perform(get("/categories/export").queryParam("format", "csv"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        final var response = this.mockMvc.perform(asyncDispatch(started))
+            .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+            .andExpect(content().string(
+                "id,name,description,is_active,type,created_at,deleted_at\n%s,Filmes,Documentarios,true,COMMON,%s,\n"
+                    .formatted(aCategory.getId().getValue(), aCategory.getCreatedAt())));
+    }
+
+    @Test
+    void givenAnInvalidFormat_whenCallsExportCategories_shouldReturnDomainException() throws Exception {
+        // given
+        final var expectedMessageError = "'format' must be one of ndjson or csv";
+
+        // when
+        final var request = get("/categories/export")
+            .queryParam("format", "xml")
+            .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mockMvc.perform(request)
+            .andDo(print());
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.message", equalTo(expectedMessageError)));
+
+        verify(exportCategoriesUseCase, never()).execute(any());
+    }
+
+    @Test
+    void givenEveryStreamingThreadBusy_whenCallsExportCategories_shouldReturnServiceUnavailable() throws Exception {
+        // given
+        when(exportCategoriesUseCase.execute(any()))
+            .thenThrow(new TaskRejectedException("Executor did not accept task"));
+
+        // when
+        final var response = this.mockMvc.perform(get("/categories/export"))
+            .andDo(print());
+
+        // then
+        response.andExpect(status().isServiceUnavailable())
+            .andExpect(header().string("Retry-After", "1"));
+    }
+
+    @Test
+    void givenAnNdjsonBody_whenCallsImportCategories_shouldParseEveryLineAndReturnMultiStatus() throws Exception {
+        // given
+        final var body = """
+            {"name":"Filmes","description":"A categoria mais assistida","is_active":true,"type":"COMMON"}
+            {"name":"Series","type":"secret"}
+            """;
+        final var parsed = new ArrayList<Boolean>();
+
+        when(importCategoriesUseCase.execute(any()))
+            .thenAnswer(invocation -> {
+                final ImportCategoriesCommand aCommand = invocation.getArgument(0);
+                aCommand.records().forEachRemaining(aRecord -> parsed.add(aRecord.parsed().isRight()));
+                return new ImportCategoriesOutput(
+                    2, 1, 1, Map.of(2L, Notification.create(new Error("'type' must be one of common or restrict"))), 5, 400);
+            });
+
+        // when
+        final var request = post("/categories/import")
+            .contentType("application/x-ndjson")
+            .content(body);
+
+        final var response = this.mockMvc.perform(request)
+            .andDo(print());
+
+        // then
+        response.andExpect(status().isMultiStatus())
+            .andExpect(jsonPath("$.read", equalTo(2)))
+            .andExpect(jsonPath("$.imported", equalTo(1)))
+            .andExpect(jsonPath("$.failed", equalTo(1)))
+            .andExpect(jsonPath("$.rows_per_second", equalTo(400)))
+            .andExpect(jsonPath("$.errors['2'].errors[0].message", equalTo("'type' must be one of common or restrict")));
+
+        assertEquals(List.of(true, false), parsed);
+    }
+
+    @Test
+    void givenAnUnsupportedBody_whenCallsImportCategories_shouldReturnUnsupportedMediaType() throws Exception {
+        // when
+        final var request = post("/categories/import")
+            .contentType(MediaType.APPLICATION_XML)
+            .content("<categories/>");
+
+        final var response = this.mockMvc.perform(request)
+            .andDo(print());
+
+        // then
+        response.andExpect(status().isUnsupportedMediaType());
+
+        verify(importCategoriesUseCase, never()).execute(any());
+    }
+
 }
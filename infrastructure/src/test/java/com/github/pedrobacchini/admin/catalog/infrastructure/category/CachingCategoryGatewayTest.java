@@ -0,0 +1,198 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category;
+
+import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
+import com.github.pedrobacchini.admin.catalog.domain.exception.VersionConflictException;
+import com.github.pedrobacchini.admin.catalog.infrastructure.configuration.datasource.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingCategoryGatewayTest {
+
+    @Mock
+    private CategoryMySQLGateway categoryMySQLGateway;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CachingCategoryGateway categoryGateway;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        final var beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        categoryGateway = new CachingCategoryGateway(
+            categoryMySQLGateway,
+            100,
+            Duration.ofMinutes(5),
+            Duration.ofMinutes(1),
+            beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingDataSource.release();
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsFindByIdTwice_shouldLoadItOnceAndHandOutCopies() {
+        final var aCategory = Category.newCategory("Filmes", null, true, CategoryType.COMMON);
+        final var expectedId = aCategory.getId();
+
+        when(categoryMySQLGateway.findById(expectedId)).thenReturn(Optional.of(aCategory));
+
+        final var firstRead = categoryGateway.findById(expectedId).orElseThrow();
+        firstRead.update("Series", null, false);
+        final var secondRead = categoryGateway.findById(expectedId).orElseThrow();
+
+        assertNotSame(firstRead, secondRead);
+        assertEquals("Filmes", secondRead.getName());
+        assertTrue(secondRead.isActive());
+        verify(categoryMySQLGateway, times(1)).findById(expectedId);
+        assertEquals(1, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void givenAMissingCategory_whenCallsFindById_shouldNotCacheTheMiss() {
+        final var expectedId = CategoryID.from("123");
+
+        when(categoryMySQLGateway.findById(expectedId)).thenReturn(Optional.empty());
+
+        assertTrue(categoryGateway.findById(expectedId).isEmpty());
+        assertTrue(categoryGateway.findById(expectedId).isEmpty());
+
+        verify(categoryMySQLGateway, times(2)).findById(expectedId);
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsUpdate_shouldEvictIt() {
+        final var aCategory = Category.newCategory("Film", null, true, CategoryType.COMMON);
+        final var expectedId = aCategory.getId();
+
+        when(categoryMySQLGateway.findById(expectedId)).thenReturn(Optional.of(aCategory));
+        categoryGateway.findById(expectedId);
+
+        categoryGateway.update(aCategory.clone().update("Filmes", null, true));
+        categoryGateway.findById(expectedId);
+
+        verify(categoryMySQLGateway, times(2)).findById(expectedId);
+    }
+
+    @Test
+    void givenACachedCategory_whenUpdateConflicts_shouldStillEvictIt() {
+        final var aCategory = Category.newCategory("Film", null, true, CategoryType.COMMON);
+        final var expectedId = aCategory.getId();
+
+        when(categoryMySQLGateway.findById(expectedId)).thenReturn(Optional.of(aCategory));
+        doThrow(VersionConflictException.with(Category.class, expectedId, 0)).when(categoryMySQLGateway).update(any());
+        categoryGateway.findById(expectedId);
+
+        assertThrows(VersionConflictException.class, () -> categoryGateway.update(aCategory.clone()));
+        categoryGateway.findById(expectedId);
+
+        verify(categoryMySQLGateway, times(2)).findById(expectedId);
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsDeleteById_shouldEvictIt() {
+        final var aCategory = Category.newCategory("Filmes", null, true, CategoryType.COMMON);
+        final var expectedId = aCategory.getId();
+
+        when(categoryMySQLGateway.findById(expectedId)).thenReturn(Optional.of(aCategory), Optional.empty());
+        categoryGateway.findById(expectedId);
+
+        categoryGateway.deleteById(expectedId);
+
+        assertTrue(categoryGateway.findById(expectedId).isEmpty());
+    }
+
+    @Test
+    void givenACachedCategory_whenAnotherWriteCommits_shouldEvictIt() {
+        final var aCategory = Category.newCategory("Filmes", null, true, CategoryType.COMMON);
+        final var expectedId = aCategory.getId();
+
+        when(categoryMySQLGateway.findById(expectedId)).thenReturn(Optional.of(aCategory));
+        categoryGateway.findById(expectedId);
+
+        categoryGateway.onSaved(aCategory);
+        categoryGateway.findById(expectedId);
+        categoryGateway.onDeleted(expectedId);
+        categoryGateway.findById(expectedId);
+
+        verify(categoryMySQLGateway, times(3)).findById(expectedId);
+    }
+
+    @Test
+    void givenAnUncachedCategory_whenCallsFindById_shouldLoadItFromThePrimary() {
+        final var aCategory = Category.newCategory("Filmes", null, true, CategoryType.COMMON);
+        final var expectedId = aCategory.getId();
+
+        when(categoryMySQLGateway.findById(expectedId)).thenAnswer(invocation -> {
+            assertTrue(ReplicaRoutingDataSource.isPrimaryForced());
+            return Optional.of(aCategory);
+        });
+
+        categoryGateway.findById(expectedId);
+
+        assertFalse(ReplicaRoutingDataSource.isPrimaryForced());
+    }
+
+    @Test
+    void givenAPrimaryPinnedRequest_whenCallsFindById_shouldNeitherReadNorFillTheCache() {
+        final var aCategory = Category.newCategory("Filmes", null, true, CategoryType.COMMON);
+        final var expectedId = aCategory.getId();
+
+        when(categoryMySQLGateway.findById(expectedId)).thenReturn(Optional.of(aCategory));
+        categoryGateway.findById(expectedId);
+
+        ReplicaRoutingDataSource.forcePrimary();
+        categoryGateway.findById(expectedId);
+        categoryGateway.findById(expectedId);
+        ReplicaRoutingDataSource.release();
+
+        verify(categoryMySQLGateway, times(3)).findById(expectedId);
+        assertEquals(0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void givenAnUppercaseId_whenCallsFindByIdAndDeleteById_shouldHitAndEvictTheSameEntry() {
+        final var aCategory = Category.newCategory("Filmes", null, true, CategoryType.COMMON);
+        final var expectedId = aCategory.getId();
+        final var anUppercaseId = CategoryID.from(expectedId.getValue().toUpperCase(Locale.ROOT));
+
+        when(categoryMySQLGateway.findById(expectedId)).thenReturn(Optional.of(aCategory), Optional.empty());
+        categoryGateway.findById(expectedId);
+        categoryGateway.findById(anUppercaseId);
+
+        categoryGateway.deleteById(anUppercaseId);
+
+        assertTrue(categoryGateway.findById(expectedId).isEmpty());
+        verify(categoryMySQLGateway, times(2)).findById(expectedId);
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CategoryCountCacheTest {
+
+    @Test
+    void givenConcurrentCallersOfAnUncachedKey_whenGets_shouldCountOnce() throws Exception {
+        final var cache = new CategoryCountCache(60_000);
+        final var loads = new AtomicInteger();
+        final var release = new CountDownLatch(1);
+
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            final var counts = IntStream.range(0, 8)
+                .mapToObj(i -> executor.submit(() -> cache.get("name:fil", () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return 42L;
+                })))
+                .toList();
+            release.countDown();
+            for (final var aCount : counts) {
+                assertEquals(42L, aCount.get());
+            }
+        }
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void givenMoreKeysThanTheCacheHolds_whenGets_shouldKeepTheHotKey() {
+        final var cache = new CategoryCountCache(60_000);
+        final var loads = new AtomicInteger();
+
+        for (var i = 0; i < 5_000; i++) {
+            cache.get("hot", () -> {
+                loads.incrementAndGet();
+                return 1L;
+            });
+            cache.get("cold:" + i, () -> 0L);
+        }
+
+        // eviction is approximate, but the hot key is never dropped with the whole map
+        assertTrue(loads.get() < 10);
+    }
+
+    private static void await(final CountDownLatch aLatch) {
+        try {
+            aLatch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
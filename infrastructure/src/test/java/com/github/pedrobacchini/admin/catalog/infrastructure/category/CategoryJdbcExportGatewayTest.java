@@ -0,0 +1,77 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category;
+
+import com.github.pedrobacchini.admin.catalog.MySQLGatewayTest;
+import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryFilter;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryListItem;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySearchQuery;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
+import com.github.pedrobacchini.admin.catalog.domain.exception.DomainException;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.CountMode;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.SearchMode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@MySQLGatewayTest
+class CategoryJdbcExportGatewayTest {
+
+    @Autowired
+    private CategoryMySQLGateway categoryMySQLGateway;
+
+    @Autowired
+    private CategoryJdbcExportGateway categoryExportGateway;
+
+    @Test
+    void givenPrePersistedCategories_whenExportsWithFilterAndSort_shouldEmitEveryMatchingRowInOrder() {
+        categoryMySQLGateway.createAll(List.of(
+            Category.newCategory("Filmes", null, true, CategoryType.COMMON),
+            Category.newCategory("Series", null, true, CategoryType.RESTRICT),
+            Category.newCategory("Documentarios", null, true, CategoryType.COMMON),
+            Category.newCategory("Kids", null, false, CategoryType.COMMON),
+            Category.newCategory("Animes", null, true, CategoryType.COMMON)));
+
+        final var aFilter = new CategoryFilter(CategoryType.COMMON, true, null, null, null, null);
+        final var aQuery = new CategorySearchQuery(0, 1, "", "name", "desc", null, CountMode.EXACT, SearchMode.LIKE, false, aFilter);
+
+        final var exported = new ArrayList<CategoryListItem>();
+        final var actualCount = categoryExportGateway.exportListItems(aQuery).forEach(exported::add);
+
+        assertEquals(3, actualCount);
+        assertEquals(List.of("Filmes", "Documentarios", "Animes"), exported.stream().map(CategoryListItem::name).toList());
+    }
+
+    @Test
+    void givenSearchTerms_whenExports_shouldApplyThemLikeTheListing() {
+        categoryMySQLGateway.createAll(List.of(
+            Category.newCategory("Filmes", null, true, CategoryType.COMMON),
+            Category.newCategory("Series", "Filmes em episodios", true, CategoryType.COMMON),
+            Category.newCategory("Kids", null, true, CategoryType.COMMON)));
+
+        final var aQuery = new CategorySearchQuery(0, 10, "film", "", "asc");
+
+        final var exported = new ArrayList<String>();
+        categoryExportGateway.exportListItems(aQuery).forEach(item -> exported.add(item.name()));
+
+        assertEquals(List.of("Filmes", "Series"), exported);
+    }
+
+    @Test
+    void givenAnUnsupportedQuery_whenCallsExportListItems_shouldThrowBeforeReadingAnything() {
+        final var aFullTextQuery = new CategorySearchQuery(0, 10, "film", "", "asc", null, CountMode.EXACT, SearchMode.BOOLEAN);
+        final var anUnknownSort = new CategorySearchQuery(0, 10, "", "description", "asc");
+
+        assertEquals(
+            "'searchMode' must be like to export categories",
+            assertThrows(DomainException.class, () -> categoryExportGateway.exportListItems(aFullTextQuery)).getMessage());
+        assertEquals(
+            "'sort' must be one of id, name, createdAt or updatedAt",
+            assertThrows(DomainException.class, () -> categoryExportGateway.exportListItems(anUnknownSort)).getMessage());
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category;
+
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Runs every gateway test again against {@link CategoryJdbcGateway}, which replaces {@link CategoryMySQLGateway} under
+ * the {@code jdbc} profile.
+ */
+@ActiveProfiles(profiles = "jdbc", inheritProfiles = true)
+class CategoryJdbcGatewayTest extends CategoryMySQLGatewayTest {
+
+}
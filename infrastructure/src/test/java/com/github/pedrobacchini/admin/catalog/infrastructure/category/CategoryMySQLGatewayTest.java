@@ -1,20 +1,47 @@
 package com.github.pedrobacchini.admin.catalog.infrastructure.category;
 
 import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryFilter;
 import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
 import com.github.pedrobacchini.admin.catalog.domain.category.CategorySearchQuery;
 import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryUpsertResult;
+import com.github.pedrobacchini.admin.catalog.domain.exception.DomainException;
+import com.github.pedrobacchini.admin.catalog.domain.exception.VersionConflictException;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.CountMode;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.Pagination;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.SearchMode;
 import com.github.pedrobacchini.admin.catalog.MySQLGatewayTest;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.archive.CategoryArchiver;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.persistence.CategoryArchiveRepository;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.persistence.CategoryJdbcRepository;
 import com.github.pedrobacchini.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
 import com.github.pedrobacchini.admin.catalog.infrastructure.category.persistence.CategoryRepository;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.search.CategoryLuceneIndex;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.opentest4j.AssertionFailedError;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.EmptyResultDataAccessException;
-
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -28,6 +55,24 @@ class CategoryMySQLGatewayTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private CategoryLuceneIndex categoryLuceneIndex;
+
+    @Autowired
+    private CategoryArchiver categoryArchiver;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CategoryJdbcRepository categoryJdbcRepository;
+
+    @Autowired
+    private CategoryArchiveRepository categoryArchiveRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @Test
     void givenAValidCategory_whenCallsCreate_shouldReturnANewCategory() {
         final var expectedName = "Filmes";
@@ -59,6 +104,88 @@ class CategoryMySQLGatewayTest {
         assertNull(actualEntity.getDeletedAt());
     }
 
+    @Test
+    void givenValidCategories_whenCallsCreateAll_shouldPersistAllOfThem() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true, CategoryType.COMMON);
+        final var series = Category.newCategory("Series", null, false, CategoryType.COMMON);
+        final var documentarios = Category.newCategory("Documentarios", "A categoria menos assistida", true, CategoryType.RESTRICT);
+
+        assertEquals(0, categoryRepository.count());
+
+        final var actualCategories = categoryMySQLGateway.createAll(List.of(filmes, series, documentarios));
+
+        assertEquals(3, categoryRepository.count());
+        assertEquals(List.of(filmes, series, documentarios), actualCategories);
+
+        final var actualEntity = categoryRepository.findById(series.getId().getValue())
+            .orElseThrow(AssertionFailedError::new);
+
+        assertEquals("Series", actualEntity.getName());
+        assertNull(actualEntity.getDescription());
+        assertFalse(actualEntity.isActive());
+        assertEquals(CategoryType.COMMON, actualEntity.getType());
+        assertEquals(series.getCreatedAt(), actualEntity.getCreatedAt());
+        assertEquals(series.getDeletedAt(), actualEntity.getDeletedAt());
+    }
+
+    @Test
+    void givenNewAndExistingCategories_whenCallsUpsertAll_shouldInsertAndUpdateInOneStatement() {
+        final var existing = Category.newCategory("Film", null, true, CategoryType.COMMON);
+        categoryMySQLGateway.createAll(List.of(existing));
+
+        final var now = Instant.now();
+        final var changed = Category.with(existing.getId(), "Filmes", "A categoria mais assistida", false,
+            CategoryType.COMMON, now, now, now);
+        final var created = Category.newCategory("Series", null, true, CategoryType.COMMON);
+
+        final var actualResult = categoryMySQLGateway.upsertAll(List.of(changed, created));
+
+        assertEquals(1, actualResult.inserted());
+        assertEquals(1, actualResult.updated());
+        assertEquals(2, categoryRepository.count());
+
+        final var actualEntity = categoryRepository.findById(existing.getId().getValue())
+            .orElseThrow(AssertionFailedError::new);
+
+        assertEquals("Filmes", actualEntity.getName());
+        assertEquals("A categoria mais assistida", actualEntity.getDescription());
+        assertFalse(actualEntity.isActive());
+        assertEquals(existing.getCreatedAt(), actualEntity.getCreatedAt());
+        assertNotNull(actualEntity.getDeletedAt());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void givenAnExistingCategory_whenCallsUpsertAll_shouldNotifyWithThePersistedState() {
+        final var notified = new ArrayList<Category>();
+        final var beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("listener", new CategoryChangeListener() {
+            @Override
+            public void onSaved(final Category aCategory) {
+                notified.add(aCategory);
+            }
+
+            @Override
+            public void onDeleted(final CategoryID anId) {
+            }
+        });
+        final var aGateway = new CategoryMySQLGateway(categoryRepository, categoryJdbcRepository,
+            categoryArchiveRepository, transactionManager, 1000, 0,
+            beanFactory.getBeanProvider(CategoryChangeListener.class),
+            beanFactory.getBeanProvider(CategoryLuceneIndex.class));
+        final var existing = Category.newCategory("Film", null, true, CategoryType.COMMON);
+        aGateway.createAll(List.of(existing));
+        final var now = Instant.now();
+
+        aGateway.upsertAll(List.of(Category.with(existing.getId(), "Filmes", null, true, CategoryType.COMMON,
+            now, now, null)));
+
+        final var actualCategory = notified.get(notified.size() - 1);
+        assertEquals("Filmes", actualCategory.getName());
+        assertEquals(1, actualCategory.getVersion());
+        assertEquals(existing.getCreatedAt(), actualCategory.getCreatedAt());
+    }
+
     @Test
     void givenAValidCategory_whenCallsUpdate_shouldReturnACategoryUpdated() {
         final var aCategory = Category.newCategory("Film", null, true, CategoryType.COMMON);
@@ -111,6 +238,48 @@ class CategoryMySQLGatewayTest {
         assertNull(actualEntity.getDeletedAt());
     }
 
+    @Test
+    void givenALoadedCategory_whenCallsUpdate_shouldNotServeTheStaleManagedEntityAfterwards() {
+        final var aCategory = Category.newCategory("Film", null, true, CategoryType.COMMON);
+        categoryMySQLGateway.createAll(List.of(aCategory));
+
+        // keeps a managed copy in the persistence context that the bulk update must not leave behind
+        assertEquals("Film", categoryRepository.findById(aCategory.getId().getValue())
+            .orElseThrow(AssertionFailedError::new)
+            .getName());
+
+        categoryMySQLGateway.update(aCategory.clone().update("Filmes", "A categoria mais assistida", false));
+
+        final var actualEntity = categoryRepository.findById(aCategory.getId().getValue())
+            .orElseThrow(AssertionFailedError::new);
+
+        assertEquals("Filmes", actualEntity.getName());
+        assertEquals("A categoria mais assistida", actualEntity.getDescription());
+        assertFalse(actualEntity.isActive());
+        assertNotNull(actualEntity.getDeletedAt());
+        assertEquals(1, categoryRepository.count());
+    }
+
+    @Test
+    void givenAStaleVersion_whenCallsUpdate_shouldThrowVersionConflictAndKeepTheWinningWrite() {
+        final var aCategory = Category.newCategory("Film", null, true, CategoryType.COMMON);
+        categoryMySQLGateway.createAll(List.of(aCategory));
+
+        final var winner = categoryMySQLGateway.update(aCategory.clone().update("Filmes", null, true));
+        assertEquals(1, winner.getVersion());
+
+        final var actualException = assertThrows(VersionConflictException.class,
+            () -> categoryMySQLGateway.update(aCategory.clone().update("Series", null, true)));
+
+        assertEquals("Category with ID %s is no longer at version 0".formatted(aCategory.getId().getValue()),
+            actualException.getMessage());
+
+        final var actualEntity = categoryRepository.findById(aCategory.getId().getValue())
+            .orElseThrow(AssertionFailedError::new);
+        assertEquals("Filmes", actualEntity.getName());
+        assertEquals(1, actualEntity.getVersion());
+    }
+
     @Test
     void givenAPrePesistedCategoryAnValidCategoryId_whenCallsDelete_shouldDeleteCategory() {
 
@@ -127,6 +296,101 @@ class CategoryMySQLGatewayTest {
         assertEquals(0, categoryRepository.count());
     }
 
+    @Test
+    void givenPrePersistedCategories_whenCallsDeleteAllById_shouldDeleteOnlyThoseIds() {
+        final var filmes = Category.newCategory("Filmes", null, true, CategoryType.COMMON);
+        final var series = Category.newCategory("Series", null, true, CategoryType.COMMON);
+        final var documentarios = Category.newCategory("Documentarios", null, true, CategoryType.COMMON);
+        final var kids = Category.newCategory("Kids", null, true, CategoryType.COMMON);
+
+        categoryMySQLGateway.createAll(List.of(filmes, series, documentarios, kids));
+
+        final var actualDeleted = categoryMySQLGateway.deleteAllById(
+            List.of(filmes.getId(), series.getId(), documentarios.getId(), CategoryID.from("invalid")));
+
+        assertEquals(3, actualDeleted);
+        assertEquals(1, categoryRepository.count());
+        assertTrue(categoryRepository.existsById(kids.getId().getValue()));
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsDeleteAllByFilter_shouldDeleteEveryMatchInChunks() {
+        final var kids = Category.newCategory("Kids", "Categoria para criancas", true, CategoryType.COMMON);
+
+        categoryMySQLGateway.createAll(List.of(
+            Category.newCategory("Filmes", "A categoria mais assistida", true, CategoryType.COMMON),
+            Category.newCategory("Series", "Uma categoria assistida", true, CategoryType.COMMON),
+            Category.newCategory("Documentarios", "A categoria menos assistida", true, CategoryType.COMMON),
+            Category.newCategory("Assistidos", null, true, CategoryType.COMMON),
+            kids));
+
+        final var aQuery = new CategorySearchQuery(0, 0, "assist", null, "asc");
+
+        final var actualDeleted = categoryMySQLGateway.deleteAll(aQuery);
+
+        assertEquals(4, actualDeleted);
+        assertEquals(1, categoryRepository.count());
+        assertTrue(categoryRepository.existsById(kids.getId().getValue()));
+    }
+
+    @Test
+    void givenStructuredFilters_whenCallsDeleteAll_shouldDeleteOnlyMatchesOfBoth() {
+        final var restricted = Category.newCategory("Filmes adultos", null, true, CategoryType.RESTRICT);
+        final var common = Category.newCategory("Filmes", null, true, CategoryType.COMMON);
+        final var inactive = Category.newCategory("Filmes antigos", null, false, CategoryType.RESTRICT);
+        categoryMySQLGateway.createAll(List.of(restricted, common, inactive));
+
+        final var aFilter = new CategoryFilter(CategoryType.RESTRICT, true, null, null, null, null);
+        final var aQuery = new CategorySearchQuery(
+            0, 0, "filmes", null, "asc", null, CountMode.NONE, SearchMode.LIKE, false, aFilter);
+
+        final var actualDeleted = categoryMySQLGateway.deleteAll(aQuery);
+
+        assertEquals(1, actualDeleted);
+        assertFalse(categoryRepository.existsById(restricted.getId().getValue()));
+        assertEquals(2, categoryRepository.count());
+    }
+
+    @Test
+    void givenOnlyStructuredFilters_whenCallsDeleteAll_shouldDeleteEveryMatch() {
+        final var restricted = Category.newCategory("Filmes adultos", null, true, CategoryType.RESTRICT);
+        final var common = Category.newCategory("Filmes", null, true, CategoryType.COMMON);
+        categoryMySQLGateway.createAll(List.of(restricted, common));
+
+        final var aFilter = new CategoryFilter(CategoryType.RESTRICT, null, null, null, null, null);
+        final var aQuery = new CategorySearchQuery(
+            0, 0, "", null, "asc", null, CountMode.NONE, SearchMode.LIKE, false, aFilter);
+
+        final var actualDeleted = categoryMySQLGateway.deleteAll(aQuery);
+
+        assertEquals(1, actualDeleted);
+        assertTrue(categoryRepository.existsById(common.getId().getValue()));
+        assertEquals(1, categoryRepository.count());
+    }
+
+    @Test
+    void givenEmptyTerms_whenCallsDeleteAllByFilter_shouldReturnDomainException() {
+        final var expectedErrorMessage = "'search' should not be empty";
+
+        final var actualException = assertThrows(DomainException.class,
+            () -> categoryMySQLGateway.deleteAll(new CategorySearchQuery(0, 0, " ", null, "asc")));
+
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenLuceneSearchMode_whenCallsDeleteAll_shouldReturnDomainExceptionAndDeleteNothing() {
+        final var expectedErrorMessage = "'searchMode' lucene is not supported when deleting";
+        categoryMySQLGateway.createAll(List.of(Category.newCategory("Filmes", null, true, CategoryType.COMMON)));
+
+        final var aQuery = new CategorySearchQuery(
+            0, 0, "filmes", null, "asc", null, CountMode.NONE, SearchMode.LUCENE, false, CategoryFilter.none());
+        final var actualException = assertThrows(DomainException.class, () -> categoryMySQLGateway.deleteAll(aQuery));
+
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        assertEquals(1, categoryRepository.count());
+    }
+
     @Test
     void givenAPrePesistedCategoryAnInvalidCategoryId_whenCallsDelete_shouldDeleteCategory() {
         final var expectedMessageError = "No class com.github.pedrobacchini.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity " +
@@ -334,4 +598,497 @@ class CategoryMySQLGatewayTest {
         assertEquals(filmes.getName(), actualResult.items().get(0).getName());
     }
 
-}
\ No newline at end of file
+    @Test
+    void givenPrePersistedCategories_whenFollowingNextCursors_shouldWalkAllPagesInOrder() {
+        final var filmes = Category.newCategory("Filmes", null, true, CategoryType.COMMON);
+        final var series = Category.newCategory("Series", null, true, CategoryType.RESTRICT);
+        final var documentario = Category.newCategory("Documentario", null, true, CategoryType.COMMON);
+
+        categoryRepository.saveAll(List.of(
+            CategoryJpaEntity.from(filmes),
+            CategoryJpaEntity.from(series),
+            CategoryJpaEntity.from(documentario)));
+
+        final var firstPage = categoryMySQLGateway.findAll(new CategorySearchQuery(0, 1, "", "name", "asc"));
+
+        assertEquals(documentario.getName(), firstPage.items().get(0).getName());
+        assertNull(firstPage.prev());
+        assertNotNull(firstPage.next());
+
+        final var secondPage = categoryMySQLGateway.findAll(
+            new CategorySearchQuery(0, 1, "", "name", "asc", firstPage.next()));
+
+        assertEquals(3, secondPage.total());
+        assertEquals(1, secondPage.items().size());
+        assertEquals(filmes.getName(), secondPage.items().get(0).getName());
+        assertNotNull(secondPage.prev());
+        assertNotNull(secondPage.next());
+
+        final var thirdPage = categoryMySQLGateway.findAll(
+            new CategorySearchQuery(0, 1, "", "name", "asc", secondPage.next()));
+
+        assertEquals(1, thirdPage.items().size());
+        assertEquals(series.getName(), thirdPage.items().get(0).getName());
+        assertNull(thirdPage.next());
+
+        final var backToSecondPage = categoryMySQLGateway.findAll(
+            new CategorySearchQuery(0, 1, "", "name", "asc", thirdPage.prev()));
+
+        assertEquals(1, backToSecondPage.items().size());
+        assertEquals(filmes.getName(), backToSecondPage.items().get(0).getName());
+
+        final var backToFirstPage = categoryMySQLGateway.findAll(
+            new CategorySearchQuery(0, 1, "", "name", "asc", backToSecondPage.prev()));
+
+        assertEquals(documentario.getName(), backToFirstPage.items().get(0).getName());
+        assertNull(backToFirstPage.prev());
+    }
+
+    @Test
+    void givenPrePersistedCategoriesWithSameName_whenFollowingNextCursors_shouldBreakTiesById() {
+        final var categories = List.of(
+            Category.newCategory("Filmes", "A", true, CategoryType.COMMON),
+            Category.newCategory("Filmes", "B", true, CategoryType.COMMON),
+            Category.newCategory("Filmes", "C", true, CategoryType.COMMON));
+
+        categoryRepository.saveAll(categories.stream().map(CategoryJpaEntity::from).toList());
+
+        final var expectedIds = categories.stream()
+            .map(aCategory -> aCategory.getId().getValue())
+            .sorted(Comparator.reverseOrder())
+            .toList();
+
+        var actualResult = categoryMySQLGateway.findAll(new CategorySearchQuery(0, 1, "", "name", "desc"));
+        final var actualIds = new ArrayList<String>();
+        actualIds.add(actualResult.items().get(0).getId().getValue());
+
+        while (actualResult.next() != null) {
+            actualResult = categoryMySQLGateway.findAll(
+                new CategorySearchQuery(0, 1, "", "name", "desc", actualResult.next()));
+            actualResult.items().forEach(aCategory -> actualIds.add(aCategory.getId().getValue()));
+        }
+
+        assertEquals(expectedIds, actualIds);
+    }
+
+    @Test
+    void givenACursorFromAnotherSort_whenCallsFindAll_shouldReturnDomainException() {
+        final var expectedErrorMessage = "'cursor' does not match the requested sort";
+
+        categoryRepository.saveAll(List.of(
+            CategoryJpaEntity.from(Category.newCategory("Filmes", null, true, CategoryType.COMMON)),
+            CategoryJpaEntity.from(Category.newCategory("Series", null, true, CategoryType.COMMON))));
+
+        final var aCursor = categoryMySQLGateway.findAll(new CategorySearchQuery(0, 1, "", "name", "asc")).next();
+
+        final var actualException = assertThrows(DomainException.class, () -> categoryMySQLGateway.findAll(
+            new CategorySearchQuery(0, 1, "", "createdAt", "asc", aCursor)));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    void givenAnUnindexedSort_whenCallsFindAllAndFindAllListItems_shouldReturnDomainException() {
+        final var expectedErrorMessage = "'sort' must be one of id, name, createdAt or updatedAt";
+
+        for (final var aSort : List.of("description", "active", "name; DROP TABLE category")) {
+            final var aQuery = new CategorySearchQuery(0, 1, "", aSort, "asc");
+
+            final var actualException = assertThrows(DomainException.class, () -> categoryMySQLGateway.findAll(aQuery));
+            final var actualListException = assertThrows(DomainException.class,
+                () -> categoryMySQLGateway.findAllListItems(aQuery));
+
+            assertEquals(expectedErrorMessage, actualException.getMessage());
+            assertEquals(expectedErrorMessage, actualListException.getMessage());
+        }
+    }
+
+    @Test
+    void givenAMalformedCursor_whenCallsFindAll_shouldReturnDomainException() {
+        final var expectedErrorMessage = "'cursor' is invalid";
+
+        final var actualException = assertThrows(DomainException.class, () -> categoryMySQLGateway.findAll(
+            new CategorySearchQuery(0, 1, "", "name", "asc", "not-a-cursor")));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    void givenPrePersistedCategoriesAndCountNone_whenCallsFindAll_shouldReturnSliceWithoutTotal() {
+        final var expectedPage = 1;
+        final var expectedPerPage = 1;
+        final var expectedTotal = Pagination.UNKNOWN_TOTAL;
+
+        final var filmes = Category.newCategory("Filmes", null, true, CategoryType.COMMON);
+        final var series = Category.newCategory("Series", null, true, CategoryType.RESTRICT);
+        final var documentario = Category.newCategory("Documentario", null, true, CategoryType.COMMON);
+
+        categoryRepository.saveAll(List.of(
+            CategoryJpaEntity.from(filmes),
+            CategoryJpaEntity.from(series),
+            CategoryJpaEntity.from(documentario)));
+
+        var aQuery = new CategorySearchQuery(1, 1, "", "name", "asc", null, CountMode.NONE);
+        var actualResult = categoryMySQLGateway.findAll(aQuery);
+
+        assertEquals(expectedPage, actualResult.currentPage());
+        assertEquals(expectedPerPage, actualResult.perPage());
+        assertEquals(expectedTotal, actualResult.total());
+        assertEquals(CountMode.NONE, actualResult.countMode());
+        assertTrue(actualResult.hasNext());
+        assertEquals(1, actualResult.items().size());
+        assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+
+        aQuery = new CategorySearchQuery(2, 1, "", "name", "asc", null, CountMode.NONE);
+        actualResult = categoryMySQLGateway.findAll(aQuery);
+
+        assertFalse(actualResult.hasNext());
+        assertNull(actualResult.next());
+        assertEquals(series.getId(), actualResult.items().get(0).getId());
+    }
+
+    @Test
+    void givenPrePersistedCategoriesAndCountEstimate_whenInsertingAfterFirstCall_shouldReuseCachedTotal() {
+        final var expectedTotal = 2;
+
+        categoryRepository.saveAll(List.of(
+            CategoryJpaEntity.from(Category.newCategory("Filmes", null, true, CategoryType.COMMON)),
+            CategoryJpaEntity.from(Category.newCategory("Series", null, true, CategoryType.COMMON))));
+
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc", null, CountMode.ESTIMATE);
+        assertEquals(expectedTotal, categoryMySQLGateway.findAll(aQuery).total());
+
+        categoryRepository.save(
+            CategoryJpaEntity.from(Category.newCategory("Documentario", null, true, CategoryType.COMMON)));
+
+        final var actualResult = categoryMySQLGateway.findAll(aQuery);
+
+        assertEquals(expectedTotal, actualResult.total());
+        assertEquals(CountMode.ESTIMATE, actualResult.countMode());
+        assertEquals(3, actualResult.items().size());
+        assertEquals(3, categoryMySQLGateway.findAll(new CategorySearchQuery(0, 10, "", "name", "asc")).total());
+    }
+
+    @Test
+    void givenPrePersistedCategoriesAndDocAsTerm_whenCallsFindAllWithFullTextSearch_shouldReturnPaginated() {
+        final var expectedPage = 0;
+        final var expectedPerPage = 1;
+        final var expectedTotal = 1;
+
+        final var filmes = Category.newCategory("Filmes", null, true, CategoryType.COMMON);
+        final var series = Category.newCategory("Series", null, true, CategoryType.RESTRICT);
+        final var documentario = Category.newCategory("Documentario", null, true, CategoryType.COMMON);
+
+        categoryRepository.saveAll(List.of(
+            CategoryJpaEntity.from(filmes),
+            CategoryJpaEntity.from(series),
+            CategoryJpaEntity.from(documentario)));
+
+        for (final var aMode : List.of(SearchMode.BOOLEAN, SearchMode.NATURAL)) {
+            final var aQuery = new CategorySearchQuery(0, 1, "doc", "", "asc", null, CountMode.EXACT, aMode);
+            final var actualResult = categoryMySQLGateway.findAll(aQuery);
+
+            assertEquals(expectedPage, actualResult.currentPage());
+            assertEquals(expectedPerPage, actualResult.perPage());
+            assertEquals(expectedTotal, actualResult.total());
+            assertEquals(expectedPerPage, actualResult.items().size());
+            assertEquals(documentario.getId(), actualResult.items().get(0).getId());
+            assertNull(actualResult.next());
+        }
+    }
+
+    @Test
+    void givenAFullTextSearchWithoutSort_whenCallsFindAllWithCursor_shouldReturnDomainException() {
+        final var expectedErrorMessage = "'cursor' requires an explicit sort";
+
+        final var aQuery = new CategorySearchQuery(
+            0, 1, "doc", "", "asc", "any-cursor", CountMode.EXACT, SearchMode.BOOLEAN);
+
+        final var actualException = assertThrows(DomainException.class, () -> categoryMySQLGateway.findAll(aQuery));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    void givenIndexedCategories_whenCallsFindAllWithLuceneSearch_shouldReturnRowsInRelevanceOrder() {
+        final var expectedTotal = 2;
+
+        final var filmes = Category.newCategory("Filmes", null, true, CategoryType.COMMON);
+        final var series = Category.newCategory("Series", "Filmes em capitulos", true, CategoryType.RESTRICT);
+        final var documentario = Category.newCategory("Documentario", null, true, CategoryType.COMMON);
+
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(series),
+            CategoryJpaEntity.from(filmes),
+            CategoryJpaEntity.from(documentario)));
+        categoryLuceneIndex.rebuild();
+
+        final var aQuery = new CategorySearchQuery(0, 10, "film", "", "asc", null, CountMode.EXACT, SearchMode.LUCENE);
+        final var actualResult = categoryMySQLGateway.findAll(aQuery);
+
+        assertEquals(expectedTotal, actualResult.total());
+        assertFalse(actualResult.hasNext());
+        assertEquals(2, actualResult.items().size());
+        assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+        assertEquals(series.getId(), actualResult.items().get(1).getId());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void givenAnIndexedCategory_whenTheGatewayWritesIt_shouldFollowTheCommittedWrites() {
+        categoryLuceneIndex.rebuild();
+
+        final var aQuery = new CategorySearchQuery(0, 10, "fil", "name", "asc", null, CountMode.EXACT, SearchMode.LUCENE);
+        final var filmes = Category.newCategory("Filmes", null, true, CategoryType.COMMON);
+
+        categoryMySQLGateway.create(filmes);
+        categoryLuceneIndex.awaitSearchable();
+        final var actualResult = categoryMySQLGateway.findAll(aQuery);
+        assertEquals(1, actualResult.total());
+        assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+
+        categoryMySQLGateway.update(filmes.clone().update("Series", null, true));
+        categoryLuceneIndex.awaitSearchable();
+        assertEquals(0, categoryMySQLGateway.findAll(aQuery).total());
+
+        categoryMySQLGateway.createAll(List.of(
+            Category.newCategory("Filmes de Acao", null, true, CategoryType.COMMON),
+            Category.newCategory("Filmes de Terror", null, true, CategoryType.COMMON),
+            Category.newCategory("Filmes Antigos", null, true, CategoryType.COMMON)));
+        categoryLuceneIndex.awaitSearchable();
+        assertEquals(3, categoryMySQLGateway.findAll(aQuery).total());
+
+        final var ids = categoryMySQLGateway.findAll(aQuery).items().stream().map(Category::getId).toList();
+        categoryMySQLGateway.deleteById(ids.get(0));
+        categoryMySQLGateway.deleteAllById(ids.subList(1, 3));
+        categoryLuceneIndex.awaitSearchable();
+        assertEquals(0, categoryMySQLGateway.findAll(aQuery).total());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void givenARowTheIndexNeverSaw_whenTheIndexRestarts_shouldRebuildAndFindIt(@TempDir final Path aPath)
+        throws IOException {
+        final var anIndex = new CategoryLuceneIndex(jdbcTemplate, aPath.toString(), Duration.ofMillis(100), 1000);
+        anIndex.verify();
+
+        // as another instance would: the row reaches the table without this index being notified
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(
+            Category.newCategory("Filmes", null, true, CategoryType.COMMON)));
+        anIndex.close();
+
+        final var restarted = new CategoryLuceneIndex(jdbcTemplate, aPath.toString(), Duration.ofMillis(100), 1000);
+        try {
+            restarted.verify();
+            assertEquals(1, restarted.search("fil", null, Sort.Direction.ASC, 0, 10, true).total());
+        } finally {
+            restarted.close();
+        }
+    }
+
+    @Test
+    void givenLongInactiveCategory_whenArchiving_shouldMoveItOutOfTheHotTableAndStillFindItById() {
+        final var longAgo = Instant.now().minus(Duration.ofDays(400));
+        final var archivable = Category.with(CategoryID.unique(), "Novelas", null, false, CategoryType.COMMON,
+            longAgo, longAgo, longAgo);
+        final var recentlyInactive = Category.newCategory("Series", null, false, CategoryType.COMMON);
+        final var active = Category.newCategory("Filmes", null, true, CategoryType.COMMON);
+
+        categoryMySQLGateway.createAll(List.of(archivable, recentlyInactive, active));
+
+        final var actualMoved = categoryArchiver.archive(Instant.now().minus(Duration.ofDays(180)));
+
+        assertEquals(1, actualMoved);
+        assertEquals(2, categoryRepository.count());
+        assertFalse(categoryRepository.existsById(archivable.getId().getValue()));
+
+        final var actualCategory = categoryMySQLGateway.findById(archivable.getId())
+            .orElseThrow(AssertionFailedError::new);
+
+        assertEquals("Novelas", actualCategory.getName());
+        assertFalse(actualCategory.isActive());
+        assertEquals(archivable.getCreatedAt(), actualCategory.getCreatedAt());
+        assertEquals(archivable.getDeletedAt(), actualCategory.getDeletedAt());
+    }
+
+    @Test
+    void givenStructuredFilters_whenCallsFindAllAndFindAllListItems_shouldReturnOnlyMatchingRows() {
+        final var lastWeek = Instant.parse("2023-01-01T00:00:00Z");
+        final var thisWeek = lastWeek.plus(Duration.ofDays(7));
+        final var matching = Category.with(CategoryID.unique(), "Adultos", null, true, CategoryType.RESTRICT,
+            lastWeek.plusSeconds(60), lastWeek.plusSeconds(60), null);
+        final var common = Category.with(CategoryID.unique(), "Filmes", null, true, CategoryType.COMMON,
+            lastWeek.plusSeconds(60), lastWeek.plusSeconds(60), null);
+        final var inactive = Category.with(CategoryID.unique(), "Horror", null, false, CategoryType.RESTRICT,
+            lastWeek.plusSeconds(60), lastWeek.plusSeconds(60), lastWeek.plusSeconds(60));
+        final var tooNew = Category.with(CategoryID.unique(), "Lutas", null, true, CategoryType.RESTRICT,
+            thisWeek, thisWeek, null);
+        categoryMySQLGateway.createAll(List.of(matching, common, inactive, tooNew));
+
+        final var aFilter = new CategoryFilter(CategoryType.RESTRICT, true, lastWeek, thisWeek, null, null);
+        final var aQuery = new CategorySearchQuery(
+            0, 10, "", "createdAt", "asc", null, CountMode.EXACT, SearchMode.LIKE, false, aFilter);
+
+        final var actualResult = categoryMySQLGateway.findAll(aQuery);
+        final var actualListItems = categoryMySQLGateway.findAllListItems(aQuery);
+
+        assertEquals(1, actualResult.total());
+        assertEquals(List.of(matching.getId()), actualResult.items().stream().map(Category::getId).toList());
+        assertEquals(List.of(matching.getId()), actualListItems.items().stream().map(item -> item.id()).toList());
+    }
+
+    @Test
+    void givenStructuredFilters_whenCallsFindAllWithIncludeArchived_shouldReturnDomainException() {
+        final var expectedErrorMessage = "filters are not supported with 'includeArchived'";
+        final var aFilter = new CategoryFilter(CategoryType.RESTRICT, null, null, null, null, null);
+        final var aQuery = new CategorySearchQuery(
+            0, 10, "", "name", "asc", null, CountMode.EXACT, SearchMode.LIKE, true, aFilter);
+
+        final var actualException = assertThrows(DomainException.class, () -> categoryMySQLGateway.findAll(aQuery));
+
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenArchivedCategory_whenCallsFindAllWithIncludeArchived_shouldListHotAndArchivedRows() {
+        final var longAgo = Instant.now().minus(Duration.ofDays(400));
+        categoryMySQLGateway.createAll(List.of(
+            Category.with(CategoryID.unique(), "Novelas", null, false, CategoryType.COMMON, longAgo, longAgo, longAgo),
+            Category.newCategory("Filmes", null, true, CategoryType.COMMON),
+            Category.newCategory("Series", null, true, CategoryType.COMMON)));
+        categoryArchiver.archive(Instant.now().minus(Duration.ofDays(180)));
+
+        final var hotOnly = categoryMySQLGateway.findAll(new CategorySearchQuery(0, 10, "", "name", "asc"));
+        final var withArchive = categoryMySQLGateway.findAll(
+            new CategorySearchQuery(0, 2, "", "name", "asc", null, CountMode.EXACT, SearchMode.LIKE, true));
+
+        assertEquals(2, hotOnly.total());
+        assertEquals(3, withArchive.total());
+        assertEquals(List.of("Filmes", "Novelas"), withArchive.items().stream().map(Category::getName).toList());
+        assertTrue(withArchive.hasNext());
+    }
+
+    @Test
+    void givenArchivedCategory_whenCallsUpdate_shouldBringItBackToTheHotTable() {
+        final var longAgo = Instant.now().minus(Duration.ofDays(400));
+        final var archived = Category.with(CategoryID.unique(), "Novelas", null, false, CategoryType.COMMON,
+            longAgo, longAgo, longAgo);
+        categoryMySQLGateway.createAll(List.of(archived));
+        categoryArchiver.archive(Instant.now().minus(Duration.ofDays(180)));
+
+        final var aCategory = categoryMySQLGateway.findById(archived.getId())
+            .orElseThrow(AssertionFailedError::new);
+        categoryMySQLGateway.update(aCategory.update("Novelas", "De volta", true));
+
+        final var actualEntity = categoryRepository.findById(archived.getId().getValue())
+            .orElseThrow(AssertionFailedError::new);
+
+        assertEquals("De volta", actualEntity.getDescription());
+        assertTrue(actualEntity.isActive());
+        assertEquals(1, categoryRepository.count());
+        assertEquals(1, categoryMySQLGateway.findAll(
+            new CategorySearchQuery(0, 10, "", "name", "asc", null, CountMode.EXACT, SearchMode.LIKE, true)).total());
+    }
+
+    @Test
+    void givenArchivedCategoryAtAnotherVersion_whenCallsUpdate_shouldThrowVersionConflictAndKeepItArchived() {
+        final var longAgo = Instant.now().minus(Duration.ofDays(400));
+        final var archived = Category.with(CategoryID.unique(), "Novelas", null, false, CategoryType.COMMON,
+            longAgo, longAgo, longAgo);
+        categoryMySQLGateway.createAll(List.of(archived));
+        final var stale = categoryMySQLGateway.findById(archived.getId()).orElseThrow(AssertionFailedError::new);
+        categoryMySQLGateway.update(stale.clone().update("Novelas", "Outra", false));
+        categoryArchiver.archive(Instant.now().minus(Duration.ofDays(180)));
+
+        assertThrows(VersionConflictException.class,
+            () -> categoryMySQLGateway.update(stale.update("Novelas", "De volta", true)));
+
+        assertEquals(0, categoryRepository.count());
+        assertEquals("Outra", categoryMySQLGateway.findById(archived.getId())
+            .orElseThrow(AssertionFailedError::new).getDescription());
+    }
+
+    @Test
+    void givenArchivedCategory_whenCallsCreateAllWithItsId_shouldRejectTheChunk() {
+        final var longAgo = Instant.now().minus(Duration.ofDays(400));
+        final var archived = Category.with(CategoryID.unique(), "Novelas", null, false, CategoryType.COMMON,
+            longAgo, longAgo, longAgo);
+        categoryMySQLGateway.createAll(List.of(archived));
+        categoryArchiver.archive(Instant.now().minus(Duration.ofDays(180)));
+
+        assertThrows(DuplicateKeyException.class, () -> categoryMySQLGateway.createAll(List.of(archived)));
+
+        assertEquals(0, categoryRepository.count());
+    }
+
+    @Test
+    void givenArchivedCategory_whenCallsUpsertAllWithItsId_shouldMoveItBackAsAnUpdate() {
+        final var longAgo = Instant.now().minus(Duration.ofDays(400));
+        final var archived = Category.with(CategoryID.unique(), "Novelas", null, false, CategoryType.COMMON,
+            longAgo, longAgo, longAgo);
+        categoryMySQLGateway.createAll(List.of(archived));
+        categoryArchiver.archive(Instant.now().minus(Duration.ofDays(180)));
+
+        final var now = Instant.now();
+        final var reactivated = Category.with(archived.getId(), "Novelas", null, true, CategoryType.COMMON,
+            now, now, null);
+
+        final var actualResult = categoryMySQLGateway.upsertAll(List.of(reactivated));
+
+        assertEquals(CategoryUpsertResult.with(0, 1), actualResult);
+        final var actualEntity = categoryRepository.findById(archived.getId().getValue()).orElseThrow();
+        assertTrue(actualEntity.isActive());
+        assertEquals(archived.getCreatedAt(), actualEntity.getCreatedAt());
+        assertEquals(1, actualEntity.getVersion());
+        assertEquals(1, categoryMySQLGateway.findAll(
+            new CategorySearchQuery(0, 10, "", "name", "asc", null, CountMode.EXACT, SearchMode.LIKE, true)).total());
+    }
+
+    @Test
+    void givenArchivedCategory_whenCallsDeleteById_shouldRemoveItEverywhere() {
+        final var longAgo = Instant.now().minus(Duration.ofDays(400));
+        final var archived = Category.with(CategoryID.unique(), "Novelas", null, false, CategoryType.COMMON,
+            longAgo, longAgo, longAgo);
+        categoryMySQLGateway.createAll(List.of(archived));
+        categoryArchiver.archive(Instant.now().minus(Duration.ofDays(180)));
+
+        categoryMySQLGateway.deleteById(archived.getId());
+
+        assertTrue(categoryMySQLGateway.findById(archived.getId()).isEmpty());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllListItemsSortedByUpdatedAt_shouldPageWithCursorsOverProjectedRows() {
+        final var base = Instant.parse("2023-01-01T00:00:00Z");
+        final var oldest = Category.with(CategoryID.unique(), "Series", "A", true, CategoryType.COMMON,
+            base, base, null);
+        final var middle = Category.with(CategoryID.unique(), "Filmes", "B", true, CategoryType.RESTRICT,
+            base, base.plusSeconds(60), null);
+        final var newest = Category.with(CategoryID.unique(), "Documentario", null, false, CategoryType.COMMON,
+            base, base.plusSeconds(120), base.plusSeconds(120));
+
+        categoryMySQLGateway.createAll(List.of(middle, newest, oldest));
+
+        final var firstPage = categoryMySQLGateway.findAllListItems(
+            new CategorySearchQuery(0, 2, "", "updatedAt", "asc"));
+
+        assertEquals(3, firstPage.total());
+        assertEquals(List.of(oldest.getId(), middle.getId()), firstPage.items().stream().map(item -> item.id()).toList());
+        assertEquals("B", firstPage.items().get(1).description());
+        assertEquals(CategoryType.RESTRICT, firstPage.items().get(1).type());
+        assertTrue(firstPage.hasNext());
+        assertNotNull(firstPage.next());
+
+        final var secondPage = categoryMySQLGateway.findAllListItems(
+            new CategorySearchQuery(0, 2, "", "updatedAt", "asc", firstPage.next()));
+
+        assertEquals(1, secondPage.items().size());
+        final var actualItem = secondPage.items().get(0);
+        assertEquals(newest.getId(), actualItem.id());
+        assertEquals("Documentario", actualItem.name());
+        assertFalse(actualItem.active());
+        assertEquals(newest.getDeletedAt(), actualItem.deletedAt());
+        assertFalse(secondPage.hasNext());
+    }
+
+}
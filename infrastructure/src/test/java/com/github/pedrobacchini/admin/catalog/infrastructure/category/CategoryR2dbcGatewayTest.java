@@ -0,0 +1,268 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category;
+
+import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryFilter;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySearchQuery;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
+import com.github.pedrobacchini.admin.catalog.domain.exception.DomainException;
+import com.github.pedrobacchini.admin.catalog.domain.exception.NotFoundException;
+import com.github.pedrobacchini.admin.catalog.domain.exception.VersionConflictException;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.CountMode;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.SearchMode;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.test.StepVerifier;
+
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the reactive gateway against H2 in MySQL mode over r2dbc-h2, migrated with the same scripts as the JPA tests.
+ */
+class CategoryR2dbcGatewayTest {
+
+    private static final String DATABASE = "mem:adm_videos_reactive;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private static DatabaseClient databaseClient;
+
+    private static CategoryR2dbcGateway categoryGateway;
+
+    private static final List<CategoryID> savedIds = new ArrayList<>();
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+            .dataSource("jdbc:h2:" + DATABASE, "root", "123456")
+            .locations("classpath:db/migration", "classpath:db/specific/h2")
+            .load()
+            .migrate();
+
+        final var connectionFactory = ConnectionFactories.get(
+            ConnectionFactoryOptions.parse("r2dbc:h2:" + DATABASE.replaceFirst("mem:", "mem:///")).mutate()
+                .option(ConnectionFactoryOptions.USER, "root")
+                .option(ConnectionFactoryOptions.PASSWORD, "123456")
+                .build());
+        databaseClient = DatabaseClient.create(connectionFactory);
+
+        final var listeners = new StaticListableBeanFactory();
+        listeners.addBean("recorder", new CategoryChangeListener() {
+            @Override
+            public void onSaved(final Category aCategory) {
+                savedIds.add(aCategory.getId());
+            }
+
+            @Override
+            public void onDeleted(final CategoryID anId) {
+                savedIds.remove(anId);
+            }
+        });
+        categoryGateway = new CategoryR2dbcGateway(
+            databaseClient,
+            TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory)),
+            listeners.getBeanProvider(CategoryChangeListener.class),
+            2);
+    }
+
+    @BeforeEach
+    void cleanUp() {
+        databaseClient.sql("DELETE FROM category").fetch().rowsUpdated().block();
+        databaseClient.sql("DELETE FROM category_archive").fetch().rowsUpdated().block();
+        savedIds.clear();
+    }
+
+    @Test
+    void givenAValidCategory_whenCallsCreate_shouldPersistItAndReadItBack() {
+        final var aCategory = Category.newCategory("Filmes", null, true, CategoryType.COMMON);
+
+        categoryGateway.create(aCategory).block();
+
+        final var actualCategory = categoryGateway.findById(aCategory.getId()).block();
+
+        assertEquals(aCategory.getId(), actualCategory.getId());
+        assertEquals("Filmes", actualCategory.getName());
+        assertNull(actualCategory.getDescription());
+        assertTrue(actualCategory.isActive());
+        assertEquals(CategoryType.COMMON, actualCategory.getType());
+        assertEquals(aCategory.getCreatedAt().truncatedTo(ChronoUnit.MICROS), actualCategory.getCreatedAt());
+        assertNull(actualCategory.getDeletedAt());
+        assertEquals(0, actualCategory.getVersion());
+        assertEquals(List.of(aCategory.getId()), savedIds);
+    }
+
+    @Test
+    void givenAPrePersistedCategory_whenCallsUpdate_shouldBumpTheVersion() {
+        final var aCategory = Category.newCategory("Film", null, true, CategoryType.COMMON);
+        categoryGateway.create(aCategory).block();
+
+        final var actualCategory = categoryGateway.update(
+            aCategory.clone().update("Filmes", "A categoria mais assistida", false)).block();
+
+        assertEquals(1, actualCategory.getVersion());
+        final var persisted = categoryGateway.findById(aCategory.getId()).block();
+        assertEquals("Filmes", persisted.getName());
+        assertFalse(persisted.isActive());
+        assertEquals(1, persisted.getVersion());
+    }
+
+    @Test
+    void givenAStaleVersion_whenCallsUpdate_shouldSignalVersionConflict() {
+        final var aCategory = Category.newCategory("Film", null, true, CategoryType.COMMON);
+        categoryGateway.create(aCategory).block();
+        categoryGateway.update(aCategory.clone().update("Filmes", null, true)).block();
+
+        StepVerifier.create(categoryGateway.update(aCategory.clone().update("Series", null, true)))
+            .expectError(VersionConflictException.class)
+            .verify();
+    }
+
+    @Test
+    void givenAMissingCategory_whenCallsUpdate_shouldSignalNotFound() {
+        final var aCategory = Category.newCategory("Film", null, true, CategoryType.COMMON);
+
+        StepVerifier.create(categoryGateway.update(aCategory))
+            .expectError(NotFoundException.class)
+            .verify();
+    }
+
+    @Test
+    void givenAPrePersistedCategory_whenCallsDeleteById_shouldRemoveIt() {
+        final var aCategory = Category.newCategory("Filmes", null, true, CategoryType.COMMON);
+        categoryGateway.create(aCategory).block();
+
+        categoryGateway.deleteById(aCategory.getId()).block();
+
+        StepVerifier.create(categoryGateway.findById(aCategory.getId())).verifyComplete();
+        assertTrue(savedIds.isEmpty());
+    }
+
+    @Test
+    void givenAnArchivedCategory_whenCallsFindById_shouldReadItFromTheArchive() {
+        final var aCategory = Category.newCategory("Filmes", null, false, CategoryType.COMMON);
+        categoryGateway.create(aCategory).block();
+        archiveAll();
+
+        final var actualCategory = categoryGateway.findById(aCategory.getId()).block();
+
+        assertEquals(aCategory.getId(), actualCategory.getId());
+        assertEquals("Filmes", actualCategory.getName());
+        assertFalse(actualCategory.isActive());
+    }
+
+    @Test
+    void givenAnArchivedCategory_whenCallsUpdate_shouldBringItBackUnderTheVersionGuard() {
+        final var aCategory = Category.newCategory("Filmes", null, false, CategoryType.COMMON);
+        categoryGateway.create(aCategory).block();
+        archiveAll();
+
+        StepVerifier.create(categoryGateway.update(aCategory.clone().update("Filmes", null, true)))
+            .expectNextMatches(actual -> actual.getVersion() == 1)
+            .verifyComplete();
+
+        final var actualCategory = categoryGateway.findById(aCategory.getId()).block();
+        assertTrue(actualCategory.isActive());
+        assertEquals(1, actualCategory.getVersion());
+        assertEquals(0L, databaseClient.sql("SELECT COUNT(*) AS total FROM category_archive")
+            .map(row -> row.get("total", Long.class)).one().block());
+
+        archiveAll();
+        StepVerifier.create(categoryGateway.update(aCategory.clone().update("Series", null, true)))
+            .expectError(VersionConflictException.class)
+            .verify();
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllListItems_shouldPageFilterAndCount() {
+        categoryGateway.create(Category.newCategory("Filmes", null, true, CategoryType.COMMON)).block();
+        categoryGateway.create(Category.newCategory("Series", null, true, CategoryType.COMMON)).block();
+        categoryGateway.create(Category.newCategory("Documentarios", null, true, CategoryType.COMMON)).block();
+        categoryGateway.create(Category.newCategory("Kids", null, false, CategoryType.COMMON)).block();
+
+        final var aFilter = new CategoryFilter(null, true, null, null, null, null);
+        final var aQuery = new CategorySearchQuery(0, 2, "", "name", "asc", null, CountMode.EXACT, SearchMode.LIKE, false, aFilter);
+
+        final var actualPage = categoryGateway.findAllListItems(aQuery).block();
+
+        assertEquals(3, actualPage.total());
+        assertTrue(actualPage.hasNext());
+        assertEquals(List.of("Documentarios", "Filmes"), actualPage.items().stream().map(item -> item.name()).toList());
+
+        final var aSearch = new CategorySearchQuery(0, 10, "ser", "", "asc");
+        assertEquals("Series", categoryGateway.findAllListItems(aSearch).block().items().get(0).name());
+    }
+
+    @Test
+    void givenAPageCursor_whenCallsFindAllListItems_shouldSeekForwardAndBack() {
+        List.of("A", "B", "C", "D", "E").forEach(aName ->
+            categoryGateway.create(Category.newCategory(aName, null, true, CategoryType.COMMON)).block());
+
+        final var firstPage = categoryGateway.findAllListItems(
+            new CategorySearchQuery(0, 2, "", "name", "asc")).block();
+        final var secondPage = categoryGateway.findAllListItems(
+            new CategorySearchQuery(0, 2, "", "name", "asc", firstPage.next())).block();
+        final var backToFirst = categoryGateway.findAllListItems(
+            new CategorySearchQuery(0, 2, "", "name", "asc", secondPage.prev())).block();
+
+        assertEquals(List.of("C", "D"), secondPage.items().stream().map(item -> item.name()).toList());
+        assertEquals(5, secondPage.total());
+        assertTrue(secondPage.hasNext());
+        assertEquals(List.of("A", "B"), backToFirst.items().stream().map(item -> item.name()).toList());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsStreamListItems_shouldEmitEveryRowAcrossFetches() {
+        List.of("A", "B", "C", "D", "E").forEach(aName ->
+            categoryGateway.create(Category.newCategory(aName, null, true, CategoryType.COMMON)).block());
+
+        final var aQuery = new CategorySearchQuery(0, 1, "", "name", "desc");
+
+        StepVerifier.create(categoryGateway.streamListItems(aQuery).map(item -> item.name()), 1)
+            .expectNext("E")
+            .thenRequest(4)
+            .expectNext("D", "C", "B", "A")
+            .verifyComplete();
+    }
+
+    @Test
+    void givenAnUnsupportedListing_whenCallsFindAllListItems_shouldSignalDomainException() {
+        final var aQuery = new CategorySearchQuery(0, 10, "", "description", "asc");
+
+        StepVerifier.create(categoryGateway.findAllListItems(aQuery))
+            .expectError(DomainException.class)
+            .verify();
+    }
+
+    @Test
+    void givenALuceneSearch_whenCallsFindAllListItems_shouldSignalDomainException() {
+        final var aQuery = new CategorySearchQuery(0, 10, "fil", "", "asc", null, CountMode.EXACT, SearchMode.LUCENE);
+
+        StepVerifier.create(categoryGateway.findAllListItems(aQuery))
+            .expectError(DomainException.class)
+            .verify();
+    }
+
+    private static void archiveAll() {
+        databaseClient.sql("""
+                INSERT INTO category_archive
+                    (id, name, description, active, type, created_at, updated_at, deleted_at, archived_at, version)
+                SELECT id, name, description, active, type, created_at, updated_at, deleted_at, updated_at, version
+                FROM category""")
+            .fetch().rowsUpdated().block();
+        databaseClient.sql("DELETE FROM category").fetch().rowsUpdated().block();
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category;
+
+import com.github.pedrobacchini.admin.catalog.E2ETest;
+import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryFilter;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryGateway;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySearchQuery;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.CountMode;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.SearchMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Checks with {@code EXPLAIN} that every sortable attribute pages through an index instead of sorting the table. The
+ * explained statements are the ones the gateway sent, read back from {@code performance_schema}; the driver inlines
+ * client side prepared statement parameters, so they can be explained as they are.
+ */
+@E2ETest
+@Testcontainers
+public class CategorySortIndexTest {
+
+    private static final int ROWS = 2_000;
+
+    private static final String LAST_PAGE_STATEMENT = """
+        SELECT SQL_TEXT FROM performance_schema.events_statements_history
+        WHERE SQL_TEXT LIKE 'select%' AND SQL_TEXT LIKE '%order by%' AND SQL_TEXT NOT LIKE '%performance_schema%'
+        ORDER BY TIMER_START DESC LIMIT 1""";
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Container
+    private static final MySQLContainer MY_SQL_CONTAINER = new MySQLContainer("mysql:latest")
+        .withPassword("123456")
+        .withUsername("root")
+        .withDatabaseName("adm_videos");
+
+    @DynamicPropertySource
+    private static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("mysql.port", () -> MY_SQL_CONTAINER.getMappedPort(3306));
+    }
+
+    @BeforeEach
+    void givenEnoughRowsForTheOptimizerToPreferAnIndex() {
+        if (Objects.requireNonNull(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM category", Long.class)) > 0) {
+            return;
+        }
+        categoryGateway.createAll(IntStream.range(0, ROWS)
+            .mapToObj(i -> Category.newCategory(
+                "Categoria " + i, "Descrição " + i, i % 3 != 0, i % 2 == 0 ? CategoryType.COMMON : CategoryType.RESTRICT))
+            .toList());
+        jdbcTemplate.execute("ANALYZE TABLE category");
+    }
+
+    @Test
+    void givenEveryAllowedSort_whenExplainingAPage_shouldNotFilesort() {
+        for (final var sort : CategoryMySQLGateway.SORT_COLUMNS.keySet()) {
+            for (final var direction : List.of("asc", "desc")) {
+                assertNoFilesort(pageStatement(new CategorySearchQuery(
+                    10, 10, "", sort, direction, null, CountMode.NONE, SearchMode.LIKE, false, null)));
+            }
+        }
+    }
+
+    @Test
+    void givenEveryAllowedSortExceptId_whenExplainingAFilteredPage_shouldNotFilesort() {
+        final var aFilter = new CategoryFilter(CategoryType.COMMON, true, null, null, null, null);
+        for (final var sort : CategoryMySQLGateway.SORT_COLUMNS.keySet()) {
+            if (sort.equals("id")) {
+                continue;
+            }
+            for (final var direction : List.of("asc", "desc")) {
+                assertNoFilesort(pageStatement(new CategorySearchQuery(
+                    0, 10, "", sort, direction, null, CountMode.NONE, SearchMode.LIKE, false, aFilter)));
+            }
+        }
+    }
+
+    private String pageStatement(final CategorySearchQuery aQuery) {
+        jdbcTemplate.execute("TRUNCATE TABLE performance_schema.events_statements_history");
+        categoryGateway.findAllListItems(aQuery);
+        return jdbcTemplate.queryForObject(LAST_PAGE_STATEMENT, String.class);
+    }
+
+    private void assertNoFilesort(final String aStatement) {
+        final var plan = jdbcTemplate.queryForList("EXPLAIN " + aStatement);
+        for (final var row : plan) {
+            final var extra = Objects.toString(row.get("Extra"), "");
+            assertNotNull(row.get("key"), () -> "no index used by " + aStatement + ": " + plan);
+            assertFalse(extra.contains("Using filesort"), () -> "filesort in " + aStatement + ": " + plan);
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.imports;
+
+import com.github.pedrobacchini.admin.catalog.application.category.create.CreateCategoryCommand;
+import com.github.pedrobacchini.admin.catalog.application.category.create.ImportCategoryRecord;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CategoryImportFormatTest {
+
+    @Test
+    void givenNdjson_whenReads_shouldParseEachLineOnItsOwn() {
+        final var body = """
+            {"name":"Filmes","description":"A categoria mais assistida","is_active":true,"type":"COMMON"}
+
+            {"name":"Kids","is_active":false,"type":"common","tags":["a","b"]}
+            {"name":"Series",
+            {"name":"Animes","type":"secret"}
+            [1, 2]
+            {"name":"Novelas","type":"RESTRICT"}
+            """;
+
+        final var records = read(CategoryImportFormat.NDJSON, body);
+
+        assertEquals(6, records.size());
+        assertEquals(List.of(1L, 3L, 4L, 5L, 6L, 7L), records.stream().map(ImportCategoryRecord::line).toList());
+        assertEquals(
+            CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true, CategoryType.COMMON),
+            records.get(0).parsed().get());
+        assertEquals(
+            CreateCategoryCommand.with("Kids", null, false, CategoryType.COMMON),
+            records.get(1).parsed().get());
+        assertTrue(message(records.get(2)).startsWith("malformed record: "));
+        assertEquals("'type' must be one of common or restrict", message(records.get(3)));
+        assertEquals("record should be an object", message(records.get(4)));
+        assertEquals(
+            CreateCategoryCommand.with("Novelas", null, true, CategoryType.RESTRICT),
+            records.get(5).parsed().get());
+    }
+
+    @Test
+    void givenAnOverlongNdjsonLine_whenReads_shouldRejectItAndCarryOn() {
+        final var aName = "x".repeat(CategoryImportFormat.MAX_LINE_LENGTH);
+        final var body = "{\"name\":\"%s\"}\r\n{\"name\":\"Filmes\"}\r\n".formatted(aName);
+
+        final var records = read(CategoryImportFormat.NDJSON, body);
+
+        assertEquals(2, records.size());
+        assertEquals(List.of(1L, 2L), records.stream().map(ImportCategoryRecord::line).toList());
+        assertEquals(
+            "line should be at most %d characters".formatted(CategoryImportFormat.MAX_LINE_LENGTH),
+            message(records.get(0)));
+        assertEquals(CreateCategoryCommand.with("Filmes", null, true, null), records.get(1).parsed().get());
+    }
+
+    @Test
+    void givenCsv_whenReads_shouldMapColumnsByHeader() {
+        final var body = """
+            type,name,is_active,description
+            COMMON,Filmes,true,"A categoria, a mais assistida"
+            RESTRICT,Series,,
+            COMMON,Kids,maybe,
+            """;
+
+        final var records = read(CategoryImportFormat.CSV, body);
+
+        assertEquals(3, records.size());
+        assertEquals(List.of(2L, 3L, 4L), records.stream().map(ImportCategoryRecord::line).toList());
+        assertEquals(
+            CreateCategoryCommand.with("Filmes", "A categoria, a mais assistida", true, CategoryType.COMMON),
+            records.get(0).parsed().get());
+        assertEquals(
+            CreateCategoryCommand.with("Series", null, true, CategoryType.RESTRICT),
+            records.get(1).parsed().get());
+        assertEquals("'is_active' should be true or false", message(records.get(2)));
+    }
+
+    @Test
+    void givenAnUnterminatedQuote_whenReadsCsv_shouldReportItAndStop() {
+        final var body = """
+            name,type
+            Filmes,COMMON
+            "Series,COMMON
+            Kids,COMMON
+            """;
+
+        final var records = read(CategoryImportFormat.CSV, body);
+
+        assertEquals(2, records.size());
+        assertTrue(records.get(0).parsed().isRight());
+        assertEquals(2L, records.get(0).line());
+        assertTrue(message(records.get(1)).startsWith("malformed record: "));
+    }
+
+    private static List<ImportCategoryRecord> read(final CategoryImportFormat aFormat, final String aBody) {
+        final var records = new ArrayList<ImportCategoryRecord>();
+        aFormat.read(new ByteArrayInputStream(aBody.getBytes(StandardCharsets.UTF_8))).forEachRemaining(records::add);
+        return records;
+    }
+
+    private static String message(final ImportCategoryRecord aRecord) {
+        return aRecord.parsed().getLeft().firstError().get().message();
+    }
+
+}
@@ -28,6 +28,7 @@ public class CategoryResponseTest {
         final var expectedCreatedAt = Instant.now();
         final var expectedUpdatedAt = Instant.now();
         final var expectedDeletedAt = Instant.now();
+        final var expectedVersion = 3L;
 
         final var response = new CategoryResponse(
             expectedId,
@@ -37,7 +38,8 @@ public class CategoryResponseTest {
             expectedType,
             expectedCreatedAt,
             expectedUpdatedAt,
-            expectedDeletedAt
+            expectedDeletedAt,
+            expectedVersion
         );
 
         final var actualJson = this.json.write(response);
@@ -49,7 +51,8 @@ public class CategoryResponseTest {
             .hasJsonPathValue("$.type", expectedType)
             .hasJsonPathValue("$.created_at", expectedCreatedAt)
             .hasJsonPathValue("$.updated_at", expectedUpdatedAt)
-            .hasJsonPathValue("$.deleted_at", expectedDeletedAt);
+            .hasJsonPathValue("$.deleted_at", expectedDeletedAt)
+            .hasJsonPathValue("$.version", expectedVersion);
     }
 
 }
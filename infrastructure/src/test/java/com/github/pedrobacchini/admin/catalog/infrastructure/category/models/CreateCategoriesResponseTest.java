@@ -0,0 +1,38 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.models;
+
+import com.github.pedrobacchini.admin.catalog.JacksonTest;
+import com.github.pedrobacchini.admin.catalog.domain.validation.Error;
+import com.github.pedrobacchini.admin.catalog.domain.validation.handler.Notification;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.model.CreateCategoriesResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.json.JacksonTester;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+@JacksonTest
+public class CreateCategoriesResponseTest {
+
+    @Autowired
+    private JacksonTester<CreateCategoriesResponse> json;
+
+    @Test
+    void testMarshall() throws IOException {
+        final var expectedId = "123";
+        final var expectedMessageError = "'name' should not be null";
+
+        final var response = new CreateCategoriesResponse(
+            Map.of(0, new CreateCategoriesResponse.Created(expectedId)),
+            Map.of(1, Notification.create(new Error(expectedMessageError))));
+
+        final var actualJson = this.json.write(response);
+
+        assertThat(actualJson)
+            .hasJsonPathStringValue("$.created['0'].id", expectedId)
+            .hasJsonPathStringValue("$.errors['1'].errors[0].message", expectedMessageError);
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.persistence;
+
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CategoryIdConverterTest {
+
+    @Test
+    void givenAUuidId_whenConvertsBackAndForth_shouldKeepTheStringForm() {
+        final var expectedId = CategoryID.unique().getValue();
+
+        final var actualBytes = CategoryIdConverter.toBytes(expectedId);
+
+        assertEquals(16, actualBytes.length);
+        assertEquals(expectedId, CategoryIdConverter.fromBytes(actualBytes));
+    }
+
+    @Test
+    void givenTwoIds_whenConverts_shouldKeepTheStringOrder() {
+        final var aLower = "00000000-0000-0000-0000-0000000000ff";
+        final var aHigher = "00000000-0000-0000-0000-000000000100";
+
+        final var actualComparison = Arrays.compareUnsigned(
+            CategoryIdConverter.toBytes(aLower),
+            CategoryIdConverter.toBytes(aHigher));
+
+        assertTrue(actualComparison < 0);
+    }
+
+    @Test
+    void givenANonUuidId_whenConverts_shouldNotMatchAnyStoredId() {
+        final var actualBytes = CategoryIdConverter.toBytes("123");
+
+        assertEquals(16, actualBytes.length);
+        assertNotEquals("123", CategoryIdConverter.fromBytes(actualBytes));
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.reactive;
+
+import com.github.pedrobacchini.admin.catalog.application.category.update.UpdateCategoryCommand;
+import com.github.pedrobacchini.admin.catalog.application.category.update.UpdateRetryPolicy;
+import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
+import com.github.pedrobacchini.admin.catalog.domain.exception.NotFoundException;
+import com.github.pedrobacchini.admin.catalog.domain.exception.VersionConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveUpdateCategoryUseCaseTest {
+
+    private DefaultReactiveUpdateCategoryUseCase useCase;
+
+    @Mock
+    private ReactiveCategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categoryGateway);
+        useCase = new DefaultReactiveUpdateCategoryUseCase(
+            categoryGateway,
+            UpdateRetryPolicy.with(3, Duration.ZERO, Duration.ZERO));
+    }
+
+    @Test
+    void givenAValidCommand_whenCallsUpdateCategory_shouldReturnCategoryId() {
+        final var aCategory = Category.newCategory("Film", null, true, CategoryType.COMMON);
+        final var expectedId = aCategory.getId();
+        final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", "A categoria", true);
+
+        when(categoryGateway.findById(eq(expectedId))).thenReturn(Mono.just(aCategory.clone()));
+        when(categoryGateway.update(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        final var actualOutput = useCase.execute(aCommand).block().get();
+
+        assertEquals(expectedId.getValue(), actualOutput.id());
+        verify(categoryGateway, times(1)).update(any());
+    }
+
+    @Test
+    void givenAInvalidName_whenCallsUpdateCategory_shouldReturnNotificationWithoutWriting() {
+        final var aCategory = Category.newCategory("Film", null, true, CategoryType.COMMON);
+        final var expectedId = aCategory.getId();
+        final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), null, null, true);
+
+        when(categoryGateway.findById(eq(expectedId))).thenReturn(Mono.just(aCategory.clone()));
+
+        final var notification = useCase.execute(aCommand).block().getLeft();
+
+        assertEquals("'name' should not be null", notification.firstError().get().message());
+        verify(categoryGateway, never()).update(any());
+    }
+
+    @Test
+    void givenACommandWithInvalidId_whenCallsUpdateCategory_shouldReturnNotFoundException() {
+        final var aCommand = UpdateCategoryCommand.with("123", "Filmes", null, true);
+
+        when(categoryGateway.findById(eq(CategoryID.from("123")))).thenReturn(Mono.empty());
+
+        assertThrows(NotFoundException.class, () -> useCase.execute(aCommand).block());
+    }
+
+    @Test
+    void givenAValidCommand_whenGatewayFails_shouldReturnNotification() {
+        final var aCategory = Category.newCategory("Film", null, true, CategoryType.COMMON);
+        final var expectedId = aCategory.getId();
+        final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", null, true);
+
+        when(categoryGateway.findById(eq(expectedId))).thenReturn(Mono.just(aCategory.clone()));
+        when(categoryGateway.update(any())).thenReturn(Mono.error(new IllegalStateException("Gateway error")));
+
+        final var actualOutput = useCase.execute(aCommand).block();
+
+        assertTrue(actualOutput.isLeft());
+        assertEquals("Gateway error", actualOutput.getLeft().firstError().get().message());
+    }
+
+    @Test
+    void givenAConcurrentWriter_whenCallsUpdateCategoryWithoutVersion_shouldRetryAgainstTheFreshState() {
+        final var aCategory = Category.newCategory("Film", null, true, CategoryType.COMMON);
+        final var expectedId = aCategory.getId();
+        final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", null, true);
+
+        when(categoryGateway.findById(eq(expectedId)))
+            .thenAnswer(invocation -> Mono.just(aCategory.clone()));
+        when(categoryGateway.update(any()))
+            .thenReturn(Mono.error(VersionConflictException.with(Category.class, expectedId, 0)))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        final var actualOutput = useCase.execute(aCommand).block().get();
+
+        assertEquals(expectedId.getValue(), actualOutput.id());
+        verify(categoryGateway, times(2)).findById(eq(expectedId));
+        verify(categoryGateway, times(2)).update(any());
+    }
+
+    @Test
+    void givenAConcurrentWriter_whenRetriesAreExhausted_shouldSignalVersionConflict() {
+        final var aCategory = Category.newCategory("Film", null, true, CategoryType.COMMON);
+        final var expectedId = aCategory.getId();
+        final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", null, true);
+
+        when(categoryGateway.findById(eq(expectedId)))
+            .thenAnswer(invocation -> Mono.just(aCategory.clone()));
+        when(categoryGateway.update(any()))
+            .thenReturn(Mono.error(VersionConflictException.with(Category.class, expectedId, 0)));
+
+        assertThrows(VersionConflictException.class, () -> useCase.execute(aCommand).block());
+
+        verify(categoryGateway, times(3)).update(any());
+    }
+
+    @Test
+    void givenAStaleExpectedVersion_whenCallsUpdateCategory_shouldSignalVersionConflictWithoutWriting() {
+        final var aCategory = Category.newCategory("Film", null, true, CategoryType.COMMON);
+        final var expectedId = aCategory.getId();
+        final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", null, true, 7L);
+
+        when(categoryGateway.findById(eq(expectedId))).thenReturn(Mono.just(aCategory.clone()));
+
+        assertThrows(VersionConflictException.class, () -> useCase.execute(aCommand).block());
+
+        verify(categoryGateway, times(1)).findById(eq(expectedId));
+        verify(categoryGateway, never()).update(any());
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.suggest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CategoryNameTrieTest {
+
+    @Test
+    void givenNames_whenLookingUpAPrefix_shouldReturnShortestMatchesFirst() {
+        final var trie = new CategoryNameTrie(10);
+        trie.put("1", "Filmes de A\u00e7\u00e3o");
+        trie.put("2", "Filmes");
+        trie.put("3", "Series");
+
+        final var actualResult = trie.lookup("fil", 10);
+
+        assertEquals(List.of("2", "1"), ids(actualResult));
+    }
+
+    @Test
+    void givenANameWithManyWords_whenLookingUpAnyWordStart_shouldFindItIgnoringCaseAndAccents() {
+        final var trie = new CategoryNameTrie(10);
+        trie.put("1", "Filmes de A\u00e7\u00e3o");
+
+        assertEquals(List.of("1"), ids(trie.lookup("ACAO", 10)));
+        assertEquals(List.of("1"), ids(trie.lookup("  filmes   de ", 10)));
+        assertTrue(trie.lookup("mes", 10).isEmpty());
+    }
+
+    @Test
+    void givenMoreMatchesThanTopK_whenLookingUp_shouldKeepOnlyTheBestOnes() {
+        final var trie = new CategoryNameTrie(2);
+        trie.put("1", "Filmes Antigos");
+        trie.put("2", "Filmes");
+        trie.put("3", "Filmes Novos");
+
+        assertEquals(List.of("2", "3"), ids(trie.lookup("f", 10)));
+        assertEquals(List.of("2"), ids(trie.lookup("f", 1)));
+    }
+
+    @Test
+    void givenRenamedAndRemovedEntries_whenLookingUp_shouldReflectTheChanges() {
+        final var trie = new CategoryNameTrie(2);
+        trie.put("1", "Filmes");
+        trie.put("2", "Filmes Novos");
+        trie.put("3", "Filmes Antigos");
+
+        trie.put("1", "Series");
+        assertEquals(List.of("2", "3"), ids(trie.lookup("fil", 10)));
+        assertEquals(List.of("1"), ids(trie.lookup("ser", 10)));
+
+        trie.remove("2");
+        assertEquals(List.of("3"), ids(trie.lookup("fil", 10)));
+        assertEquals(2, trie.size());
+    }
+
+    private static List<String> ids(final List<CategoryNameTrie.Entry> entries) {
+        return entries.stream().map(CategoryNameTrie.Entry::id).toList();
+    }
+
+}
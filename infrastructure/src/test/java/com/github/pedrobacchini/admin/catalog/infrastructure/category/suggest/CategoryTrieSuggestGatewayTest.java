@@ -0,0 +1,61 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.category.suggest;
+
+import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySuggestion;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
+import com.github.pedrobacchini.admin.catalog.infrastructure.category.persistence.CategoryIdConverter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryTrieSuggestGatewayTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void givenADeleteDuringTheScan_whenLoading_shouldNotBringTheRowBack() throws Exception {
+        final var filmes = Category.newCategory("Filmes", null, true, CategoryType.COMMON);
+        final var series = Category.newCategory("Series", null, true, CategoryType.COMMON);
+        final var gateway = new CategoryTrieSuggestGateway(jdbcTemplate, 100, 10);
+        gateway.onSaved(filmes);
+
+        doAnswer(invocation -> {
+            final RowCallbackHandler handler = invocation.getArgument(1);
+            final var rs = mock(ResultSet.class);
+            when(rs.getBytes("id")).thenReturn(CategoryIdConverter.toBytes(filmes.getId().getValue()));
+            when(rs.getString("name")).thenReturn(filmes.getName());
+            gateway.onDeleted(filmes.getId());
+            gateway.onSaved(series);
+            handler.processRow(rs);
+            assertTrue(gateway.suggest("fil", 10).isEmpty());
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        gateway.load();
+
+        assertTrue(gateway.suggest("fil", 10).isEmpty());
+        assertEquals(List.of(series.getId()), ids(gateway.suggest("ser", 10)));
+    }
+
+    private static List<CategoryID> ids(final List<CategorySuggestion> suggestions) {
+        return suggestions.stream().map(CategorySuggestion::id).toList();
+    }
+
+}
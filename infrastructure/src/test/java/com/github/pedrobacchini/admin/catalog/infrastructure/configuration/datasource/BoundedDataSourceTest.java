@@ -0,0 +1,95 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.configuration.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BoundedDataSourceTest {
+
+    private BoundedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new BoundedDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:bounded;DB_CLOSE_DELAY=-1"),
+            2,
+            Duration.ofMillis(100));
+    }
+
+    @Test
+    void givenEveryPermitTaken_whenGetsAConnection_shouldTimeOut() throws SQLException {
+        try (var first = dataSource.getConnection(); var second = dataSource.getConnection()) {
+            assertEquals(0, dataSource.availablePermits());
+            assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        }
+        assertEquals(2, dataSource.availablePermits());
+    }
+
+    @Test
+    void givenAConnectionClosedTwice_whenReleasing_shouldGiveBackOnePermit() throws SQLException {
+        final var aConnection = dataSource.getConnection();
+
+        aConnection.close();
+        aConnection.close();
+
+        assertEquals(2, dataSource.availablePermits());
+    }
+
+    @Test
+    void givenAFailingTarget_whenGetsAConnection_shouldGiveThePermitBack() {
+        final var failing = new BoundedDataSource(
+            new DriverManagerDataSource("jdbc:unknown:nowhere"),
+            1,
+            Duration.ofMillis(100));
+
+        assertThrows(SQLException.class, failing::getConnection);
+        assertEquals(1, failing.availablePermits());
+    }
+
+    @Test
+    void givenWaitingThreads_whenAPermitIsReleased_shouldServeThemInArrivalOrder() throws Exception {
+        final var fair = new BoundedDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:bounded;DB_CLOSE_DELAY=-1"),
+            1,
+            Duration.ofSeconds(5));
+        final var served = new ConcurrentLinkedQueue<Integer>();
+        final var done = new CountDownLatch(3);
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var held = fair.getConnection();
+            for (var i = 0; i < 3; i++) {
+                final var waiter = i;
+                executor.submit(() -> {
+                    try (var aConnection = fair.getConnection()) {
+                        served.add(waiter);
+                    } finally {
+                        done.countDown();
+                    }
+                    return null;
+                });
+                // lets each waiter reach the queue before the next one starts
+                while (fair.queuedThreads() < waiter + 1) {
+                    Thread.onSpinWait();
+                }
+            }
+            held.close();
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(List.of(0, 1, 2), List.copyOf(served));
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.configuration.datasource;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Two in-memory H2 databases stand in for the primary and the replica; each one answers with its own name.
+ */
+public class ReplicaRoutingDataSourceTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readTransaction;
+    private ReadYourWritesFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        final var primary = standIn("primary");
+        final var replica = standIn("replica");
+        final var dataSource = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica));
+        final var transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+        filter = new ReadYourWritesFilter(Duration.ofSeconds(2), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        ReplicaRoutingDataSource.release();
+    }
+
+    @Test
+    void givenAReadOnlyTransaction_whenQueries_shouldHitTheReplica() {
+        assertEquals("replica", readTransaction.execute(status -> whoAmI()));
+    }
+
+    @Test
+    void givenAReadWriteTransaction_whenQueries_shouldHitThePrimary() {
+        assertEquals("primary", writeTransaction.execute(status -> whoAmI()));
+    }
+
+    @Test
+    void givenARecentWriteStamp_whenReads_shouldStayOnThePrimaryUntilTheRequestCompletes() throws Exception {
+        final var request = new MockHttpServletRequest("GET", "/categories/123");
+        request.addHeader(ReadYourWritesFilter.LAST_WRITE_HEADER, NOW.minusMillis(500).toEpochMilli());
+        final var routes = new ArrayList<String>();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) ->
+            routes.add(readTransaction.execute(status -> whoAmI())));
+
+        assertEquals(List.of("primary"), routes);
+        assertEquals("replica", readTransaction.execute(status -> whoAmI()));
+    }
+
+    @Test
+    void givenAWriteStampOlderThanTheLag_whenReads_shouldUseTheReplica() throws Exception {
+        final var request = new MockHttpServletRequest("GET", "/categories/123");
+        request.addHeader(ReadYourWritesFilter.LAST_WRITE_HEADER, NOW.minusSeconds(5).toEpochMilli());
+        final var routes = new ArrayList<String>();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) ->
+            routes.add(readTransaction.execute(status -> whoAmI())));
+
+        assertEquals(List.of("replica"), routes);
+    }
+
+    @Test
+    void givenASuccessfulMutatingRequest_whenCompleted_shouldStampTheResponseWithTheWriteTime() throws Exception {
+        final var response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("PUT", "/categories/123"), response, (req, res) -> {
+            ((HttpServletResponse) res).setStatus(200);
+            res.getWriter().write("{}");
+        });
+
+        assertEquals(String.valueOf(NOW.toEpochMilli()), response.getHeader(ReadYourWritesFilter.LAST_WRITE_HEADER));
+        assertEquals("{}", response.getContentAsString());
+    }
+
+    @Test
+    void givenAFailedMutatingRequest_whenCompleted_shouldNotStampTheResponse() throws Exception {
+        final var response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("PUT", "/categories/123"), response, (req, res) ->
+            ((HttpServletResponse) res).setStatus(412));
+
+        assertNull(response.getHeader(ReadYourWritesFilter.LAST_WRITE_HEADER));
+    }
+
+    private String whoAmI() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DriverManagerDataSource standIn(final String aName) {
+        final var dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + aName + ";DB_CLOSE_DELAY=-1");
+        final var jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(16))");
+        jdbcTemplate.execute("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", aName);
+        return dataSource;
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.configuration.hibernate;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.type.StandardBasicTypes;
+
+import static com.github.pedrobacchini.admin.catalog.infrastructure.configuration.hibernate.FullTextFunctionContributor.MATCH_BOOLEAN;
+import static com.github.pedrobacchini.admin.catalog.infrastructure.configuration.hibernate.FullTextFunctionContributor.MATCH_NATURAL;
+import static com.github.pedrobacchini.admin.catalog.infrastructure.configuration.hibernate.FullTextFunctionContributor.dialect;
+
+/**
+ * Stands in for {@code MATCH ... AGAINST} on H2, which has no equivalent: a substring match on {@code rawTerms} scoring
+ * 1 or 0. Only the integration tests run on H2; the relevance ranking itself is covered by the MySQL e2e tests.
+ */
+public class H2FullTextFunctionContributor implements FunctionContributor {
+
+    private static final String SUBSTRING_MATCH = "(case when upper(?1) like concat('%', upper(cast(?4 as varchar)), '%')"
+        + " or upper(?2) like concat('%', upper(cast(?4 as varchar)), '%') then 1.0 else 0.0 end)";
+
+    @Override
+    public void contributeFunctions(final FunctionContributions functionContributions) {
+        if (!(dialect(functionContributions) instanceof H2Dialect)) {
+            return;
+        }
+        final var registry = functionContributions.getFunctionRegistry();
+        final var doubleType = functionContributions.getTypeConfiguration()
+            .getBasicTypeRegistry()
+            .resolve(StandardBasicTypes.DOUBLE);
+
+        registry.registerPattern(MATCH_BOOLEAN, SUBSTRING_MATCH, doubleType);
+        registry.registerPattern(MATCH_NATURAL, SUBSTRING_MATCH, doubleType);
+    }
+
+}
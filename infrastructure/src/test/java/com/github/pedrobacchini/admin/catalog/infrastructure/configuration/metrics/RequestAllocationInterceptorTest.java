@@ -0,0 +1,42 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.configuration.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+public class RequestAllocationInterceptorTest {
+
+    @Test
+    public void givenAHandledRequest_whenCompletes_shouldRecordAllocatedBytesPerEndpoint() {
+        final var registry = new SimpleMeterRegistry();
+        final var interceptor = new RequestAllocationInterceptor(registry);
+        final var request = new MockHttpServletRequest("GET", "/categories");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/categories");
+        final var response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, new Object());
+        final var payload = new byte[64 * 1024];
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        final var summary = registry.find(RequestAllocationInterceptor.METRIC_NAME)
+            .tags("method", "GET", "uri", "/categories", "status", "200")
+            .summary();
+        Assertions.assertNotNull(summary);
+        Assertions.assertEquals(1, summary.count());
+        Assertions.assertTrue(summary.totalAmount() >= payload.length);
+    }
+
+    @Test
+    public void givenARequestNotStartedByTheInterceptor_whenCompletes_shouldRecordNothing() {
+        final var registry = new SimpleMeterRegistry();
+        final var interceptor = new RequestAllocationInterceptor(registry);
+
+        interceptor.afterCompletion(new MockHttpServletRequest(), new MockHttpServletResponse(), new Object(), null);
+
+        Assertions.assertNull(registry.find(RequestAllocationInterceptor.METRIC_NAME).summary());
+    }
+
+}
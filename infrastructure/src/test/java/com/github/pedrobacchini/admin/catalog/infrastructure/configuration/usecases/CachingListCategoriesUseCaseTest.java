@@ -0,0 +1,184 @@
+package com.github.pedrobacchini.admin.catalog.infrastructure.configuration.usecases;
+
+import com.github.pedrobacchini.admin.catalog.application.category.retrieve.list.CaregoryListOutput;
+import com.github.pedrobacchini.admin.catalog.application.category.retrieve.list.ListCategoriesUseCase;
+import com.github.pedrobacchini.admin.catalog.domain.category.Category;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryFilter;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryID;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategorySearchQuery;
+import com.github.pedrobacchini.admin.catalog.domain.category.CategoryType;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.CountMode;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.Pagination;
+import com.github.pedrobacchini.admin.catalog.domain.pagination.SearchMode;
+import com.github.pedrobacchini.admin.catalog.infrastructure.configuration.datasource.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingListCategoriesUseCaseTest {
+
+    @Mock
+    private ListCategoriesUseCase listCategoriesUseCase;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CachingListCategoriesUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        final var beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        useCase = new CachingListCategoriesUseCase(
+            listCategoriesUseCase,
+            1_000,
+            Duration.ofMinutes(1),
+            beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingDataSource.release();
+    }
+
+    @Test
+    void givenEquivalentQueries_whenCallsListCategories_shouldReadThePageOnce() {
+        final var expectedPage = aPage("Filmes");
+
+        when(listCategoriesUseCase.execute(any())).thenReturn(expectedPage);
+
+        final var firstPage = useCase.execute(new CategorySearchQuery(0, 10, null, "name", "ASC"));
+        final var secondPage = useCase.execute(new CategorySearchQuery(0, 10, " ", "name", "asc", ""));
+
+        assertSame(expectedPage, firstPage);
+        assertSame(expectedPage, secondPage);
+        verify(listCategoriesUseCase, times(1)).execute(new CategorySearchQuery(0, 10, "", "name", "asc"));
+        assertEquals(1, gets("hit"));
+        assertEquals(1, gets("miss"));
+    }
+
+    @Test
+    void givenACachedPage_whenACategoryIsSavedOrDeleted_shouldReadItAgain() {
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+        final var aCategory = Category.newCategory("Filmes", null, true, CategoryType.COMMON);
+
+        when(listCategoriesUseCase.execute(aQuery)).thenReturn(aPage("Filmes"));
+
+        useCase.execute(aQuery);
+        useCase.onSaved(aCategory);
+        useCase.execute(aQuery);
+        useCase.onDeleted(aCategory.getId());
+        useCase.execute(aQuery);
+
+        verify(listCategoriesUseCase, times(3)).execute(aQuery);
+        assertEquals(3, gets("miss"));
+    }
+
+    @Test
+    void givenAWriteCommittedDuringARead_whenCallsListCategoriesAgain_shouldNotServeThePageReadBeforeIt() {
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+        final var stalePage = aPage("Film");
+        final var freshPage = aPage("Filmes");
+
+        when(listCategoriesUseCase.execute(aQuery))
+            .thenAnswer(invocation -> {
+                useCase.onDeleted(CategoryID.from("123"));
+                return stalePage;
+            })
+            .thenReturn(freshPage);
+
+        assertSame(stalePage, useCase.execute(aQuery));
+        assertSame(freshPage, useCase.execute(aQuery));
+        assertSame(freshPage, useCase.execute(aQuery));
+
+        verify(listCategoriesUseCase, times(2)).execute(aQuery);
+    }
+
+    @Test
+    void givenDifferentQueryShapes_whenCallsListCategories_shouldCountThemApart() {
+        final var aFilter = new CategoryFilter(CategoryType.COMMON, true, null, null, null, null);
+        final var aFilteredQuery =
+            new CategorySearchQuery(0, 10, "fil", "", "desc", null, CountMode.NONE, SearchMode.LIKE, false, aFilter);
+
+        when(listCategoriesUseCase.execute(any())).thenReturn(aPage("Filmes"));
+
+        useCase.execute(aFilteredQuery);
+        useCase.execute(aFilteredQuery);
+        useCase.execute(new CategorySearchQuery(0, 10, "", "name", "asc"));
+
+        assertEquals(1, meterRegistry.get(CachingListCategoriesUseCase.METRIC_NAME)
+            .tag("result", "hit")
+            .tag("sort", "default")
+            .tag("search", "like")
+            .tag("filter", "type,active")
+            .tag("count", "none")
+            .counter().count());
+        assertEquals(1, meterRegistry.get(CachingListCategoriesUseCase.METRIC_NAME)
+            .tag("result", "miss")
+            .tag("sort", "name")
+            .tag("filter", "none")
+            .counter().count());
+    }
+
+    @Test
+    void givenAnUncachedPage_whenCallsListCategories_shouldReadItFromThePrimary() {
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+
+        when(listCategoriesUseCase.execute(aQuery)).thenAnswer(invocation -> {
+            assertTrue(ReplicaRoutingDataSource.isPrimaryForced());
+            return aPage("Filmes");
+        });
+
+        useCase.execute(aQuery);
+
+        assertFalse(ReplicaRoutingDataSource.isPrimaryForced());
+    }
+
+    @Test
+    void givenAPrimaryPinnedRequest_whenCallsListCategories_shouldNeitherReadNorFillTheCache() {
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+        final var expectedPage = aPage("Filmes");
+
+        when(listCategoriesUseCase.execute(aQuery)).thenReturn(expectedPage);
+        useCase.execute(aQuery);
+
+        ReplicaRoutingDataSource.forcePrimary();
+        assertSame(expectedPage, useCase.execute(aQuery));
+        assertSame(expectedPage, useCase.execute(aQuery));
+        ReplicaRoutingDataSource.release();
+
+        verify(listCategoriesUseCase, times(3)).execute(aQuery);
+        assertEquals(0, gets("hit"));
+    }
+
+    private double gets(final String aResult) {
+        return meterRegistry.get(CachingListCategoriesUseCase.METRIC_NAME).tag("result", aResult).counters().stream()
+            .mapToDouble(counter -> counter.count())
+            .sum();
+    }
+
+    private static Pagination<CaregoryListOutput> aPage(final String aName) {
+        final var aCategory = Category.newCategory(aName, null, true, CategoryType.COMMON);
+        return new Pagination<>(0, 10, 1, List.of(CaregoryListOutput.from(aCategory)));
+    }
+
+}